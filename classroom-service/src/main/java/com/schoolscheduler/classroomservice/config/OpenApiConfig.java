@@ -0,0 +1,18 @@
+package com.schoolscheduler.classroomservice.config;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Info;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OpenApiConfig {
+
+    @Bean
+    public OpenAPI classroomServiceOpenAPI() {
+        return new OpenAPI().info(new Info()
+                .title("Classroom Service API")
+                .description("Manage classrooms and their capacity")
+                .version("v1.0.0"));
+    }
+}
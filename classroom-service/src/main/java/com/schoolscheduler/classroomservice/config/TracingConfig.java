@@ -0,0 +1,42 @@
+package com.schoolscheduler.classroomservice.config;
+
+import brave.TracingCustomizer;
+import brave.handler.SpanHandler;
+import brave.sampler.RateLimitingSampler;
+import brave.sampler.Sampler;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import zipkin2.Span;
+import zipkin2.reporter.Reporter;
+
+/**
+ * Exports at most {@code scheduler.tracing.traces-per-second} traces instead of every request.
+ * Requests left out by the rate limit are still recorded locally, without being exported, so
+ * that {@link TailSamplingSpanHandler} can keep the slow and failed ones. Latency of every
+ * endpoint is covered by the {@code http.server.requests} histograms rather than by spans.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    public Sampler rateLimitedSampler(@Value("${scheduler.tracing.traces-per-second:10}") int tracesPerSecond) {
+        return RateLimitingSampler.create(Math.max(0, tracesPerSecond));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "scheduler.tracing.keep-slow-requests", havingValue = "true", matchIfMissing = true)
+    public TracingCustomizer alwaysSampleLocal() {
+        return builder -> builder.alwaysSampleLocal();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "scheduler.tracing.keep-slow-requests", havingValue = "true", matchIfMissing = true)
+    public SpanHandler tailSamplingSpanHandler(ObjectProvider<Reporter<Span>> spanReporter,
+                                               @Value("${scheduler.tracing.slow-threshold:PT1S}") Duration slowThreshold) {
+        return new TailSamplingSpanHandler(spanReporter, slowThreshold);
+    }
+}
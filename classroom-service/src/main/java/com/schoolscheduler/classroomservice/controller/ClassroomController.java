@@ -0,0 +1,60 @@
+package com.schoolscheduler.classroomservice.controller;
+
+import com.schoolscheduler.classroomservice.dto.ChangeFeedDto;
+import com.schoolscheduler.classroomservice.dto.ClassroomDto;
+import com.schoolscheduler.classroomservice.service.ClassroomService;
+import jakarta.validation.Valid;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/classrooms")
+public class ClassroomController {
+
+    private final ClassroomService classroomService;
+
+    public ClassroomController(ClassroomService classroomService) {
+        this.classroomService = classroomService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ClassroomDto>> findAll() {
+        return ResponseEntity.ok(classroomService.findAll());
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<ChangeFeedDto<ClassroomDto>> changes(@RequestParam(defaultValue = "0") long since) {
+        return ResponseEntity.ok(classroomService.changes(since));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ClassroomDto> findById(@PathVariable Long id) {
+        return ResponseEntity.ok(classroomService.findById(id));
+    }
+
+    @PostMapping
+    public ResponseEntity<ClassroomDto> create(@Valid @RequestBody ClassroomDto dto) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(classroomService.create(dto));
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<ClassroomDto> update(@PathVariable Long id, @Valid @RequestBody ClassroomDto dto) {
+        return ResponseEntity.ok(classroomService.update(id, dto));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable Long id) {
+        classroomService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+}
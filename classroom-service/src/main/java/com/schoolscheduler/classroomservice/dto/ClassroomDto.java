@@ -0,0 +1,13 @@
+package com.schoolscheduler.classroomservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+
+public record ClassroomDto(
+        Long id,
+        @NotBlank String name,
+        @NotBlank @JsonAlias("levelId") String level,
+        @Min(1) Integer capacity
+) {
+}
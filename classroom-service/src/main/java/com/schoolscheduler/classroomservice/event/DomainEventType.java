@@ -0,0 +1,7 @@
+package com.schoolscheduler.classroomservice.event;
+
+public enum DomainEventType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
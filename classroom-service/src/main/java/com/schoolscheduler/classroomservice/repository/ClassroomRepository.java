@@ -0,0 +1,9 @@
+package com.schoolscheduler.classroomservice.repository;
+
+import com.schoolscheduler.classroomservice.entity.Classroom;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ClassroomRepository extends JpaRepository<Classroom, Long> {
+}
@@ -0,0 +1,24 @@
+package com.schoolscheduler.classroomservice.repository;
+
+import com.schoolscheduler.classroomservice.entity.OutboxEvent;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Only one relay may publish at a time, or two instances would interleave their batches. The lock
+    // goes with the relay's transaction; an instance that does not get it skips the round.
+    @Query(value = "select pg_try_advisory_xact_lock(hashtext('classroom_outbox'))", nativeQuery = true)
+    boolean tryLockRelay();
+
+    List<OutboxEvent> findByPublishedAtIsNullOrderByIdAsc(Limit limit);
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") Instant cutoff);
+}
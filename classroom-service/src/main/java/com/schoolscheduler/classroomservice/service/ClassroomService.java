@@ -0,0 +1,19 @@
+package com.schoolscheduler.classroomservice.service;
+
+import com.schoolscheduler.classroomservice.dto.ChangeFeedDto;
+import com.schoolscheduler.classroomservice.dto.ClassroomDto;
+import java.util.List;
+
+public interface ClassroomService {
+    List<ClassroomDto> findAll();
+
+    ClassroomDto findById(Long id);
+
+    ClassroomDto create(ClassroomDto dto);
+
+    ClassroomDto update(Long id, ClassroomDto dto);
+
+    void delete(Long id);
+
+    ChangeFeedDto<ClassroomDto> changes(long since);
+}
@@ -0,0 +1,110 @@
+package com.schoolscheduler.classroomservice.service;
+
+import com.schoolscheduler.classroomservice.dto.ChangeFeedDto;
+import com.schoolscheduler.classroomservice.dto.ClassroomDto;
+import com.schoolscheduler.classroomservice.entity.Classroom;
+import com.schoolscheduler.classroomservice.entity.ClassroomChange;
+import com.schoolscheduler.classroomservice.event.DomainEventRecorder;
+import com.schoolscheduler.classroomservice.event.DomainEventType;
+import com.schoolscheduler.classroomservice.repository.ClassroomChangeRepository;
+import com.schoolscheduler.classroomservice.repository.ClassroomRepository;
+import jakarta.persistence.EntityNotFoundException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class ClassroomServiceImpl implements ClassroomService {
+
+    private static final int CHANGE_PAGE_SIZE = 500;
+
+    private final ClassroomRepository classroomRepository;
+    private final ClassroomChangeRepository changeRepository;
+    private final DomainEventRecorder eventRecorder;
+
+    public ClassroomServiceImpl(ClassroomRepository classroomRepository, ClassroomChangeRepository changeRepository,
+                                DomainEventRecorder eventRecorder) {
+        this.classroomRepository = classroomRepository;
+        this.changeRepository = changeRepository;
+        this.eventRecorder = eventRecorder;
+    }
+
+    @Override
+    public List<ClassroomDto> findAll() {
+        return classroomRepository.findAll().stream().map(this::toDto).toList();
+    }
+
+    @Override
+    public ClassroomDto findById(Long id) {
+        return classroomRepository.findById(id).map(this::toDto)
+                .orElseThrow(() -> new EntityNotFoundException("Classroom not found"));
+    }
+
+    @Override
+    @Transactional
+    public ClassroomDto create(ClassroomDto dto) {
+        Classroom classroom = toEntity(dto);
+        classroom.setId(null);
+        Classroom saved = classroomRepository.save(classroom);
+        changeRepository.append(ClassroomChange.of(saved.getId(), false));
+        ClassroomDto result = toDto(saved);
+        eventRecorder.record(DomainEventType.CREATED, saved.getId(), result);
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public ClassroomDto update(Long id, ClassroomDto dto) {
+        Classroom classroom = classroomRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Classroom not found"));
+        classroom.setName(dto.name());
+        classroom.setLevel(dto.level());
+        classroom.setCapacity(dto.capacity());
+        Classroom saved = classroomRepository.save(classroom);
+        changeRepository.append(ClassroomChange.of(saved.getId(), false));
+        ClassroomDto result = toDto(saved);
+        eventRecorder.record(DomainEventType.UPDATED, saved.getId(), result);
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public void delete(Long id) {
+        classroomRepository.deleteById(id);
+        changeRepository.append(ClassroomChange.of(id, true));
+        eventRecorder.record(DomainEventType.DELETED, id, null);
+    }
+
+    @Override
+    public ChangeFeedDto<ClassroomDto> changes(long since) {
+        List<ClassroomChange> changes = changeRepository.findTop500ByVersionGreaterThanOrderByVersionAsc(since);
+        if (changes.isEmpty()) {
+            return new ChangeFeedDto<>(since, false, List.of(), List.of());
+        }
+        Map<Long, Boolean> latest = new LinkedHashMap<>();
+        changes.forEach(change -> {
+            latest.remove(change.getClassroomId());
+            latest.put(change.getClassroomId(), change.isDeleted());
+        });
+        List<Long> deletedIds = latest.entrySet().stream().filter(Map.Entry::getValue).map(Map.Entry::getKey).toList();
+        List<Long> upsertIds = latest.entrySet().stream().filter(entry -> !entry.getValue()).map(Map.Entry::getKey).toList();
+        List<ClassroomDto> upserts = classroomRepository.findAllById(upsertIds).stream().map(this::toDto).toList();
+        long version = changes.get(changes.size() - 1).getVersion();
+        return new ChangeFeedDto<>(version, changes.size() == CHANGE_PAGE_SIZE, upserts, deletedIds);
+    }
+
+    private ClassroomDto toDto(Classroom classroom) {
+        return new ClassroomDto(classroom.getId(), classroom.getName(), classroom.getLevel(), classroom.getCapacity());
+    }
+
+    private Classroom toEntity(ClassroomDto dto) {
+        Classroom classroom = new Classroom();
+        classroom.setId(dto.id());
+        classroom.setName(dto.name());
+        classroom.setLevel(dto.level());
+        classroom.setCapacity(dto.capacity());
+        return classroom;
+    }
+}
@@ -0,0 +1,66 @@
+package com.schoolscheduler.configservice.config;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import zipkin2.Endpoint;
+import zipkin2.Span;
+import zipkin2.reporter.Reporter;
+
+/**
+ * Reports the root span of a request that was not sampled up front when it turned out slow or
+ * failed. Sampled spans are left to the regular Zipkin handler, and child spans of unsampled
+ * requests are dropped, so a kept request shows up as its entry span only.
+ */
+final class TailSamplingSpanHandler extends SpanHandler {
+
+    private final ObjectProvider<Reporter<Span>> spanReporter;
+    private final long slowThresholdMicros;
+
+    TailSamplingSpanHandler(ObjectProvider<Reporter<Span>> spanReporter, Duration slowThreshold) {
+        this.spanReporter = spanReporter;
+        this.slowThresholdMicros = slowThreshold.toNanos() / 1_000;
+    }
+
+    @Override
+    public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+        if (cause != Cause.FINISHED || Boolean.TRUE.equals(context.sampled()) || !context.isLocalRoot()) {
+            return true;
+        }
+        long duration = span.finishTimestamp() - span.startTimestamp();
+        if (duration >= slowThresholdMicros || failed(span)) {
+            Reporter<Span> reporter = spanReporter.getIfAvailable();
+            if (reporter != null) {
+                reporter.report(toZipkin(span, duration));
+            }
+        }
+        return true;
+    }
+
+    private static boolean failed(MutableSpan span) {
+        return span.error() != null || span.tag("error") != null || "SERVER_ERROR".equals(span.tag("outcome"));
+    }
+
+    private static Span toZipkin(MutableSpan span, long duration) {
+        Span.Builder builder = Span.newBuilder()
+                .traceId(span.traceId())
+                .id(span.id())
+                .parentId(span.parentId())
+                .name(span.name())
+                .timestamp(span.startTimestamp())
+                .duration(Math.max(1, duration))
+                .localEndpoint(Endpoint.newBuilder().serviceName(span.localServiceName()).build());
+        if (span.kind() != null) {
+            builder.kind(Span.Kind.valueOf(span.kind().name()));
+        }
+        for (int index = 0; index < span.tagCount(); index++) {
+            builder.putTag(span.tagKeyAt(index), span.tagValueAt(index));
+        }
+        if (span.error() != null && span.tag("error") == null) {
+            builder.putTag("error", span.error().getClass().getSimpleName());
+        }
+        return builder.build();
+    }
+}
@@ -1,24 +1,32 @@
 package com.schoolscheduler.configservice.controller;
 
+import com.schoolscheduler.configservice.dto.ChangeFeedDto;
 import com.schoolscheduler.configservice.dto.ConfigDto;
+import com.schoolscheduler.configservice.dto.ConfigSnapshotDto;
 import com.schoolscheduler.configservice.service.ConfigService;
+import com.schoolscheduler.configservice.service.ConfigWatchRegistry;
 import jakarta.validation.Valid;
+import java.time.Duration;
 import java.util.List;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
 @RestController
 @RequestMapping("/api/config")
 public class ConfigController {
 
     private final ConfigService configService;
+    private final ConfigWatchRegistry watchRegistry;
 
-    public ConfigController(ConfigService configService) {
+    public ConfigController(ConfigService configService, ConfigWatchRegistry watchRegistry) {
         this.configService = configService;
+        this.watchRegistry = watchRegistry;
     }
 
     @GetMapping
@@ -26,6 +34,18 @@ public class ConfigController {
         return ResponseEntity.ok(configService.findAll());
     }
 
+    @GetMapping("/changes")
+    public ResponseEntity<ChangeFeedDto<ConfigDto>> changes(@RequestParam(defaultValue = "0") long since) {
+        return ResponseEntity.ok(configService.changes(since));
+    }
+
+    // Long poll: answers with the full snapshot once it is newer than version, or 304 after timeout.
+    @GetMapping("/watch")
+    public DeferredResult<ResponseEntity<ConfigSnapshotDto>> watch(@RequestParam(defaultValue = "-1") long version,
+                                                                   @RequestParam(defaultValue = "PT30S") Duration timeout) {
+        return watchRegistry.watch(version, timeout);
+    }
+
     @PutMapping
     public ResponseEntity<List<ConfigDto>> update(@Valid @RequestBody List<ConfigDto> entries) {
         return ResponseEntity.ok(configService.saveAll(entries));
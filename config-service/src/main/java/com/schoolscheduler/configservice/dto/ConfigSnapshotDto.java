@@ -0,0 +1,6 @@
+package com.schoolscheduler.configservice.dto;
+
+import java.util.List;
+
+public record ConfigSnapshotDto(long version, List<ConfigDto> entries) {
+}
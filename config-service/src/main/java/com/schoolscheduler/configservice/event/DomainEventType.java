@@ -0,0 +1,7 @@
+package com.schoolscheduler.configservice.event;
+
+public enum DomainEventType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -1,5 +1,6 @@
 package com.schoolscheduler.configservice.service;
 
+import com.schoolscheduler.configservice.dto.ChangeFeedDto;
 import com.schoolscheduler.configservice.dto.ConfigDto;
 import java.util.List;
 
@@ -7,4 +8,6 @@ public interface ConfigService {
     List<ConfigDto> findAll();
 
     List<ConfigDto> saveAll(List<ConfigDto> entries);
+
+    ChangeFeedDto<ConfigDto> changes(long since);
 }
@@ -1,18 +1,35 @@
 package com.schoolscheduler.configservice.service;
 
+import com.schoolscheduler.configservice.dto.ChangeFeedDto;
 import com.schoolscheduler.configservice.dto.ConfigDto;
+import com.schoolscheduler.configservice.entity.ConfigChange;
 import com.schoolscheduler.configservice.entity.ConfigProperty;
+import com.schoolscheduler.configservice.event.DomainEventRecorder;
+import com.schoolscheduler.configservice.event.DomainEventType;
+import com.schoolscheduler.configservice.repository.ConfigChangeRepository;
 import com.schoolscheduler.configservice.repository.ConfigRepository;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class ConfigServiceImpl implements ConfigService {
 
+    private static final int CHANGE_PAGE_SIZE = 500;
+
     private final ConfigRepository configRepository;
+    private final ConfigChangeRepository changeRepository;
+    private final DomainEventRecorder eventRecorder;
+    private final ConfigWatchRegistry watchRegistry;
 
-    public ConfigServiceImpl(ConfigRepository configRepository) {
+    public ConfigServiceImpl(ConfigRepository configRepository, ConfigChangeRepository changeRepository,
+                             DomainEventRecorder eventRecorder, ConfigWatchRegistry watchRegistry) {
         this.configRepository = configRepository;
+        this.changeRepository = changeRepository;
+        this.eventRecorder = eventRecorder;
+        this.watchRegistry = watchRegistry;
     }
 
     @Override
@@ -21,9 +38,28 @@ public class ConfigServiceImpl implements ConfigService {
     }
 
     @Override
+    @Transactional
     public List<ConfigDto> saveAll(List<ConfigDto> entries) {
         List<ConfigProperty> properties = entries.stream().map(this::toEntity).toList();
-        return configRepository.saveAll(properties).stream().map(this::toDto).toList();
+        List<ConfigProperty> saved = configRepository.saveAll(properties);
+        changeRepository.appendAll(saved.stream().map(property -> ConfigChange.of(property.getId(), false)).toList());
+        List<ConfigDto> result = saved.stream().map(this::toDto).toList();
+        result.forEach(dto -> eventRecorder.record(DomainEventType.UPDATED, dto.id(), dto));
+        watchRegistry.refreshAfterCommit();
+        return result;
+    }
+
+    @Override
+    public ChangeFeedDto<ConfigDto> changes(long since) {
+        List<ConfigChange> changes = changeRepository.findTop500ByVersionGreaterThanOrderByVersionAsc(since);
+        if (changes.isEmpty()) {
+            return new ChangeFeedDto<>(since, false, List.of(), List.of());
+        }
+        Set<Long> changedIds = new LinkedHashSet<>();
+        changes.forEach(change -> changedIds.add(change.getConfigId()));
+        List<ConfigDto> upserts = configRepository.findAllById(changedIds).stream().map(this::toDto).toList();
+        long version = changes.get(changes.size() - 1).getVersion();
+        return new ChangeFeedDto<>(version, changes.size() == CHANGE_PAGE_SIZE, upserts, List.of());
     }
 
     private ConfigDto toDto(ConfigProperty property) {
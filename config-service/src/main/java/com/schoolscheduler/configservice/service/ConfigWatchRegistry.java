@@ -0,0 +1,100 @@
+package com.schoolscheduler.configservice.service;
+
+import com.schoolscheduler.configservice.dto.ConfigDto;
+import com.schoolscheduler.configservice.dto.ConfigSnapshotDto;
+import com.schoolscheduler.configservice.repository.ConfigChangeRepository;
+import com.schoolscheduler.configservice.repository.ConfigRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.async.DeferredResult;
+
+/**
+ * Long-poll side of the config change stream. The config version is the number of rows in the
+ * change log: unlike the log's identity values it also grows when transactions commit out of
+ * order. A watcher asking for a version older than the current one gets the full snapshot at
+ * once; otherwise its request is parked until a commit on this node or the periodic version
+ * check (which sees writes made through other nodes) produces a newer snapshot, or it times out
+ * with 304.
+ */
+@Component
+public class ConfigWatchRegistry {
+
+    private static final Duration MIN_TIMEOUT = Duration.ofSeconds(1);
+    private static final Duration MAX_TIMEOUT = Duration.ofSeconds(60);
+
+    private record Watch(long version, DeferredResult<ResponseEntity<ConfigSnapshotDto>> result) {
+    }
+
+    private final ConfigRepository configRepository;
+    private final ConfigChangeRepository changeRepository;
+    private final Queue<Watch> watches = new ConcurrentLinkedQueue<>();
+    private volatile ConfigSnapshotDto current;
+
+    public ConfigWatchRegistry(ConfigRepository configRepository, ConfigChangeRepository changeRepository) {
+        this.configRepository = configRepository;
+        this.changeRepository = changeRepository;
+    }
+
+    public DeferredResult<ResponseEntity<ConfigSnapshotDto>> watch(long version, Duration timeout) {
+        Duration wait = timeout.compareTo(MIN_TIMEOUT) < 0 ? MIN_TIMEOUT
+                : timeout.compareTo(MAX_TIMEOUT) > 0 ? MAX_TIMEOUT : timeout;
+        DeferredResult<ResponseEntity<ConfigSnapshotDto>> result = new DeferredResult<>(wait.toMillis(),
+                ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+        ConfigSnapshotDto snapshot = current != null ? current : refresh();
+        if (snapshot.version() > version) {
+            result.setResult(ResponseEntity.ok(snapshot));
+            return result;
+        }
+        Watch watch = new Watch(version, result);
+        watches.add(watch);
+        result.onCompletion(() -> watches.remove(watch));
+        // A refresh may have run between the check above and the registration.
+        ConfigSnapshotDto latest = current;
+        if (latest.version() > version) {
+            result.setResult(ResponseEntity.ok(latest));
+        }
+        return result;
+    }
+
+    public void refreshAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refresh();
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.config.watch-interval:PT1S}")
+    public synchronized ConfigSnapshotDto refresh() {
+        // The version is read before the entries, so a snapshot is never older than its version.
+        long version = changeRepository.count();
+        ConfigSnapshotDto snapshot = current;
+        if (snapshot != null && snapshot.version() >= version) {
+            return snapshot;
+        }
+        List<ConfigDto> entries = configRepository.findAll().stream()
+                .map(property -> new ConfigDto(property.getId(), property.getKey(), property.getValue()))
+                .toList();
+        ConfigSnapshotDto latest = new ConfigSnapshotDto(version, entries);
+        current = latest;
+        watches.forEach(watch -> {
+            if (latest.version() > watch.version()) {
+                watch.result().setResult(ResponseEntity.ok(latest));
+            }
+        });
+        return latest;
+    }
+}
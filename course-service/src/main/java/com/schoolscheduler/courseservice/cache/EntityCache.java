@@ -0,0 +1,127 @@
+package com.schoolscheduler.courseservice.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Read-through cache of one kind of entity by id, in front of the repository. A hit is a single
+ * map lookup; a miss goes to the loader, and what it returns is kept for the configured TTL. Entries
+ * are dropped when a local write commits and when the change log shows a write from another
+ * instance. A load that overlaps any eviction is returned but not stored, so a value read before a
+ * write commits cannot be cached after it. Past {@code maxEntries} the expired entries go first and
+ * then the oldest ones, down to nine tenths of the bound.
+ */
+public final class EntityCache<V> {
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    private final Map<Long, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evicted;
+
+    public EntityCache(String name, int maxEntries, Duration ttl, MeterRegistry meterRegistry) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.ttlNanos = ttl.toNanos();
+        this.hits = Counter.builder("cache.gets").tag("cache", name).tag("result", "hit")
+                .description("Lookups answered from the cache").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", name).tag("result", "miss")
+                .description("Lookups that went to the database").register(meterRegistry);
+        this.evicted = Counter.builder("cache.evictions").tag("cache", name)
+                .description("Entries dropped for size or age").register(meterRegistry);
+        Gauge.builder("cache.size", entries, Map::size).tag("cache", name).register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached value for {@code id}, or loads it. Exceptions from the loader, such as a
+     * missing entity, reach the caller and leave nothing behind.
+     */
+    public V get(Long id, Function<Long, V> loader) {
+        long now = System.nanoTime();
+        Entry<V> entry = entries.get(id);
+        if (entry != null && entry.expiresAt() - now > 0) {
+            hits.increment();
+            return entry.value();
+        }
+        misses.increment();
+        long epoch = invalidations.get();
+        V value = loader.apply(id);
+        if (value != null && invalidations.get() == epoch) {
+            Entry<V> loaded = new Entry<>(value, System.nanoTime() + ttlNanos);
+            entries.put(id, loaded);
+            // An eviction between the check and the put may have missed this entry, so look again.
+            if (invalidations.get() != epoch) {
+                entries.remove(id, loaded);
+            } else if (entries.size() > maxEntries) {
+                trim();
+            }
+        }
+        return value;
+    }
+
+    public void evict(Long id) {
+        invalidations.incrementAndGet();
+        entries.remove(id);
+    }
+
+    public void evictAll() {
+        invalidations.incrementAndGet();
+        entries.clear();
+    }
+
+    /**
+     * Evicts {@code id} once the current transaction commits, so readers on other threads cannot
+     * reload the old row in between. Without a transaction the entry goes at once.
+     */
+    public void evictAfterCommit(Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(id);
+            }
+        });
+    }
+
+    private synchronized void trim() {
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+        long now = System.nanoTime();
+        entries.forEach((id, entry) -> {
+            if (entry.expiresAt() - now <= 0 && entries.remove(id, entry)) {
+                evicted.increment();
+            }
+        });
+        int excess = entries.size() - maxEntries * 9 / 10;
+        if (excess <= 0) {
+            return;
+        }
+        // Every entry lives for the same TTL, so the earliest expiry is the oldest load.
+        entries.entrySet().stream()
+                .sorted(Comparator.comparingLong(mapEntry -> mapEntry.getValue().expiresAt() - now))
+                .limit(excess)
+                .toList()
+                .forEach(mapEntry -> {
+                    if (entries.remove(mapEntry.getKey(), mapEntry.getValue())) {
+                        evicted.increment();
+                    }
+                });
+    }
+}
@@ -0,0 +1,20 @@
+package com.schoolscheduler.courseservice.config;
+
+import com.schoolscheduler.courseservice.cache.EntityCache;
+import com.schoolscheduler.courseservice.dto.CourseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public EntityCache<CourseDto> courseCache(MeterRegistry meterRegistry,
+                                               @Value("${scheduler.cache.max-entries:10000}") int maxEntries,
+                                               @Value("${scheduler.cache.ttl:PT10M}") Duration ttl) {
+        return new EntityCache<>("courses", maxEntries, ttl, meterRegistry);
+    }
+}
@@ -1,6 +1,9 @@
 package com.schoolscheduler.courseservice.controller;
 
+import com.schoolscheduler.courseservice.dto.ChangeFeedDto;
 import com.schoolscheduler.courseservice.dto.CourseDto;
+import com.schoolscheduler.courseservice.dto.CoursePatchDto;
+import com.schoolscheduler.courseservice.dto.SearchResultDto;
 import com.schoolscheduler.courseservice.service.CourseService;
 import com.schoolscheduler.courseservice.service.model.CourseScheduleSlot;
 import jakarta.validation.Valid;
@@ -9,11 +12,13 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -31,6 +36,18 @@ public class CourseController {
         return ResponseEntity.ok(courseService.findAll());
     }
 
+    @GetMapping("/changes")
+    public ResponseEntity<ChangeFeedDto<CourseDto>> changes(@RequestParam(defaultValue = "0") long since) {
+        return ResponseEntity.ok(courseService.changes(since));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<SearchResultDto> search(@RequestParam(defaultValue = "") String q,
+                                                  @RequestParam(defaultValue = "0") int page,
+                                                  @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(courseService.search(q, page, size));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<CourseDto> findById(@PathVariable Long id) {
         return ResponseEntity.ok(courseService.findById(id));
@@ -46,6 +63,12 @@ public class CourseController {
         return ResponseEntity.ok(courseService.update(id, dto));
     }
 
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patch(@PathVariable Long id, @Valid @RequestBody CoursePatchDto patch) {
+        long version = courseService.patch(id, patch);
+        return ResponseEntity.noContent().eTag("\"" + version + "\"").build();
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
         courseService.delete(id);
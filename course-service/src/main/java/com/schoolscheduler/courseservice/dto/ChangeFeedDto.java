@@ -0,0 +1,6 @@
+package com.schoolscheduler.courseservice.dto;
+
+import java.util.List;
+
+public record ChangeFeedDto<T>(long version, boolean hasMore, List<T> upserts, List<Long> deletedIds) {
+}
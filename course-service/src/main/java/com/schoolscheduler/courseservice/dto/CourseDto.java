@@ -9,6 +9,7 @@ public record CourseDto(
         @NotBlank String name,
         @NotBlank String level,
         Long headTeacherId,
-        @NotNull @Min(0) Integer studentCount
+        @NotNull @Min(0) Integer studentCount,
+        Long version
 ) {
 }
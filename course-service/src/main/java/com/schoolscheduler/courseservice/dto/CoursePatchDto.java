@@ -0,0 +1,18 @@
+package com.schoolscheduler.courseservice.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+/**
+ * Partial update of a course. Null fields are left unchanged; {@code version} must match the
+ * stored version or the update is rejected.
+ */
+public record CoursePatchDto(
+        @NotNull(message = "Version is required") Long version,
+        @Pattern(regexp = ".*\\S.*", message = "Name must not be blank") String name,
+        @Pattern(regexp = ".*\\S.*", message = "Level must not be blank") String level,
+        Long headTeacherId,
+        @Min(0) Integer studentCount
+) {
+}
@@ -0,0 +1,8 @@
+package com.schoolscheduler.courseservice.event;
+
+public enum DomainEventType {
+    CREATED,
+    UPDATED,
+    PATCHED,
+    DELETED
+}
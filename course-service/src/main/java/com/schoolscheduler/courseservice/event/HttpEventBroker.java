@@ -0,0 +1,37 @@
+package com.schoolscheduler.courseservice.event;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+@Component
+@ConditionalOnProperty(name = "scheduler.events.broker", havingValue = "http", matchIfMissing = true)
+public class HttpEventBroker implements EventBroker {
+
+    private final RestClient restClient;
+
+    public HttpEventBroker(RestClient.Builder restClientBuilder,
+                           @Value("${scheduler.events.url:http://event-service}") String eventServiceUrl,
+                           @Value("${scheduler.events.timeout:PT5S}") Duration timeout) {
+        // The relay keeps its transaction open during the call, so it must not hang.
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeout);
+        requestFactory.setReadTimeout(timeout);
+        this.restClient = restClientBuilder.clone().requestFactory(requestFactory).baseUrl(eventServiceUrl).build();
+    }
+
+    @Override
+    public void publish(List<DomainEvent> events) {
+        restClient.post()
+                .uri("/api/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(events)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
@@ -0,0 +1,91 @@
+package com.schoolscheduler.courseservice.event;
+
+import com.schoolscheduler.courseservice.entity.OutboxEvent;
+import com.schoolscheduler.courseservice.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Moves outbox rows to the broker in id order, from one instance at a time: each round holds an
+ * advisory lock for its transaction and instances that find it taken skip the round. A batch is only
+ * marked published after the broker accepted it, so when the relay stops or its commit fails in
+ * between, the batch is delivered again and consumers deduplicate on (source, id). The broker call
+ * stays inside the transaction to keep the lock; {@code scheduler.events.timeout} bounds it.
+ */
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxRepository;
+    private final EventBroker eventBroker;
+    private final ObjectMapper objectMapper;
+    private final String source;
+    private final int batchSize;
+    private final Duration retention;
+
+    public OutboxRelay(OutboxEventRepository outboxRepository,
+                       EventBroker eventBroker,
+                       ObjectMapper objectMapper,
+                       @Value("${spring.application.name}") String source,
+                       @Value("${scheduler.events.batch-size:100}") int batchSize,
+                       @Value("${scheduler.events.retention:P7D}") Duration retention) {
+        this.outboxRepository = outboxRepository;
+        this.eventBroker = eventBroker;
+        this.objectMapper = objectMapper;
+        this.source = source;
+        this.batchSize = batchSize;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.events.relay-interval:PT1S}")
+    @Transactional
+    public void relay() {
+        if (!outboxRepository.tryLockRelay()) {
+            return;
+        }
+        List<OutboxEvent> pending = outboxRepository.findByPublishedAtIsNullOrderByIdAsc(Limit.of(batchSize));
+        if (pending.isEmpty()) {
+            return;
+        }
+        eventBroker.publish(pending.stream().map(this::toEvent).toList());
+        Instant publishedAt = Instant.now();
+        pending.forEach(event -> event.setPublishedAt(publishedAt));
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.events.purge-interval:PT1H}")
+    @Transactional
+    public void purgePublished() {
+        outboxRepository.deletePublishedBefore(Instant.now().minus(retention));
+    }
+
+    private DomainEvent toEvent(OutboxEvent event) {
+        return new DomainEvent(
+                event.getId(),
+                source,
+                event.getAggregateType(),
+                event.getAggregateId(),
+                DomainEventType.valueOf(event.getEventType()),
+                readPayload(event.getPayload()),
+                event.getOccurredAt()
+        );
+    }
+
+    private JsonNode readPayload(String payload) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(payload);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Corrupt outbox payload", ex);
+        }
+    }
+}
@@ -2,8 +2,25 @@ package com.schoolscheduler.courseservice.repository;
 
 import com.schoolscheduler.courseservice.entity.Course;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Long> {
+
+    @Modifying
+    @Query("update Course c set c.name = coalesce(:name, c.name), "
+            + "c.level = coalesce(:level, c.level), "
+            + "c.headTeacherId = coalesce(:headTeacherId, c.headTeacherId), "
+            + "c.studentCount = coalesce(:studentCount, c.studentCount), "
+            + "c.version = c.version + 1 "
+            + "where c.id = :id and c.version = :version")
+    int patch(@Param("id") Long id,
+              @Param("version") Long version,
+              @Param("name") String name,
+              @Param("level") String level,
+              @Param("headTeacherId") Long headTeacherId,
+              @Param("studentCount") Integer studentCount);
 }
@@ -0,0 +1,93 @@
+package com.schoolscheduler.courseservice.search;
+
+import com.schoolscheduler.courseservice.cache.EntityCache;
+import com.schoolscheduler.courseservice.dto.CourseDto;
+import com.schoolscheduler.courseservice.entity.CourseChange;
+import com.schoolscheduler.courseservice.repository.CourseChangeRepository;
+import com.schoolscheduler.courseservice.repository.CourseRepository;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps the {@link NameIndex} of courses in step with the table. It is loaded in full on first use
+ * and then follows the course change log: right after each local write commits, and on a fixed
+ * delay to pick up writes made by other instances. Each change it reads also evicts the entity
+ * from the read-through cache.
+ */
+@Component
+public class CourseSearchIndex {
+
+    private static final int CHANGE_PAGE_SIZE = 500;
+
+    private final CourseRepository courseRepository;
+    private final CourseChangeRepository changeRepository;
+    private final EntityCache<CourseDto> cache;
+    private final NameIndex index = new NameIndex();
+    private volatile long version = -1;
+
+    public CourseSearchIndex(CourseRepository courseRepository, CourseChangeRepository changeRepository,
+                             EntityCache<CourseDto> cache) {
+        this.courseRepository = courseRepository;
+        this.changeRepository = changeRepository;
+        this.cache = cache;
+    }
+
+    public NameIndex.Page search(String query, int page, int size) {
+        if (version < 0) {
+            refresh();
+        }
+        return index.search(query, page, size);
+    }
+
+    public void refreshAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refresh();
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.search.refresh-interval:PT5S}")
+    public synchronized void refresh() {
+        if (version < 0) {
+            // Read the log position first so writes racing with the full load are replayed afterwards.
+            long latest = changeRepository.findTopByOrderByVersionDesc().map(CourseChange::getVersion).orElse(0L);
+            Map<Long, String> names = new HashMap<>();
+            courseRepository.findAll().forEach(course -> names.put(course.getId(), course.getName()));
+            index.replaceAll(names);
+            cache.evictAll();
+            version = latest;
+        }
+        List<CourseChange> changes;
+        do {
+            changes = changeRepository.findTop500ByVersionGreaterThanOrderByVersionAsc(version);
+            Set<Long> upserts = new HashSet<>();
+            for (CourseChange change : changes) {
+                // Writes from other instances reach the entity cache through the log as well.
+                cache.evict(change.getCourseId());
+                if (change.isDeleted()) {
+                    upserts.remove(change.getCourseId());
+                    index.remove(change.getCourseId());
+                } else {
+                    upserts.add(change.getCourseId());
+                }
+            }
+            courseRepository.findAllById(upserts).forEach(course -> index.put(course.getId(), course.getName()));
+            if (!changes.isEmpty()) {
+                version = changes.get(changes.size() - 1).getVersion();
+            }
+        } while (changes.size() == CHANGE_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,205 @@
+package com.schoolscheduler.courseservice.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory index of names for accent-insensitive prefix and fuzzy lookup. Names are folded
+ * (accents stripped, lower-cased) and split into words, and each word is indexed by trigrams
+ * padded with two leading spaces, so one or two letters already reach the words starting with
+ * them. A query only visits the posting lists of its own trigrams; candidates are then ranked as
+ * exact name, word prefixes, substring and, for misspellings, the share of query trigrams found.
+ */
+public final class NameIndex {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final double MIN_SIMILARITY = 0.5;
+    private static final Comparator<Ranked> RANKING = Comparator.comparingDouble(Ranked::score).reversed()
+            .thenComparing(candidate -> candidate.entry().folded())
+            .thenComparing(candidate -> candidate.entry().id());
+
+    private record Entry(Long id, String name, String folded, List<String> words, Set<String> grams) {
+    }
+
+    private record Ranked(Entry entry, double score) {
+    }
+
+    public record Hit(Long id, String name, double score) {
+    }
+
+    public record Page(int total, List<Hit> hits) {
+    }
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(Long id, String name) {
+        lock.writeLock().lock();
+        try {
+            putLocked(id, name);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void replaceAll(Map<Long, String> names) {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            postings.clear();
+            names.forEach(this::putLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Page search(String query, int page, int size) {
+        String folded = fold(query);
+        int limit = (int) Math.min(Integer.MAX_VALUE, ((long) page + 1) * size);
+        // Only the best page * size candidates are kept, so a common word does not sort the whole index.
+        PriorityQueue<Ranked> best = new PriorityQueue<>(RANKING.reversed());
+        int total = 0;
+        lock.readLock().lock();
+        try {
+            if (folded.isEmpty()) {
+                for (Entry entry : entries.values()) {
+                    offer(best, new Ranked(entry, 0), limit);
+                }
+                total = entries.size();
+            } else {
+                List<String> queryWords = words(folded);
+                Set<String> queryGrams = grams(queryWords, false);
+                Map<Long, Integer> shared = new HashMap<>();
+                for (String gram : queryGrams) {
+                    Set<Long> ids = postings.get(gram);
+                    if (ids != null) {
+                        ids.forEach(id -> shared.merge(id, 1, Integer::sum));
+                    }
+                }
+                for (Map.Entry<Long, Integer> candidate : shared.entrySet()) {
+                    Entry entry = entries.get(candidate.getKey());
+                    double score = score(entry, folded, queryWords, (double) candidate.getValue() / queryGrams.size());
+                    if (score > 0) {
+                        offer(best, new Ranked(entry, score), limit);
+                        total++;
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<Ranked> ranked = new ArrayList<>(best);
+        ranked.sort(RANKING);
+        int from = (int) Math.min(ranked.size(), (long) page * size);
+        List<Hit> hits = ranked.subList(from, ranked.size()).stream()
+                .map(candidate -> new Hit(candidate.entry().id(), candidate.entry().name(), candidate.score()))
+                .toList();
+        return new Page(total, hits);
+    }
+
+    private static void offer(PriorityQueue<Ranked> best, Ranked candidate, int limit) {
+        if (best.size() < limit) {
+            best.add(candidate);
+        } else if (RANKING.compare(candidate, best.peek()) < 0) {
+            best.poll();
+            best.add(candidate);
+        }
+    }
+
+    public static String fold(String value) {
+        if (value == null) {
+            return "";
+        }
+        String stripped = MARKS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    private static double score(Entry entry, String folded, List<String> queryWords, double similarity) {
+        if (entry.folded().equals(folded)) {
+            return 4;
+        }
+        if (startsEveryWord(entry.words(), queryWords)) {
+            return entry.folded().startsWith(folded) ? 3.5 : 3;
+        }
+        if (entry.folded().contains(folded)) {
+            return 2;
+        }
+        return similarity >= MIN_SIMILARITY ? similarity : 0;
+    }
+
+    private static boolean startsEveryWord(List<String> words, List<String> queryWords) {
+        for (String queryWord : queryWords) {
+            boolean found = false;
+            for (int i = 0; i < words.size() && !found; i++) {
+                found = words.get(i).startsWith(queryWord);
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void putLocked(Long id, String name) {
+        removeLocked(id);
+        String folded = fold(name);
+        if (folded.isEmpty()) {
+            return;
+        }
+        List<String> words = words(folded);
+        Entry entry = new Entry(id, name, folded, words, grams(words, true));
+        entries.put(id, entry);
+        entry.grams().forEach(gram -> postings.computeIfAbsent(gram, key -> new HashSet<>()).add(id));
+    }
+
+    private void removeLocked(Long id) {
+        Entry previous = entries.remove(id);
+        if (previous == null) {
+            return;
+        }
+        previous.grams().forEach(gram -> {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        });
+    }
+
+    private static List<String> words(String folded) {
+        return List.of(folded.split(" "));
+    }
+
+    // Query words get no trailing pad so that a partial word still matches as a prefix.
+    private static Set<String> grams(List<String> words, boolean complete) {
+        Set<String> grams = new HashSet<>();
+        for (String word : words) {
+            String padded = "  " + word + (complete ? " " : "");
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                grams.add(padded.substring(i, i + 3));
+            }
+        }
+        return grams;
+    }
+}
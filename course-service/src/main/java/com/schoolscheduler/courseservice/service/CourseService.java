@@ -1,6 +1,9 @@
 package com.schoolscheduler.courseservice.service;
 
+import com.schoolscheduler.courseservice.dto.ChangeFeedDto;
 import com.schoolscheduler.courseservice.dto.CourseDto;
+import com.schoolscheduler.courseservice.dto.CoursePatchDto;
+import com.schoolscheduler.courseservice.dto.SearchResultDto;
 import com.schoolscheduler.courseservice.service.model.CourseScheduleSlot;
 import java.util.List;
 
@@ -13,7 +16,13 @@ public interface CourseService {
 
     CourseDto update(Long id, CourseDto dto);
 
+    long patch(Long id, CoursePatchDto patch);
+
     void delete(Long id);
 
+    ChangeFeedDto<CourseDto> changes(long since);
+
+    SearchResultDto search(String query, int page, int size);
+
     List<CourseScheduleSlot> schedule(Long id);
 }
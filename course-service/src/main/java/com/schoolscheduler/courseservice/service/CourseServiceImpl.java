@@ -1,21 +1,52 @@
 package com.schoolscheduler.courseservice.service;
 
+import com.schoolscheduler.courseservice.cache.EntityCache;
+import com.schoolscheduler.courseservice.dto.ChangeFeedDto;
 import com.schoolscheduler.courseservice.dto.CourseDto;
+import com.schoolscheduler.courseservice.dto.CoursePatchDto;
+import com.schoolscheduler.courseservice.dto.SearchHitDto;
+import com.schoolscheduler.courseservice.dto.SearchResultDto;
 import com.schoolscheduler.courseservice.entity.Course;
+import com.schoolscheduler.courseservice.entity.CourseChange;
+import com.schoolscheduler.courseservice.event.DomainEventRecorder;
+import com.schoolscheduler.courseservice.event.DomainEventType;
+import com.schoolscheduler.courseservice.repository.CourseChangeRepository;
 import com.schoolscheduler.courseservice.repository.CourseRepository;
+import com.schoolscheduler.courseservice.search.CourseSearchIndex;
+import com.schoolscheduler.courseservice.search.NameIndex;
 import com.schoolscheduler.courseservice.service.model.CourseScheduleSlot;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 @Service
 public class CourseServiceImpl implements CourseService {
 
+    private static final int CHANGE_PAGE_SIZE = 500;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
     private final CourseRepository courseRepository;
+    private final CourseChangeRepository changeRepository;
+    private final DomainEventRecorder eventRecorder;
+    private final CourseSearchIndex searchIndex;
+    private final EntityCache<CourseDto> cache;
 
-    public CourseServiceImpl(CourseRepository courseRepository) {
+    public CourseServiceImpl(CourseRepository courseRepository, CourseChangeRepository changeRepository,
+                             DomainEventRecorder eventRecorder, CourseSearchIndex searchIndex,
+                             EntityCache<CourseDto> cache) {
         this.courseRepository = courseRepository;
+        this.changeRepository = changeRepository;
+        this.eventRecorder = eventRecorder;
+        this.searchIndex = searchIndex;
+        this.cache = cache;
     }
 
     @Override
@@ -25,31 +56,103 @@ public class CourseServiceImpl implements CourseService {
 
     @Override
     public CourseDto findById(Long id) {
-        return courseRepository.findById(id).map(this::toDto)
-                .orElseThrow(() -> new EntityNotFoundException("Course not found"));
+        return cache.get(id, key -> courseRepository.findById(key).map(this::toDto)
+                .orElseThrow(() -> new EntityNotFoundException("Course not found")));
     }
 
     @Override
+    @Transactional
     public CourseDto create(CourseDto dto) {
         Course course = toEntity(dto);
         course.setId(null);
-        return toDto(courseRepository.save(course));
+        Course saved = courseRepository.save(course);
+        changeRepository.append(CourseChange.of(saved.getId(), false));
+        CourseDto result = toDto(saved);
+        eventRecorder.record(DomainEventType.CREATED, saved.getId(), result);
+        searchIndex.refreshAfterCommit();
+        return result;
     }
 
     @Override
+    @Transactional
     public CourseDto update(Long id, CourseDto dto) {
         Course course = courseRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Course not found"));
+        // The @Version column covers the window from here to the flush; a PUT without a version
+        // applies to whatever was just read.
+        Long expected = dto.version() != null ? dto.version() : course.getVersion();
+        if (!Objects.equals(expected, course.getVersion())) {
+            throw staleVersion(id, expected);
+        }
         course.setName(dto.name());
         course.setLevel(dto.level());
         course.setHeadTeacherId(dto.headTeacherId());
         course.setStudentCount(dto.studentCount());
-        return toDto(courseRepository.save(course));
+        Course saved;
+        try {
+            saved = courseRepository.saveAndFlush(course);
+        } catch (OptimisticLockingFailureException ex) {
+            throw staleVersion(id, expected);
+        }
+        changeRepository.append(CourseChange.of(saved.getId(), false));
+        CourseDto result = toDto(saved);
+        eventRecorder.record(DomainEventType.UPDATED, saved.getId(), result);
+        cache.evictAfterCommit(saved.getId());
+        searchIndex.refreshAfterCommit();
+        return result;
     }
 
     @Override
+    @Transactional
+    public long patch(Long id, CoursePatchDto patch) {
+        int updated = courseRepository.patch(id, patch.version(),
+                patch.name(), patch.level(), patch.headTeacherId(), patch.studentCount());
+        if (updated == 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Course " + id + " does not exist or is no longer at version " + patch.version());
+        }
+        changeRepository.append(CourseChange.of(id, false));
+        eventRecorder.record(DomainEventType.PATCHED, id, courseRepository.findById(id).map(this::toDto).orElseThrow());
+        cache.evictAfterCommit(id);
+        searchIndex.refreshAfterCommit();
+        return patch.version() + 1;
+    }
+
+    @Override
+    @Transactional
     public void delete(Long id) {
         courseRepository.deleteById(id);
+        changeRepository.append(CourseChange.of(id, true));
+        eventRecorder.record(DomainEventType.DELETED, id, null);
+        cache.evictAfterCommit(id);
+        searchIndex.refreshAfterCommit();
+    }
+
+    @Override
+    public ChangeFeedDto<CourseDto> changes(long since) {
+        List<CourseChange> changes = changeRepository.findTop500ByVersionGreaterThanOrderByVersionAsc(since);
+        if (changes.isEmpty()) {
+            return new ChangeFeedDto<>(since, false, List.of(), List.of());
+        }
+        Map<Long, Boolean> latest = new LinkedHashMap<>();
+        changes.forEach(change -> {
+            latest.remove(change.getCourseId());
+            latest.put(change.getCourseId(), change.isDeleted());
+        });
+        List<Long> deletedIds = latest.entrySet().stream().filter(Map.Entry::getValue).map(Map.Entry::getKey).toList();
+        List<Long> upsertIds = latest.entrySet().stream().filter(entry -> !entry.getValue()).map(Map.Entry::getKey).toList();
+        List<CourseDto> upserts = courseRepository.findAllById(upsertIds).stream().map(this::toDto).toList();
+        long version = changes.get(changes.size() - 1).getVersion();
+        return new ChangeFeedDto<>(version, changes.size() == CHANGE_PAGE_SIZE, upserts, deletedIds);
+    }
+
+    @Override
+    public SearchResultDto search(String query, int page, int size) {
+        int pageIndex = Math.max(0, page);
+        int pageSize = Math.max(1, Math.min(MAX_SEARCH_PAGE_SIZE, size));
+        NameIndex.Page result = searchIndex.search(query, pageIndex, pageSize);
+        return new SearchResultDto(query, pageIndex, pageSize, result.total(),
+                result.hits().stream().map(hit -> new SearchHitDto(hit.id(), hit.name(), hit.score())).toList());
     }
 
     @Override
@@ -61,9 +164,13 @@ public class CourseServiceImpl implements CourseService {
                 new CourseScheduleSlot(LocalDate.now(), 2, "Lenguaje", "Profesora Demo"));
     }
 
+    private static ResponseStatusException staleVersion(Long id, Long version) {
+        return new ResponseStatusException(HttpStatus.CONFLICT, "Course " + id + " is no longer at version " + version);
+    }
+
     private CourseDto toDto(Course course) {
         return new CourseDto(course.getId(), course.getName(), course.getLevel(),
-                course.getHeadTeacherId(), course.getStudentCount());
+                course.getHeadTeacherId(), course.getStudentCount(), course.getVersion());
     }
 
     private Course toEntity(CourseDto dto) {
@@ -0,0 +1,20 @@
+package com.schoolscheduler.eventservice;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+
+@SpringBootApplication
+@EnableDiscoveryClient
+public class EventServiceApplication {
+
+    private static final int STARTUP_STEPS = 4096;
+
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(EventServiceApplication.class);
+        // Keeps the startup steps for the actuator startup endpoint.
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS));
+        application.run(args);
+    }
+}
@@ -0,0 +1,44 @@
+package com.schoolscheduler.eventservice.config;
+
+import java.util.List;
+import java.util.Objects;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stops a second event-service from starting. The log and its sequence numbers live in memory, so
+ * with two replicas the relays would spread batches over two unrelated logs and a subscriber on one
+ * would never see what was published to the other. Only instances that are up in the registry
+ * count; one that shut down cleanly has already deregistered.
+ */
+@Component
+public class SingleInstanceGuard {
+
+    private final DiscoveryClient discoveryClient;
+    private final ObjectProvider<Registration> registration;
+
+    public SingleInstanceGuard(DiscoveryClient discoveryClient, ObjectProvider<Registration> registration) {
+        this.discoveryClient = discoveryClient;
+        this.registration = registration;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void refuseSecondInstance() {
+        Registration self = registration.getIfAvailable();
+        if (self == null) {
+            return;
+        }
+        List<String> others = discoveryClient.getInstances(self.getServiceId()).stream()
+                .filter(instance -> !Objects.equals(instance.getInstanceId(), self.getInstanceId()))
+                .map(instance -> instance.getHost() + ":" + instance.getPort())
+                .toList();
+        if (!others.isEmpty()) {
+            throw new IllegalStateException("event-service keeps its log in memory and must run as a single instance, "
+                    + "but " + others + " is already registered");
+        }
+    }
+}
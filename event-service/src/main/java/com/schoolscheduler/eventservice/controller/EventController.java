@@ -0,0 +1,53 @@
+package com.schoolscheduler.eventservice.controller;
+
+import com.schoolscheduler.eventservice.dto.DomainEventDto;
+import com.schoolscheduler.eventservice.dto.EventEnvelopeDto;
+import com.schoolscheduler.eventservice.dto.PublishResultDto;
+import com.schoolscheduler.eventservice.service.EventService;
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.Set;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/events")
+public class EventController {
+
+    private static final int MAX_REPLAY = 1000;
+
+    private final EventService eventService;
+
+    public EventController(EventService eventService) {
+        this.eventService = eventService;
+    }
+
+    @PostMapping
+    public ResponseEntity<PublishResultDto> publish(@RequestBody List<@Valid DomainEventDto> events) {
+        return ResponseEntity.ok(eventService.publish(events));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<EventEnvelopeDto>> eventsAfter(@RequestParam(defaultValue = "0") long after,
+                                                              @RequestParam(defaultValue = "100") int limit,
+                                                              @RequestParam(required = false) Set<String> types) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_REPLAY));
+        return ResponseEntity.ok(eventService.eventsAfter(after, boundedLimit, types == null ? Set.of() : types));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam(required = false) Long after,
+                             @RequestParam(required = false) Set<String> types,
+                             @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        long resumeFrom = lastEventId != null ? lastEventId : after != null ? after : Long.MAX_VALUE;
+        return eventService.subscribe(resumeFrom, types == null ? Set.of() : types);
+    }
+}
@@ -0,0 +1,17 @@
+package com.schoolscheduler.eventservice.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.Instant;
+
+public record DomainEventDto(
+        @NotNull(message = "Event id is required") Long id,
+        @NotBlank(message = "Source is required") String source,
+        @NotBlank(message = "Aggregate type is required") String aggregateType,
+        @NotNull(message = "Aggregate id is required") Long aggregateId,
+        @NotBlank(message = "Event type is required") String type,
+        JsonNode payload,
+        Instant occurredAt
+) {
+}
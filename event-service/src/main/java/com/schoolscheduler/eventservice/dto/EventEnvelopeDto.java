@@ -0,0 +1,4 @@
+package com.schoolscheduler.eventservice.dto;
+
+public record EventEnvelopeDto(long sequence, DomainEventDto event) {
+}
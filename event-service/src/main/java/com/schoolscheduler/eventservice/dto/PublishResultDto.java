@@ -0,0 +1,4 @@
+package com.schoolscheduler.eventservice.dto;
+
+public record PublishResultDto(int accepted, int duplicates, long lastSequence) {
+}
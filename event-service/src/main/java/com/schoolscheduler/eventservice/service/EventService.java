@@ -0,0 +1,17 @@
+package com.schoolscheduler.eventservice.service;
+
+import com.schoolscheduler.eventservice.dto.DomainEventDto;
+import com.schoolscheduler.eventservice.dto.EventEnvelopeDto;
+import com.schoolscheduler.eventservice.dto.PublishResultDto;
+import java.util.List;
+import java.util.Set;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface EventService {
+
+    PublishResultDto publish(List<DomainEventDto> events);
+
+    List<EventEnvelopeDto> eventsAfter(long after, int limit, Set<String> aggregateTypes);
+
+    SseEmitter subscribe(long after, Set<String> aggregateTypes);
+}
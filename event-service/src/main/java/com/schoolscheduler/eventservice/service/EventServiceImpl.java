@@ -0,0 +1,237 @@
+package com.schoolscheduler.eventservice.service;
+
+import com.schoolscheduler.eventservice.dto.DomainEventDto;
+import com.schoolscheduler.eventservice.dto.EventEnvelopeDto;
+import com.schoolscheduler.eventservice.dto.PublishResultDto;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * In-memory broker: keeps the most recent events for replay and pushes new ones to SSE
+ * subscribers. Sequence numbers are assigned here and are only meaningful for this instance,
+ * which is why the service runs as a single instance. A subscriber that asks for a sequence
+ * older than the retained window gets a {@code reset} event and should reload its data.
+ * <p>
+ * Only the log itself is guarded by the lock. Each subscriber has a bounded queue that a task of
+ * its own drains onto the connection, so a slow client delays nobody else. A subscriber that falls
+ * {@code subscriber-buffer} events behind is disconnected and resumes from the log with
+ * {@code Last-Event-ID} when it reconnects.
+ */
+@Service
+public class EventServiceImpl implements EventService {
+
+    private static final String RESET_EVENT = "reset";
+
+    private final int retainedEvents;
+    private final int subscriberBuffer;
+    private final long subscriptionTimeoutMillis;
+    private final Deque<EventEnvelopeDto> retained = new ArrayDeque<>();
+    private final Set<String> retainedKeys = new HashSet<>();
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final ExecutorService delivery = Executors.newCachedThreadPool();
+    private long sequence;
+
+    public EventServiceImpl(@Value("${scheduler.events.retained-events:10000}") int retainedEvents,
+                            @Value("${scheduler.events.subscriber-buffer:1000}") int subscriberBuffer,
+                            @Value("${scheduler.events.subscription-timeout:PT30M}") Duration subscriptionTimeout) {
+        this.retainedEvents = Math.max(1, retainedEvents);
+        this.subscriberBuffer = Math.max(1, subscriberBuffer);
+        this.subscriptionTimeoutMillis = subscriptionTimeout.toMillis();
+    }
+
+    @PreDestroy
+    public void stop() {
+        delivery.shutdownNow();
+    }
+
+    @Override
+    public synchronized PublishResultDto publish(List<DomainEventDto> events) {
+        int accepted = 0;
+        for (DomainEventDto event : events) {
+            // Relays deliver at least once, so a batch may be resent after a lost acknowledgement.
+            if (!retainedKeys.add(keyOf(event))) {
+                continue;
+            }
+            EventEnvelopeDto envelope = new EventEnvelopeDto(++sequence, event);
+            retained.addLast(envelope);
+            if (retained.size() > retainedEvents) {
+                retainedKeys.remove(keyOf(retained.removeFirst().event()));
+            }
+            subscriptions.forEach(subscription -> subscription.enqueue(envelope));
+            accepted++;
+        }
+        return new PublishResultDto(accepted, events.size() - accepted, sequence);
+    }
+
+    @Override
+    public synchronized List<EventEnvelopeDto> eventsAfter(long after, int limit, Set<String> aggregateTypes) {
+        List<EventEnvelopeDto> result = new ArrayList<>();
+        for (EventEnvelopeDto envelope : retained) {
+            if (result.size() >= limit) {
+                break;
+            }
+            if (envelope.sequence() > after && matches(aggregateTypes, envelope)) {
+                result.add(envelope);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public SseEmitter subscribe(long after, Set<String> aggregateTypes) {
+        SseEmitter emitter = new SseEmitter(subscriptionTimeoutMillis);
+        Subscription subscription = new Subscription(emitter, aggregateTypes);
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+
+        List<EventEnvelopeDto> replay = new ArrayList<>();
+        long resetTo = -1;
+        synchronized (this) {
+            long oldestRetained = retained.isEmpty() ? sequence + 1 : retained.peekFirst().sequence();
+            if (after > 0 && after < oldestRetained - 1) {
+                resetTo = sequence;
+            }
+            for (EventEnvelopeDto envelope : retained) {
+                if (envelope.sequence() > after) {
+                    replay.add(envelope);
+                }
+            }
+            // Events published from here on queue up behind the replay.
+            subscriptions.add(subscription);
+        }
+        // The emitter is not handed to the container yet, so these sends are only buffered.
+        subscription.open();
+        if (resetTo >= 0) {
+            subscription.reset(resetTo);
+        }
+        replay.forEach(subscription::deliver);
+        subscription.start();
+        return emitter;
+    }
+
+    private static String keyOf(DomainEventDto event) {
+        return event.source() + ':' + event.id();
+    }
+
+    private static boolean matches(Set<String> aggregateTypes, EventEnvelopeDto envelope) {
+        return aggregateTypes.isEmpty() || aggregateTypes.contains(envelope.event().aggregateType());
+    }
+
+    private final class Subscription {
+
+        private final SseEmitter emitter;
+        private final Set<String> aggregateTypes;
+        private final BlockingQueue<EventEnvelopeDto> queue = new ArrayBlockingQueue<>(subscriberBuffer);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean started;
+        private volatile boolean closed;
+
+        private Subscription(SseEmitter emitter, Set<String> aggregateTypes) {
+            this.emitter = emitter;
+            this.aggregateTypes = aggregateTypes;
+        }
+
+        // Runs under the broker lock, so it must never wait on the connection.
+        private void enqueue(EventEnvelopeDto envelope) {
+            if (closed || !matches(aggregateTypes, envelope)) {
+                return;
+            }
+            if (queue.offer(envelope)) {
+                schedule();
+                return;
+            }
+            close();
+            // Completing waits for a send in progress, so the drain task does it.
+            schedule();
+        }
+
+        private void start() {
+            started = true;
+            schedule();
+        }
+
+        private void close() {
+            closed = true;
+            subscriptions.remove(this);
+            queue.clear();
+        }
+
+        private void schedule() {
+            if ((started || closed) && draining.compareAndSet(false, true)) {
+                try {
+                    delivery.execute(this::drain);
+                } catch (RejectedExecutionException ex) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                EventEnvelopeDto envelope;
+                while (!closed && (envelope = queue.poll()) != null) {
+                    deliver(envelope);
+                }
+                if (closed) {
+                    emitter.complete();
+                    return;
+                }
+            } finally {
+                draining.set(false);
+            }
+            // An event queued after the last poll but before the flag was cleared found the task running.
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void deliver(EventEnvelopeDto envelope) {
+            if (!matches(aggregateTypes, envelope)) {
+                return;
+            }
+            send(SseEmitter.event()
+                    .id(Long.toString(envelope.sequence()))
+                    .name(envelope.event().aggregateType())
+                    .data(envelope));
+        }
+
+        private void open() {
+            // Lets clients tell a live connection apart from one that has not produced events yet.
+            send(SseEmitter.event().comment("connected"));
+        }
+
+        private void reset(long currentSequence) {
+            send(SseEmitter.event()
+                    .id(Long.toString(currentSequence))
+                    .name(RESET_EVENT)
+                    .data(currentSequence));
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) {
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException ex) {
+                close();
+                emitter.completeWithError(ex);
+            }
+        }
+    }
+}
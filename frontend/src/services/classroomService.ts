@@ -3,6 +3,7 @@ import httpClient from './httpClient'
 export interface ClassroomPayload {
   name: string
   levelId: string
+  capacity?: number
 }
 
 export interface ClassroomResponse extends ClassroomPayload {
@@ -0,0 +1,20 @@
+package com.schoolscheduler.gatewayservice;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+
+@SpringBootApplication
+@EnableDiscoveryClient
+public class GatewayServiceApplication {
+
+    private static final int STARTUP_STEPS = 4096;
+
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(GatewayServiceApplication.class);
+        // Keeps the startup steps for the actuator startup endpoint.
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS));
+        application.run(args);
+    }
+}
@@ -0,0 +1,68 @@
+package com.schoolscheduler.gatewayservice.client;
+
+import com.schoolscheduler.gatewayservice.service.DatasetService;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Keeps the dataset cache coherent by following the event-service stream. Caching is only
+ * enabled while the stream is connected.
+ */
+@Component
+public class ChangeStreamListener {
+
+    private static final String DATASET_TYPES = "subject,teacher,course,classroom,config";
+
+    private final WebClient webClient;
+    private final DatasetService datasetService;
+    private final String eventsUrl;
+    private Disposable subscription;
+
+    public ChangeStreamListener(WebClient.Builder webClientBuilder,
+                                DatasetService datasetService,
+                                @Value("${scheduler.events.url:http://event-service}") String eventsUrl) {
+        this.webClient = webClientBuilder.build();
+        this.datasetService = datasetService;
+        this.eventsUrl = eventsUrl;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        subscription = webClient.get()
+                .uri(eventsUrl + "/api/events/stream?types=" + DATASET_TYPES)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .retrieve()
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() { })
+                .doOnNext(this::onEvent)
+                .then(Mono.error(new IllegalStateException("Event stream closed")))
+                .doOnError(ex -> datasetService.setCachingEnabled(false))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    private void onEvent(ServerSentEvent<String> event) {
+        // The first frame on a new connection is a comment; seeing it proves the stream is live.
+        datasetService.setCachingEnabled(true);
+        if (event.data() != null) {
+            datasetService.invalidate();
+        }
+    }
+}
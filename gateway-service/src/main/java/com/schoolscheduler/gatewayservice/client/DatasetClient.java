@@ -0,0 +1,72 @@
+package com.schoolscheduler.gatewayservice.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+@Component
+public class DatasetClient {
+
+    private final WebClient webClient;
+    private final Duration upstreamTimeout;
+    private final String subjectUrl;
+    private final String teacherUrl;
+    private final String courseUrl;
+    private final String classroomUrl;
+    private final String configUrl;
+
+    public DatasetClient(WebClient.Builder webClientBuilder,
+                         @Value("${scheduler.dataset.upstream-timeout:PT2S}") Duration upstreamTimeout,
+                         @Value("${scheduler.clients.subject-url}") String subjectUrl,
+                         @Value("${scheduler.clients.teacher-url}") String teacherUrl,
+                         @Value("${scheduler.clients.course-url}") String courseUrl,
+                         @Value("${scheduler.clients.classroom-url}") String classroomUrl,
+                         @Value("${scheduler.clients.config-url}") String configUrl) {
+        this.webClient = webClientBuilder.build();
+        this.upstreamTimeout = upstreamTimeout;
+        this.subjectUrl = subjectUrl;
+        this.teacherUrl = teacherUrl;
+        this.courseUrl = courseUrl;
+        this.classroomUrl = classroomUrl;
+        this.configUrl = configUrl;
+    }
+
+    public Mono<List<JsonNode>> fetchSubjects() {
+        return fetchList("subject-service", subjectUrl + "/api/subjects");
+    }
+
+    public Mono<List<JsonNode>> fetchTeachers() {
+        return fetchList("teacher-service", teacherUrl + "/api/teachers");
+    }
+
+    public Mono<List<JsonNode>> fetchCourses() {
+        return fetchList("course-service", courseUrl + "/api/courses");
+    }
+
+    public Mono<List<JsonNode>> fetchClassrooms() {
+        return fetchList("classroom-service", classroomUrl + "/api/classrooms");
+    }
+
+    public Mono<List<JsonNode>> fetchConfig() {
+        return fetchList("config-service", configUrl + "/api/config");
+    }
+
+    private Mono<List<JsonNode>> fetchList(String service, String url) {
+        return webClient.get().uri(url).retrieve()
+                .bodyToFlux(JsonNode.class)
+                .collectList()
+                .timeout(upstreamTimeout)
+                .onErrorMap(TimeoutException.class, ex -> new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT,
+                        service + " did not answer within " + upstreamTimeout.toMillis() + " ms", ex))
+                .onErrorMap(WebClientException.class, ex -> new ResponseStatusException(HttpStatus.BAD_GATEWAY,
+                        service + " request failed", ex));
+    }
+}
@@ -0,0 +1,24 @@
+package com.schoolscheduler.gatewayservice.config;
+
+import io.swagger.v3.oas.models.ExternalDocumentation;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.info.License;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OpenApiConfig {
+
+    @Bean
+    public OpenAPI gatewayServiceOpenAPI() {
+        return new OpenAPI()
+                .info(new Info().title("Gateway Service API")
+                        .description("Aggregated views over the scheduler microservices")
+                        .version("v1.0.0")
+                        .license(new License().name("Apache 2.0")))
+                .externalDocs(new ExternalDocumentation()
+                        .description("School Scheduler documentation")
+                        .url("https://example.com/docs"));
+    }
+}
@@ -0,0 +1,50 @@
+package com.schoolscheduler.gatewayservice.controller;
+
+import com.schoolscheduler.gatewayservice.service.DatasetService;
+import com.schoolscheduler.gatewayservice.service.model.DatasetPayload;
+import java.util.Arrays;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/dataset")
+public class DatasetController {
+
+    private final DatasetService datasetService;
+
+    public DatasetController(DatasetService datasetService) {
+        this.datasetService = datasetService;
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<byte[]>> dataset(@RequestParam(required = false) String level,
+                                                @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return datasetService.dataset(level).map(payload -> toResponse(payload, ifNoneMatch));
+    }
+
+    private static ResponseEntity<byte[]> toResponse(DatasetPayload payload, String ifNoneMatch) {
+        if (matches(ifNoneMatch, payload.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(payload.etag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(payload.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(payload.body());
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        return ifNoneMatch != null && Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .anyMatch(candidate -> candidate.equals(etag) || candidate.equals("*"));
+    }
+}
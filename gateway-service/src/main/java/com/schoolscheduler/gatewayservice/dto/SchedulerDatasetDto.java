@@ -0,0 +1,14 @@
+package com.schoolscheduler.gatewayservice.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.List;
+
+public record SchedulerDatasetDto(
+        String levelId,
+        List<JsonNode> subjects,
+        List<JsonNode> teachers,
+        List<JsonNode> courses,
+        List<JsonNode> classrooms,
+        List<JsonNode> config
+) {
+}
@@ -0,0 +1,13 @@
+package com.schoolscheduler.gatewayservice.service;
+
+import com.schoolscheduler.gatewayservice.service.model.DatasetPayload;
+import reactor.core.publisher.Mono;
+
+public interface DatasetService {
+
+    Mono<DatasetPayload> dataset(String levelId);
+
+    void invalidate();
+
+    void setCachingEnabled(boolean enabled);
+}
@@ -0,0 +1,118 @@
+package com.schoolscheduler.gatewayservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schoolscheduler.gatewayservice.client.DatasetClient;
+import com.schoolscheduler.gatewayservice.dto.SchedulerDatasetDto;
+import com.schoolscheduler.gatewayservice.service.model.DatasetPayload;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caches one serialized dataset per level. Entries are tagged with the invalidation generation
+ * they were loaded under; any upstream change event bumps the generation, so the next request
+ * reloads. While the change stream is down nothing is reused, because changes could be missed.
+ */
+@Service
+public class DatasetServiceImpl implements DatasetService {
+
+    private static final String ALL_LEVELS = "*";
+
+    private final DatasetClient datasetClient;
+    private final ObjectMapper objectMapper;
+    private final Duration maxAge;
+    private final AtomicLong generation = new AtomicLong();
+    private final ConcurrentMap<String, CacheEntry> cache = new ConcurrentHashMap<>();
+    private volatile boolean cachingEnabled;
+
+    public DatasetServiceImpl(DatasetClient datasetClient,
+                              ObjectMapper objectMapper,
+                              @Value("${scheduler.dataset.max-age:PT10M}") Duration maxAge) {
+        this.datasetClient = datasetClient;
+        this.objectMapper = objectMapper;
+        this.maxAge = maxAge;
+    }
+
+    @Override
+    public Mono<DatasetPayload> dataset(String levelId) {
+        String key = levelId == null || levelId.isBlank() ? ALL_LEVELS : levelId;
+        if (!cachingEnabled) {
+            return load(key);
+        }
+        long currentGeneration = generation.get();
+        Instant now = Instant.now();
+        CacheEntry entry = cache.compute(key, (ignored, existing) ->
+                existing != null && existing.isFresh(currentGeneration, now, maxAge)
+                        ? existing
+                        : new CacheEntry(currentGeneration, now, load(key).cache()));
+        return entry.payload().doOnError(ex -> cache.remove(key, entry));
+    }
+
+    @Override
+    public void invalidate() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    @Override
+    public void setCachingEnabled(boolean enabled) {
+        if (enabled && !cachingEnabled) {
+            invalidate();
+        }
+        cachingEnabled = enabled;
+    }
+
+    private Mono<DatasetPayload> load(String key) {
+        String levelId = ALL_LEVELS.equals(key) ? null : key;
+        return Mono.zip(
+                        datasetClient.fetchSubjects(),
+                        datasetClient.fetchTeachers(),
+                        datasetClient.fetchCourses(),
+                        datasetClient.fetchClassrooms(),
+                        datasetClient.fetchConfig())
+                .map(parts -> serialize(new SchedulerDatasetDto(
+                        levelId,
+                        forLevel(parts.getT1(), levelId),
+                        parts.getT2(),
+                        forLevel(parts.getT3(), levelId),
+                        forLevel(parts.getT4(), levelId),
+                        parts.getT5())));
+    }
+
+    // Teachers and config entries carry no level in their services, so they are always returned whole.
+    private static List<JsonNode> forLevel(List<JsonNode> items, String levelId) {
+        if (levelId == null) {
+            return items;
+        }
+        return items.stream().filter(item -> levelId.equals(item.path("level").asText())).toList();
+    }
+
+    private DatasetPayload serialize(SchedulerDatasetDto dataset) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(dataset);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            String etag = "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+            return new DatasetPayload(body, etag);
+        } catch (JsonProcessingException | NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("Could not serialize scheduler dataset", ex);
+        }
+    }
+
+    private record CacheEntry(long generation, Instant loadedAt, Mono<DatasetPayload> payload) {
+
+        boolean isFresh(long currentGeneration, Instant now, Duration maxAge) {
+            return generation == currentGeneration && loadedAt.plus(maxAge).isAfter(now);
+        }
+    }
+}
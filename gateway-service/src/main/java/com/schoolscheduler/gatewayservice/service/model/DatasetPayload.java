@@ -0,0 +1,7 @@
+package com.schoolscheduler.gatewayservice.service.model;
+
+/**
+ * A dataset already serialized to JSON, with a strong ETag derived from its bytes.
+ */
+public record DatasetPayload(byte[] body, String etag) {
+}
@@ -1,19 +1,27 @@
 package com.schoolscheduler.holidayservice.controller;
 
+import com.schoolscheduler.holidayservice.dto.ChangeFeedDto;
 import com.schoolscheduler.holidayservice.dto.HolidayDto;
+import com.schoolscheduler.holidayservice.dto.HolidayImportResultDto;
+import com.schoolscheduler.holidayservice.dto.HolidayPatchDto;
+import com.schoolscheduler.holidayservice.importer.CalendarFormat;
 import com.schoolscheduler.holidayservice.service.HolidayService;
 import jakarta.validation.Valid;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -33,6 +41,11 @@ public class HolidayController {
         return ResponseEntity.ok(holidayService.findAll());
     }
 
+    @GetMapping("/changes")
+    public ResponseEntity<ChangeFeedDto<HolidayDto>> changes(@RequestParam(defaultValue = "0") long since) {
+        return ResponseEntity.ok(holidayService.changes(since));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<HolidayDto> findById(@PathVariable Long id) {
         return ResponseEntity.ok(holidayService.findById(id));
@@ -43,11 +56,27 @@ public class HolidayController {
         return ResponseEntity.status(HttpStatus.CREATED).body(holidayService.create(dto));
     }
 
+    @PostMapping("/import")
+    public ResponseEntity<HolidayImportResultDto> importCalendar(
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream body) {
+        return ResponseEntity.ok(holidayService.importCalendar(body, CalendarFormat.from(format, contentType), from, to));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<HolidayDto> update(@PathVariable Long id, @Valid @RequestBody HolidayDto dto) {
         return ResponseEntity.ok(holidayService.update(id, dto));
     }
 
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patch(@PathVariable Long id, @Valid @RequestBody HolidayPatchDto patch) {
+        long version = holidayService.patch(id, patch);
+        return ResponseEntity.noContent().eTag("\"" + version + "\"").build();
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
         holidayService.delete(id);
@@ -58,4 +87,11 @@ public class HolidayController {
     public ResponseEntity<Boolean> isHoliday(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
         return ResponseEntity.ok(holidayService.isHoliday(date));
     }
+
+    @GetMapping("/range")
+    public ResponseEntity<List<HolidayDto>> findBetween(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(holidayService.findBetween(from, to));
+    }
 }
@@ -0,0 +1,6 @@
+package com.schoolscheduler.holidayservice.dto;
+
+import java.time.LocalDate;
+
+public record HolidayImportResultDto(LocalDate from, LocalDate to, int inserted, int updated, int skipped) {
+}
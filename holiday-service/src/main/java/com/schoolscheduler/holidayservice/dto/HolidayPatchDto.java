@@ -0,0 +1,16 @@
+package com.schoolscheduler.holidayservice.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import java.time.LocalDate;
+
+/**
+ * Partial update of a holiday. Null fields are left unchanged; {@code version} must match the
+ * stored version or the update is rejected.
+ */
+public record HolidayPatchDto(
+        @NotNull(message = "Version is required") Long version,
+        LocalDate date,
+        @Pattern(regexp = ".*\\S.*", message = "Description must not be blank") String description
+) {
+}
@@ -0,0 +1,67 @@
+package com.schoolscheduler.holidayservice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+
+@Entity
+@Table(name = "holiday_change_log")
+public class HolidayChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long version;
+
+    @Column(name = "holiday_id", nullable = false)
+    private Long holidayId;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+
+    public static HolidayChange of(Long holidayId, boolean deleted) {
+        HolidayChange change = new HolidayChange();
+        change.setHolidayId(holidayId);
+        change.setDeleted(deleted);
+        change.setChangedAt(Instant.now());
+        return change;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Long getHolidayId() {
+        return holidayId;
+    }
+
+    public void setHolidayId(Long holidayId) {
+        this.holidayId = holidayId;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(boolean deleted) {
+        this.deleted = deleted;
+    }
+
+    public Instant getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(Instant changedAt) {
+        this.changedAt = changedAt;
+    }
+}
@@ -0,0 +1,50 @@
+package com.schoolscheduler.holidayservice.event;
+
+import com.schoolscheduler.holidayservice.entity.OutboxEvent;
+import com.schoolscheduler.holidayservice.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes domain events to the outbox table. It must join the caller's transaction so an event
+ * is stored exactly when the change it describes is committed.
+ */
+@Component
+public class DomainEventRecorder {
+
+    private static final String AGGREGATE_TYPE = "holiday";
+
+    private final OutboxEventRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public DomainEventRecorder(OutboxEventRepository outboxRepository, ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(DomainEventType type, Long aggregateId, Object payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.setAggregateType(AGGREGATE_TYPE);
+        event.setAggregateId(aggregateId);
+        event.setEventType(type.name());
+        event.setPayload(serialize(payload));
+        event.setOccurredAt(Instant.now());
+        outboxRepository.save(event);
+    }
+
+    private String serialize(Object payload) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize event payload", ex);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.schoolscheduler.holidayservice.event;
+
+public enum DomainEventType {
+    CREATED,
+    UPDATED,
+    PATCHED,
+    DELETED
+}
@@ -0,0 +1,26 @@
+package com.schoolscheduler.holidayservice.event;
+
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes relayed events on the Spring application event bus, for tests and single-node setups
+ * without an event-service.
+ */
+@Component
+@ConditionalOnProperty(name = "scheduler.events.broker", havingValue = "local")
+public class InProcessEventBroker implements EventBroker {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public InProcessEventBroker(ApplicationEventPublisher applicationEventPublisher) {
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @Override
+    public void publish(List<DomainEvent> events) {
+        events.forEach(applicationEventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,6 @@
+package com.schoolscheduler.holidayservice.importer;
+
+import java.time.LocalDate;
+
+public record CalendarDay(LocalDate date, String description) {
+}
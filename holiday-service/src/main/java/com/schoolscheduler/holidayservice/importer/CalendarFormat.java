@@ -0,0 +1,35 @@
+package com.schoolscheduler.holidayservice.importer;
+
+import java.util.Locale;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public enum CalendarFormat {
+    ICALENDAR(new ICalendarReader()),
+    CSV(new CsvCalendarReader());
+
+    private final CalendarReader reader;
+
+    CalendarFormat(CalendarReader reader) {
+        this.reader = reader;
+    }
+
+    public CalendarReader reader() {
+        return reader;
+    }
+
+    // An explicit format wins; otherwise the request's content type decides.
+    public static CalendarFormat from(String value, String contentType) {
+        String format = value != null ? value.trim().toLowerCase(Locale.ROOT) : "";
+        String type = contentType != null ? contentType.toLowerCase(Locale.ROOT) : "";
+        if (format.equals("ics") || format.equals("ical") || format.equals("icalendar")
+                || format.isEmpty() && type.startsWith("text/calendar")) {
+            return ICALENDAR;
+        }
+        if (format.equals("csv") || format.isEmpty() && type.startsWith("text/csv")) {
+            return CSV;
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "Unsupported calendar format: " + (format.isEmpty() ? contentType : value));
+    }
+}
@@ -0,0 +1,18 @@
+package com.schoolscheduler.holidayservice.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+/**
+ * Streams the days of an imported calendar to {@code days} as they are parsed. Recurring entries
+ * are expanded only between {@code from} and {@code to}; single entries are passed on wherever
+ * they fall. Malformed input is reported with an {@link IllegalArgumentException}.
+ */
+public interface CalendarReader {
+
+    String DEFAULT_DESCRIPTION = "Feriado";
+
+    void read(BufferedReader in, LocalDate from, LocalDate to, Consumer<CalendarDay> days) throws IOException;
+}
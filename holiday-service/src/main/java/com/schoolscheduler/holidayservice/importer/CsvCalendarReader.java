@@ -0,0 +1,87 @@
+package com.schoolscheduler.holidayservice.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * One day per line: {@code date,description}, separated by comma or semicolon, with optional
+ * double-quoted fields. Dates are ISO ({@code 2025-09-18}) or day first ({@code 18-09-2025},
+ * {@code 18/09/2025}). A first line whose date does not parse is taken as the header.
+ */
+public class CsvCalendarReader implements CalendarReader {
+
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("dd-MM-yyyy"),
+            DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+
+    @Override
+    public void read(BufferedReader in, LocalDate from, LocalDate to, Consumer<CalendarDay> days) throws IOException {
+        String line;
+        int number = 0;
+        while ((line = in.readLine()) != null) {
+            number++;
+            if (number == 1 && line.startsWith("\uFEFF")) {
+                line = line.substring(1);
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> fields = split(line);
+            LocalDate date = parseDate(fields.get(0));
+            if (date == null) {
+                if (number == 1) {
+                    continue;
+                }
+                throw new IllegalArgumentException("Line " + number + ": unreadable date '" + fields.get(0) + "'");
+            }
+            String description = fields.size() > 1 && !fields.get(1).isBlank() ? fields.get(1).trim() : DEFAULT_DESCRIPTION;
+            days.accept(new CalendarDay(date, description));
+        }
+    }
+
+    private static LocalDate parseDate(String value) {
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                return LocalDate.parse(value.trim(), format);
+            } catch (DateTimeParseException ignored) {
+                // Try the next format.
+            }
+        }
+        return null;
+    }
+
+    private static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int index = 0; index < line.length(); index++) {
+            char c = line.charAt(index);
+            if (quoted) {
+                if (c == '"' && index + 1 < line.length() && line.charAt(index + 1) == '"') {
+                    field.append('"');
+                    index++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',' || c == ';') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
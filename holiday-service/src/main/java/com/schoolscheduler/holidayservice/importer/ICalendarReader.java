@@ -0,0 +1,192 @@
+package com.schoolscheduler.holidayservice.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Reads the {@code VEVENT}s of an RFC 5545 calendar line by line, unfolding continuation lines as
+ * they arrive, so only the event being read is held in memory. Each event covers the days from
+ * {@code DTSTART} up to its exclusive {@code DTEND} (or {@code DURATION}). {@code RRULE}s with
+ * {@code FREQ}, {@code INTERVAL}, {@code COUNT} and {@code UNTIL} are expanded, minus any
+ * {@code EXDATE}s; {@code BYMONTH} and {@code BYMONTHDAY} are accepted when they only restate the
+ * start date. Other rule parts, such as those needed for Easter-based days, are rejected rather
+ * than imported wrongly. Times are ignored: a holiday is the date it starts on.
+ */
+public class ICalendarReader implements CalendarReader {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private static final class Event {
+        private LocalDate start;
+        private LocalDate endExclusive;
+        private Period duration;
+        private String summary;
+        private String rule;
+        private boolean cancelled;
+        private final Set<LocalDate> excluded = new HashSet<>();
+    }
+
+    @Override
+    public void read(BufferedReader in, LocalDate from, LocalDate to, Consumer<CalendarDay> days) throws IOException {
+        Event event = null;
+        String pending = in.readLine();
+        while (pending != null) {
+            StringBuilder line = new StringBuilder(pending);
+            String next;
+            while ((next = in.readLine()) != null && (next.startsWith(" ") || next.startsWith("\t"))) {
+                line.append(next, 1, next.length());
+            }
+            pending = next;
+
+            String content = line.toString();
+            int colon = content.indexOf(':');
+            if (colon < 0) {
+                continue;
+            }
+            String head = content.substring(0, colon).toUpperCase(Locale.ROOT);
+            String value = content.substring(colon + 1).trim();
+            String name = head.contains(";") ? head.substring(0, head.indexOf(';')) : head;
+            if (name.equals("BEGIN") && value.equalsIgnoreCase("VEVENT")) {
+                event = new Event();
+            } else if (name.equals("END") && value.equalsIgnoreCase("VEVENT") && event != null) {
+                expand(event, from, to, days);
+                event = null;
+            } else if (event != null) {
+                apply(event, name, head, value);
+            }
+        }
+    }
+
+    private static void apply(Event event, String name, String head, String value) {
+        switch (name) {
+            case "DTSTART" -> event.start = date(value);
+            case "DTEND" -> event.endExclusive = head.contains("VALUE=DATE") || isMidnight(value)
+                    ? date(value) : date(value).plusDays(1);
+            case "DURATION" -> event.duration = days(value);
+            case "SUMMARY" -> event.summary = unescape(value);
+            case "RRULE" -> event.rule = value.toUpperCase(Locale.ROOT);
+            case "EXDATE" -> {
+                for (String exdate : value.split(",")) {
+                    event.excluded.add(date(exdate));
+                }
+            }
+            case "STATUS" -> event.cancelled = value.equalsIgnoreCase("CANCELLED");
+            default -> {
+            }
+        }
+    }
+
+    private static void expand(Event event, LocalDate from, LocalDate to, Consumer<CalendarDay> days) {
+        if (event.start == null) {
+            throw new IllegalArgumentException("Event '" + event.summary + "' has no DTSTART");
+        }
+        if (event.cancelled) {
+            return;
+        }
+        String description = event.summary != null && !event.summary.isBlank()
+                ? event.summary.trim() : DEFAULT_DESCRIPTION;
+        long span = 1;
+        if (event.endExclusive != null) {
+            span = Math.max(1, ChronoUnit.DAYS.between(event.start, event.endExclusive));
+        } else if (event.duration != null) {
+            span = Math.max(1, ChronoUnit.DAYS.between(event.start, event.start.plus(event.duration)));
+        }
+        if (event.rule == null) {
+            emit(event.start, span, description, days);
+            return;
+        }
+
+        Map<String, String> rule = new HashMap<>();
+        for (String part : event.rule.split(";")) {
+            int equals = part.indexOf('=');
+            if (equals > 0) {
+                rule.put(part.substring(0, equals), part.substring(equals + 1));
+            }
+        }
+        ChronoUnit unit = switch (rule.getOrDefault("FREQ", "")) {
+            case "YEARLY" -> ChronoUnit.YEARS;
+            case "MONTHLY" -> ChronoUnit.MONTHS;
+            case "WEEKLY" -> ChronoUnit.WEEKS;
+            case "DAILY" -> ChronoUnit.DAYS;
+            default -> throw unsupported(description, event.rule);
+        };
+        for (String part : rule.keySet()) {
+            boolean restatesStart = part.equals("BYMONTH") && rule.get(part).equals(Integer.toString(event.start.getMonthValue()))
+                    || part.equals("BYMONTHDAY") && rule.get(part).equals(Integer.toString(event.start.getDayOfMonth()));
+            if (!Set.of("FREQ", "INTERVAL", "COUNT", "UNTIL", "WKST").contains(part) && !restatesStart) {
+                throw unsupported(description, event.rule);
+            }
+        }
+        int interval = Math.max(1, Integer.parseInt(rule.getOrDefault("INTERVAL", "1")));
+        long count = rule.containsKey("COUNT") ? Long.parseLong(rule.get("COUNT")) : Long.MAX_VALUE;
+        LocalDate until = rule.containsKey("UNTIL") ? date(rule.get("UNTIL")) : to;
+        if (until.isAfter(to)) {
+            until = to;
+        }
+
+        long produced = 0;
+        for (long step = 0; produced < count; step++) {
+            LocalDate occurrence = event.start.plus(step * interval, unit);
+            if (occurrence.isAfter(until)) {
+                break;
+            }
+            // A monthly or yearly rule skips months that lack the start day instead of clamping to the month end.
+            if ((unit == ChronoUnit.MONTHS || unit == ChronoUnit.YEARS)
+                    && occurrence.getDayOfMonth() != event.start.getDayOfMonth()) {
+                continue;
+            }
+            produced++;
+            if (!event.excluded.contains(occurrence) && !occurrence.plusDays(span - 1).isBefore(from)) {
+                emit(occurrence, span, description, days);
+            }
+        }
+    }
+
+    private static void emit(LocalDate start, long span, String description, Consumer<CalendarDay> days) {
+        for (long offset = 0; offset < span; offset++) {
+            days.accept(new CalendarDay(start.plusDays(offset), description));
+        }
+    }
+
+    private static LocalDate date(String value) {
+        String trimmed = value.trim();
+        try {
+            return LocalDate.parse(trimmed.length() > 8 ? trimmed.substring(0, 8) : trimmed, DATE);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Unreadable calendar date '" + value + "'", ex);
+        }
+    }
+
+    private static boolean isMidnight(String value) {
+        int time = value.indexOf('T');
+        return time < 0 || value.substring(time + 1).replace("Z", "").chars().allMatch(c -> c == '0');
+    }
+
+    private static Period days(String value) {
+        try {
+            return Period.parse(value.contains("T") ? value.substring(0, value.indexOf('T')) : value);
+        } catch (DateTimeParseException ex) {
+            return Period.ZERO;
+        }
+    }
+
+    private static String unescape(String value) {
+        return value.replace("\\n", " ").replace("\\N", " ").replace("\\,", ",").replace("\\;", ";")
+                .replace("\\\\", "\\");
+    }
+
+    private static IllegalArgumentException unsupported(String description, String rule) {
+        return new IllegalArgumentException("Unsupported recurrence for '" + description + "': " + rule);
+    }
+}
@@ -0,0 +1,32 @@
+package com.schoolscheduler.holidayservice.repository;
+
+import com.schoolscheduler.holidayservice.entity.HolidayChange;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface HolidayChangeRepository extends JpaRepository<HolidayChange, Long> {
+    List<HolidayChange> findTop500ByVersionGreaterThanOrderByVersionAsc(Long version);
+
+    // Held until the writing transaction ends, so log versions are allocated and committed in the same
+    // order. Without it a lower IDENTITY value could commit after a higher one had already been read,
+    // and a reader resuming from the higher one would never see it.
+    @Query(value = "select 1 from pg_advisory_xact_lock(hashtext('holiday_change_log'))", nativeQuery = true)
+    Integer lockLog();
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    default HolidayChange append(HolidayChange change) {
+        lockLog();
+        return save(change);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    default List<HolidayChange> appendAll(List<HolidayChange> changes) {
+        lockLog();
+        return saveAll(changes);
+    }
+}
@@ -2,11 +2,53 @@ package com.schoolscheduler.holidayservice.repository;
 
 import com.schoolscheduler.holidayservice.entity.Holiday;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface HolidayRepository extends JpaRepository<Holiday, Long> {
+
+    interface UpsertedHoliday {
+        Long getId();
+
+        Long getVersion();
+
+        LocalDate getDate();
+
+        String getDescription();
+
+        Boolean getInserted();
+    }
+
     Optional<Holiday> findByDate(LocalDate date);
+
+    List<Holiday> findByDateBetweenOrderByDate(LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query("update Holiday h set h.date = coalesce(:date, h.date), "
+            + "h.description = coalesce(:description, h.description), "
+            + "h.version = h.version + 1 "
+            + "where h.id = :id and h.version = :version")
+    int patch(@Param("id") Long id,
+              @Param("version") Long version,
+              @Param("date") LocalDate date,
+              @Param("description") String description);
+
+    // Takes a JSON array of {date, description}. Only inserted rows and rows whose description
+    // changed come back; xmax is 0 exactly for the freshly inserted ones.
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query(value = "insert into holiday (date, description, version) "
+            + "select r.date, r.description, 0 from jsonb_to_recordset(cast(:days as jsonb)) as r(date date, description text) "
+            + "on conflict (date) do update set description = excluded.description, version = holiday.version + 1 "
+            + "where holiday.description is distinct from excluded.description "
+            + "returning id, version, date, description, (xmax = 0) as inserted",
+            nativeQuery = true)
+    List<UpsertedHoliday> upsertAll(@Param("days") String days);
 }
@@ -1,6 +1,11 @@
 package com.schoolscheduler.holidayservice.service;
 
+import com.schoolscheduler.holidayservice.dto.ChangeFeedDto;
 import com.schoolscheduler.holidayservice.dto.HolidayDto;
+import com.schoolscheduler.holidayservice.dto.HolidayImportResultDto;
+import com.schoolscheduler.holidayservice.dto.HolidayPatchDto;
+import com.schoolscheduler.holidayservice.importer.CalendarFormat;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -13,7 +18,15 @@ public interface HolidayService {
 
     HolidayDto update(Long id, HolidayDto dto);
 
+    long patch(Long id, HolidayPatchDto patch);
+
     void delete(Long id);
 
+    ChangeFeedDto<HolidayDto> changes(long since);
+
     boolean isHoliday(LocalDate date);
+
+    List<HolidayDto> findBetween(LocalDate from, LocalDate to);
+
+    HolidayImportResultDto importCalendar(InputStream body, CalendarFormat format, LocalDate from, LocalDate to);
 }
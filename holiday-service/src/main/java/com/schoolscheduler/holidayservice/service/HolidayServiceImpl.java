@@ -1,20 +1,63 @@
 package com.schoolscheduler.holidayservice.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schoolscheduler.holidayservice.dto.ChangeFeedDto;
 import com.schoolscheduler.holidayservice.dto.HolidayDto;
+import com.schoolscheduler.holidayservice.dto.HolidayImportResultDto;
+import com.schoolscheduler.holidayservice.dto.HolidayPatchDto;
 import com.schoolscheduler.holidayservice.entity.Holiday;
+import com.schoolscheduler.holidayservice.entity.HolidayChange;
+import com.schoolscheduler.holidayservice.event.DomainEventRecorder;
+import com.schoolscheduler.holidayservice.event.DomainEventType;
+import com.schoolscheduler.holidayservice.importer.CalendarDay;
+import com.schoolscheduler.holidayservice.importer.CalendarFormat;
+import com.schoolscheduler.holidayservice.repository.HolidayChangeRepository;
 import com.schoolscheduler.holidayservice.repository.HolidayRepository;
 import jakarta.persistence.EntityNotFoundException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
 @Service
 public class HolidayServiceImpl implements HolidayService {
 
+    private static final int CHANGE_PAGE_SIZE = 500;
+    private static final int MAX_IMPORT_YEARS = 10;
+
     private final HolidayRepository holidayRepository;
+    private final HolidayChangeRepository changeRepository;
+    private final DomainEventRecorder eventRecorder;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int importBatchSize;
 
-    public HolidayServiceImpl(HolidayRepository holidayRepository) {
+    public HolidayServiceImpl(HolidayRepository holidayRepository, HolidayChangeRepository changeRepository,
+                              DomainEventRecorder eventRecorder, ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${scheduler.import.batch-size:200}") int importBatchSize) {
         this.holidayRepository = holidayRepository;
+        this.changeRepository = changeRepository;
+        this.eventRecorder = eventRecorder;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.importBatchSize = Math.max(1, importBatchSize);
     }
 
     @Override
@@ -29,24 +72,79 @@ public class HolidayServiceImpl implements HolidayService {
     }
 
     @Override
+    @Transactional
     public HolidayDto create(HolidayDto dto) {
         Holiday holiday = toEntity(dto);
         holiday.setId(null);
-        return toDto(holidayRepository.save(holiday));
+        Holiday saved = holidayRepository.save(holiday);
+        changeRepository.append(HolidayChange.of(saved.getId(), false));
+        HolidayDto result = toDto(saved);
+        eventRecorder.record(DomainEventType.CREATED, saved.getId(), result);
+        return result;
     }
 
     @Override
+    @Transactional
     public HolidayDto update(Long id, HolidayDto dto) {
         Holiday holiday = holidayRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Holiday not found"));
+        // The @Version column covers the window from here to the flush; a PUT without a version
+        // applies to whatever was just read.
+        Long expected = dto.version() != null ? dto.version() : holiday.getVersion();
+        if (!Objects.equals(expected, holiday.getVersion())) {
+            throw staleVersion(id, expected);
+        }
         holiday.setDate(dto.date());
         holiday.setDescription(dto.description());
-        return toDto(holidayRepository.save(holiday));
+        Holiday saved;
+        try {
+            saved = holidayRepository.saveAndFlush(holiday);
+        } catch (OptimisticLockingFailureException ex) {
+            throw staleVersion(id, expected);
+        }
+        changeRepository.append(HolidayChange.of(saved.getId(), false));
+        HolidayDto result = toDto(saved);
+        eventRecorder.record(DomainEventType.UPDATED, saved.getId(), result);
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public long patch(Long id, HolidayPatchDto patch) {
+        int updated = holidayRepository.patch(id, patch.version(), patch.date(), patch.description());
+        if (updated == 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Holiday " + id + " does not exist or is no longer at version " + patch.version());
+        }
+        changeRepository.append(HolidayChange.of(id, false));
+        eventRecorder.record(DomainEventType.PATCHED, id, holidayRepository.findById(id).map(this::toDto).orElseThrow());
+        return patch.version() + 1;
     }
 
     @Override
+    @Transactional
     public void delete(Long id) {
         holidayRepository.deleteById(id);
+        changeRepository.append(HolidayChange.of(id, true));
+        eventRecorder.record(DomainEventType.DELETED, id, null);
+    }
+
+    @Override
+    public ChangeFeedDto<HolidayDto> changes(long since) {
+        List<HolidayChange> changes = changeRepository.findTop500ByVersionGreaterThanOrderByVersionAsc(since);
+        if (changes.isEmpty()) {
+            return new ChangeFeedDto<>(since, false, List.of(), List.of());
+        }
+        Map<Long, Boolean> latest = new LinkedHashMap<>();
+        changes.forEach(change -> {
+            latest.remove(change.getHolidayId());
+            latest.put(change.getHolidayId(), change.isDeleted());
+        });
+        List<Long> deletedIds = latest.entrySet().stream().filter(Map.Entry::getValue).map(Map.Entry::getKey).toList();
+        List<Long> upsertIds = latest.entrySet().stream().filter(entry -> !entry.getValue()).map(Map.Entry::getKey).toList();
+        List<HolidayDto> upserts = holidayRepository.findAllById(upsertIds).stream().map(this::toDto).toList();
+        long version = changes.get(changes.size() - 1).getVersion();
+        return new ChangeFeedDto<>(version, changes.size() == CHANGE_PAGE_SIZE, upserts, deletedIds);
     }
 
     @Override
@@ -54,8 +152,96 @@ public class HolidayServiceImpl implements HolidayService {
         return holidayRepository.findByDate(date).isPresent();
     }
 
+    @Override
+    public List<HolidayDto> findBetween(LocalDate from, LocalDate to) {
+        return holidayRepository.findByDateBetweenOrderByDate(from, to).stream().map(this::toDto).toList();
+    }
+
+    /**
+     * Parses the whole calendar first, so a slow upload holds no connection or lock, then upserts
+     * the days on {@code date} in one transaction: readers see the calendar before or after it,
+     * never half of it. Days outside the range, repeated in the file or already stored unchanged
+     * are skipped. The range cap keeps the parsed days small.
+     */
+    @Override
+    public HolidayImportResultDto importCalendar(InputStream body, CalendarFormat format, LocalDate from, LocalDate to) {
+        LocalDate start = from != null ? from : LocalDate.now().withDayOfYear(1);
+        LocalDate end = to != null ? to : start.withMonth(12).withDayOfMonth(31);
+        if (start.isAfter(end) || end.isAfter(start.plusYears(MAX_IMPORT_YEARS))) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "from must not be after to, and the range may span at most " + MAX_IMPORT_YEARS + " years");
+        }
+        ImportBatch batch = new ImportBatch(start, end);
+        try {
+            format.reader().read(new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)),
+                    start, end, batch::add);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Could not read the calendar", ex);
+        }
+        transactionTemplate.executeWithoutResult(status -> batch.write());
+        return new HolidayImportResultDto(start, end, batch.inserted, batch.updated, batch.skipped);
+    }
+
+    private final class ImportBatch {
+
+        private final LocalDate from;
+        private final LocalDate to;
+        private final Map<LocalDate, CalendarDay> days = new LinkedHashMap<>();
+        private int inserted;
+        private int updated;
+        private int skipped;
+
+        private ImportBatch(LocalDate from, LocalDate to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        private void add(CalendarDay day) {
+            if (day.date().isBefore(from) || day.date().isAfter(to) || days.putIfAbsent(day.date(), day) != null) {
+                skipped++;
+            }
+        }
+
+        private void write() {
+            // Taken before any holiday row, so an import never waits on the log while holding rows others need.
+            changeRepository.lockLog();
+            List<CalendarDay> pending = new ArrayList<>(days.values());
+            for (int i = 0; i < pending.size(); i += importBatchSize) {
+                List<CalendarDay> chunk = pending.subList(i, Math.min(pending.size(), i + importBatchSize));
+                List<HolidayRepository.UpsertedHoliday> saved = holidayRepository.upsertAll(toJson(chunk));
+                skipped += chunk.size() - saved.size();
+                changeRepository.appendAll(saved.stream().map(holiday -> HolidayChange.of(holiday.getId(), false)).toList());
+                for (HolidayRepository.UpsertedHoliday holiday : saved) {
+                    boolean isNew = Boolean.TRUE.equals(holiday.getInserted());
+                    eventRecorder.record(isNew ? DomainEventType.CREATED : DomainEventType.UPDATED, holiday.getId(),
+                            new HolidayDto(holiday.getId(), holiday.getDate(), holiday.getDescription(), holiday.getVersion()));
+                    if (isNew) {
+                        inserted++;
+                    } else {
+                        updated++;
+                    }
+                }
+            }
+        }
+    }
+
+    private String toJson(List<CalendarDay> days) {
+        try {
+            return objectMapper.writeValueAsString(days);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize the imported days", ex);
+        }
+    }
+
+    private static ResponseStatusException staleVersion(Long id, Long version) {
+        return new ResponseStatusException(HttpStatus.CONFLICT, "Holiday " + id + " is no longer at version " + version);
+    }
+
     private HolidayDto toDto(Holiday holiday) {
-        return new HolidayDto(holiday.getId(), holiday.getDate(), holiday.getDescription());
+        return new HolidayDto(holiday.getId(), holiday.getDate(), holiday.getDescription(),
+                holiday.getVersion());
     }
 
     private Holiday toEntity(HolidayDto dto) {
@@ -0,0 +1,79 @@
+package com.schoolscheduler.holidayservice.importer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CsvCalendarReaderTest {
+
+    private final CsvCalendarReader reader = new CsvCalendarReader();
+
+    @Test
+    void skipsTheHeaderLine() throws IOException {
+        List<CalendarDay> days = read("fecha,descripcion\n2025-09-18,Independencia\n");
+
+        assertEquals(List.of(day("2025-09-18", "Independencia")), days);
+    }
+
+    @Test
+    void stripsTheByteOrderMarkBeforeTheFirstDate() throws IOException {
+        List<CalendarDay> days = read("\uFEFF2025-01-01,Año Nuevo\n2025-05-01,Día del Trabajo\n");
+
+        assertEquals(List.of(day("2025-01-01", "Año Nuevo"), day("2025-05-01", "Día del Trabajo")), days);
+    }
+
+    @Test
+    void stripsTheByteOrderMarkBeforeTheHeader() throws IOException {
+        List<CalendarDay> days = read("\uFEFFfecha;descripcion\n18-09-2025;Independencia\n");
+
+        assertEquals(List.of(day("2025-09-18", "Independencia")), days);
+    }
+
+    @Test
+    void keepsSeparatorsAndDoubledQuotesInsideQuotedFields() throws IOException {
+        List<CalendarDay> days = read("\"2025-12-08\",\"Inmaculada Concepción, \"\"feriado\"\" religioso\"\n");
+
+        assertEquals(List.of(day("2025-12-08", "Inmaculada Concepción, \"feriado\" religioso")), days);
+    }
+
+    @Test
+    void acceptsSemicolonsAndDayFirstDates() throws IOException {
+        List<CalendarDay> days = read("21/05/2025;Glorias Navales\n29-06-2025;San Pedro y San Pablo\n");
+
+        assertEquals(List.of(day("2025-05-21", "Glorias Navales"), day("2025-06-29", "San Pedro y San Pablo")), days);
+    }
+
+    @Test
+    void usesTheDefaultDescriptionAndSkipsBlankLines() throws IOException {
+        List<CalendarDay> days = read("2025-10-12\n\n2025-10-31,  \n");
+
+        assertEquals(List.of(day("2025-10-12", CalendarReader.DEFAULT_DESCRIPTION),
+                day("2025-10-31", CalendarReader.DEFAULT_DESCRIPTION)), days);
+    }
+
+    @Test
+    void rejectsAnUnreadableDateAfterTheFirstLine() {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> read("2025-01-01,Año Nuevo\n2025-13-01,Nunca\n"));
+
+        assertEquals("Line 2: unreadable date '2025-13-01'", error.getMessage());
+    }
+
+    private List<CalendarDay> read(String csv) throws IOException {
+        List<CalendarDay> days = new ArrayList<>();
+        reader.read(new BufferedReader(new StringReader(csv)), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31),
+                days::add);
+        return days;
+    }
+
+    private static CalendarDay day(String date, String description) {
+        return new CalendarDay(LocalDate.parse(date), description);
+    }
+}
@@ -0,0 +1,171 @@
+package com.schoolscheduler.holidayservice.importer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ICalendarReaderTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 12, 31);
+
+    private final ICalendarReader reader = new ICalendarReader();
+
+    @Test
+    void expandsWeeklyRuleUpToCount() throws IOException {
+        List<CalendarDay> days = read(event("DTSTART;VALUE=DATE:20250303", "RRULE:FREQ=WEEKLY;COUNT=3"));
+
+        assertEquals(dates("2025-03-03", "2025-03-10", "2025-03-17"), datesOf(days));
+    }
+
+    @Test
+    void expandsWeeklyRuleWithIntervalUpToUntil() throws IOException {
+        List<CalendarDay> days = read(event("DTSTART;VALUE=DATE:20250303",
+                "RRULE:FREQ=WEEKLY;INTERVAL=2;UNTIL=20250401"));
+
+        assertEquals(dates("2025-03-03", "2025-03-17", "2025-03-31"), datesOf(days));
+    }
+
+    @Test
+    void expandsDailyRuleUpToCount() throws IOException {
+        List<CalendarDay> days = read(event("DTSTART;VALUE=DATE:20251222", "RRULE:FREQ=DAILY;COUNT=3"));
+
+        assertEquals(dates("2025-12-22", "2025-12-23", "2025-12-24"), datesOf(days));
+    }
+
+    @Test
+    void expandsDailyRuleUpToUntilAndOnlyFromTheRangeStart() throws IOException {
+        List<CalendarDay> days = read(event("DTSTART;VALUE=DATE:20241230", "RRULE:FREQ=DAILY;UNTIL=20250102T000000Z"));
+
+        assertEquals(dates("2025-01-01", "2025-01-02"), datesOf(days));
+    }
+
+    @Test
+    void skipsMonthsWithoutTheStartDayAndCountsOnlyRealOccurrences() throws IOException {
+        List<CalendarDay> days = read(event("DTSTART;VALUE=DATE:20250131", "RRULE:FREQ=MONTHLY;COUNT=4"));
+
+        assertEquals(dates("2025-01-31", "2025-03-31", "2025-05-31", "2025-07-31"), datesOf(days));
+    }
+
+    @Test
+    void skipsMonthsWithoutTheStartDayUpToUntil() throws IOException {
+        List<CalendarDay> days = read(event("DTSTART;VALUE=DATE:20250131", "RRULE:FREQ=MONTHLY;UNTIL=20250630"));
+
+        assertEquals(dates("2025-01-31", "2025-03-31", "2025-05-31"), datesOf(days));
+    }
+
+    @Test
+    void repeatsLeapDayOnlyInLeapYearsUpToCount() throws IOException {
+        List<CalendarDay> days = read(event("DTSTART;VALUE=DATE:20240229", "RRULE:FREQ=YEARLY;COUNT=2"),
+                LocalDate.of(2024, 1, 1), LocalDate.of(2033, 12, 31));
+
+        assertEquals(dates("2024-02-29", "2028-02-29"), datesOf(days));
+    }
+
+    @Test
+    void repeatsLeapDayOnlyInLeapYearsUpToUntil() throws IOException {
+        List<CalendarDay> days = read(event("DTSTART;VALUE=DATE:20240229", "RRULE:FREQ=YEARLY;UNTIL=20321231"),
+                LocalDate.of(2024, 1, 1), LocalDate.of(2033, 12, 31));
+
+        assertEquals(dates("2024-02-29", "2028-02-29", "2032-02-29"), datesOf(days));
+    }
+
+    @Test
+    void leavesOutExcludedOccurrencesWhichStillCountTowardsCount() throws IOException {
+        List<CalendarDay> days = read(event("DTSTART;VALUE=DATE:20250303", "RRULE:FREQ=WEEKLY;COUNT=3",
+                "EXDATE;VALUE=DATE:20250310"));
+
+        assertEquals(dates("2025-03-03", "2025-03-17"), datesOf(days));
+    }
+
+    @Test
+    void coversEveryDayUpToTheExclusiveEnd() throws IOException {
+        List<CalendarDay> days = read(event("DTSTART;VALUE=DATE:20250915", "DTEND;VALUE=DATE:20250920",
+                "SUMMARY:Fiestas Patrias"));
+
+        assertEquals(dates("2025-09-15", "2025-09-16", "2025-09-17", "2025-09-18", "2025-09-19"), datesOf(days));
+        assertEquals("Fiestas Patrias", days.get(0).description());
+    }
+
+    @Test
+    void coversEveryDayOfTheDuration() throws IOException {
+        List<CalendarDay> days = read(event("DTSTART;VALUE=DATE:20250714", "DURATION:P3D"));
+
+        assertEquals(dates("2025-07-14", "2025-07-15", "2025-07-16"), datesOf(days));
+    }
+
+    @Test
+    void countsTheDayOfAnEndThatIsNotMidnight() throws IOException {
+        List<CalendarDay> days = read(event("DTSTART:20250915T080000", "DTEND:20250916T120000"));
+
+        assertEquals(dates("2025-09-15", "2025-09-16"), datesOf(days));
+    }
+
+    @Test
+    void repeatsEveryDayOfAMultiDayEvent() throws IOException {
+        List<CalendarDay> days = read(event("DTSTART;VALUE=DATE:20250101", "DTEND;VALUE=DATE:20250103",
+                "RRULE:FREQ=MONTHLY;INTERVAL=6;COUNT=2"));
+
+        assertEquals(dates("2025-01-01", "2025-01-02", "2025-07-01", "2025-07-02"), datesOf(days));
+    }
+
+    @Test
+    void rejectsByDayRules() {
+        assertThrows(IllegalArgumentException.class,
+                () -> read(event("DTSTART;VALUE=DATE:20250303", "RRULE:FREQ=WEEKLY;BYDAY=MO,WE")));
+        assertThrows(IllegalArgumentException.class,
+                () -> read(event("DTSTART;VALUE=DATE:20250420", "RRULE:FREQ=YEARLY;BYMONTH=4;BYDAY=3SU")));
+    }
+
+    @Test
+    void acceptsRulePartsThatRestateTheStartDate() throws IOException {
+        List<CalendarDay> days = read(event("DTSTART;VALUE=DATE:20230918",
+                "RRULE:FREQ=YEARLY;BYMONTH=9;BYMONTHDAY=18"));
+
+        assertEquals(dates("2025-09-18"), datesOf(days));
+    }
+
+    @Test
+    void unfoldsContinuationLinesAndUnescapesTheSummary() throws IOException {
+        List<CalendarDay> days = read(event("DTSTART;VALUE=DATE:20251225", "SUMMARY:Navidad\\, d", " ía feriado"));
+
+        assertEquals(List.of(new CalendarDay(LocalDate.of(2025, 12, 25), "Navidad, día feriado")), days);
+    }
+
+    @Test
+    void skipsCancelledEvents() throws IOException {
+        List<CalendarDay> days = read(event("DTSTART;VALUE=DATE:20251225", "STATUS:CANCELLED"));
+
+        assertEquals(List.of(), days);
+    }
+
+    private List<CalendarDay> read(String calendar) throws IOException {
+        return read(calendar, FROM, TO);
+    }
+
+    private List<CalendarDay> read(String calendar, LocalDate from, LocalDate to) throws IOException {
+        List<CalendarDay> days = new ArrayList<>();
+        reader.read(new BufferedReader(new StringReader(calendar)), from, to, days::add);
+        return days;
+    }
+
+    private static String event(String... properties) {
+        return "BEGIN:VCALENDAR\r\nBEGIN:VEVENT\r\n" + String.join("\r\n", properties)
+                + "\r\nEND:VEVENT\r\nEND:VCALENDAR\r\n";
+    }
+
+    private static List<LocalDate> dates(String... values) {
+        return List.of(values).stream().map(LocalDate::parse).toList();
+    }
+
+    private static List<LocalDate> datesOf(List<CalendarDay> days) {
+        return days.stream().map(CalendarDay::date).toList();
+    }
+}
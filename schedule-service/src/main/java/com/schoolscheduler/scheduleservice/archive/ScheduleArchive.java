@@ -0,0 +1,171 @@
+package com.schoolscheduler.scheduleservice.archive;
+
+import com.schoolscheduler.scheduleservice.engine.ScheduledSession;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only view of one archived school year. The file is memory-mapped once and the columns are
+ * read in place with absolute gets, so lookups copy nothing but the rows they return and the
+ * instance can be shared by any number of threads.
+ */
+public final class ScheduleArchive {
+
+    private final Path file;
+    private final int year;
+    private final int rows;
+    private final int courses;
+    private final long size;
+    private final ByteBuffer courseIndex;
+    private final LongBuffer courseColumn;
+    private final LongBuffer subjectColumn;
+    private final LongBuffer teacherColumn;
+    private final ByteBuffer dayColumn;
+    private final ByteBuffer blockColumn;
+    private final Map<String, long[]> coursesByLevel;
+
+    private ScheduleArchive(Path file, MappedByteBuffer mapped) throws IOException {
+        if (mapped.getInt(0) != ScheduleArchiveFormat.MAGIC
+                || mapped.getInt(4) != ScheduleArchiveFormat.FORMAT_VERSION) {
+            throw new IOException(file + " is not a schedule archive");
+        }
+        this.file = file;
+        this.year = mapped.getInt(8);
+        this.rows = mapped.getInt(12);
+        this.courses = mapped.getInt(16);
+        this.size = mapped.capacity();
+        int levels = mapped.getInt(20);
+        this.courseIndex = slice(mapped, ScheduleArchiveFormat.courseIndexOffset(),
+                (long) courses * ScheduleArchiveFormat.COURSE_INDEX_ENTRY_BYTES);
+        this.courseColumn = slice(mapped, ScheduleArchiveFormat.courseColumnOffset(courses),
+                (long) rows * Long.BYTES).asLongBuffer();
+        this.subjectColumn = slice(mapped, ScheduleArchiveFormat.subjectColumnOffset(courses, rows),
+                (long) rows * Long.BYTES).asLongBuffer();
+        this.teacherColumn = slice(mapped, ScheduleArchiveFormat.teacherColumnOffset(courses, rows),
+                (long) rows * Long.BYTES).asLongBuffer();
+        this.dayColumn = slice(mapped, ScheduleArchiveFormat.dayColumnOffset(courses, rows), rows);
+        this.blockColumn = slice(mapped, ScheduleArchiveFormat.blockColumnOffset(courses, rows), rows);
+        this.coursesByLevel = readLevels(mapped, ScheduleArchiveFormat.levelSectionOffset(courses, rows), levels);
+    }
+
+    public static ScheduleArchive open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed.
+            return new ScheduleArchive(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    public int year() {
+        return year;
+    }
+
+    public int rowCount() {
+        return rows;
+    }
+
+    public long sizeInBytes() {
+        return size;
+    }
+
+    public List<String> levels() {
+        return List.copyOf(coursesByLevel.keySet());
+    }
+
+    public List<ScheduledSession> course(long courseId) {
+        int entry = findCourse(courseId);
+        if (entry < 0) {
+            return List.of();
+        }
+        int offset = entry * ScheduleArchiveFormat.COURSE_INDEX_ENTRY_BYTES;
+        int first = courseIndex.getInt(offset + Long.BYTES);
+        int count = courseIndex.getInt(offset + Long.BYTES + Integer.BYTES);
+        List<ScheduledSession> sessions = new ArrayList<>(count);
+        for (int row = first; row < first + count; row++) {
+            sessions.add(session(row));
+        }
+        return sessions;
+    }
+
+    public List<ScheduledSession> level(String levelId) {
+        long[] levelCourses = coursesByLevel.get(levelId);
+        if (levelCourses == null) {
+            return List.of();
+        }
+        List<ScheduledSession> sessions = new ArrayList<>();
+        for (long courseId : levelCourses) {
+            sessions.addAll(course(courseId));
+        }
+        return sessions;
+    }
+
+    /** Teachers are not indexed: the scan walks one mapped column and touches no other page. */
+    public List<ScheduledSession> teacher(long teacherId) {
+        List<ScheduledSession> sessions = new ArrayList<>();
+        for (int row = 0; row < rows; row++) {
+            if (teacherColumn.get(row) == teacherId) {
+                sessions.add(session(row));
+            }
+        }
+        return sessions;
+    }
+
+    private ScheduledSession session(int row) {
+        return new ScheduledSession(courseColumn.get(row), dayColumn.get(row), blockColumn.get(row),
+                subjectColumn.get(row), teacherColumn.get(row), null);
+    }
+
+    private int findCourse(long courseId) {
+        int low = 0;
+        int high = courses - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long candidate = courseIndex.getLong(middle * ScheduleArchiveFormat.COURSE_INDEX_ENTRY_BYTES);
+            if (candidate < courseId) {
+                low = middle + 1;
+            } else if (candidate > courseId) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, long offset, long length) {
+        return buffer.slice((int) offset, (int) length);
+    }
+
+    private static Map<String, long[]> readLevels(ByteBuffer mapped, long offset, int levels) {
+        Map<String, long[]> result = new LinkedHashMap<>();
+        int position = (int) offset;
+        for (int i = 0; i < levels; i++) {
+            byte[] name = new byte[mapped.getShort(position)];
+            position += Short.BYTES;
+            mapped.get(position, name);
+            position += name.length;
+            long[] levelCourses = new long[mapped.getInt(position)];
+            position += Integer.BYTES;
+            for (int c = 0; c < levelCourses.length; c++) {
+                levelCourses[c] = mapped.getLong(position);
+                position += Long.BYTES;
+            }
+            result.put(new String(name, StandardCharsets.UTF_8), levelCourses);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+}
@@ -0,0 +1,57 @@
+package com.schoolscheduler.scheduleservice.archive;
+
+/**
+ * Layout of a yearly archive file. All numbers are big-endian and every section starts on an
+ * 8-byte boundary so the long columns can be viewed in place:
+ *
+ * <pre>
+ * header        magic, format, year, rows, courses, levels, levelSectionBytes (int each), padding
+ * course index  courses x (long courseId, int firstRow, int rowCount), sorted by courseId
+ * columns       long course[rows], long subjectId[rows], long teacherId[rows], byte day[rows], byte block[rows]
+ * levels        levels x (short nameBytes, UTF-8 name, int courseCount, long courseId[courseCount])
+ * </pre>
+ *
+ * Rows are sorted by (course, day, block), so the rows of one course are contiguous.
+ */
+final class ScheduleArchiveFormat {
+
+    static final int MAGIC = 0x53434841;
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    static final int COURSE_INDEX_ENTRY_BYTES = 16;
+
+    private ScheduleArchiveFormat() {
+    }
+
+    static long courseIndexOffset() {
+        return HEADER_BYTES;
+    }
+
+    static long courseColumnOffset(int courses) {
+        return courseIndexOffset() + (long) courses * COURSE_INDEX_ENTRY_BYTES;
+    }
+
+    static long subjectColumnOffset(int courses, int rows) {
+        return courseColumnOffset(courses) + (long) rows * Long.BYTES;
+    }
+
+    static long teacherColumnOffset(int courses, int rows) {
+        return subjectColumnOffset(courses, rows) + (long) rows * Long.BYTES;
+    }
+
+    static long dayColumnOffset(int courses, int rows) {
+        return teacherColumnOffset(courses, rows) + (long) rows * Long.BYTES;
+    }
+
+    static long blockColumnOffset(int courses, int rows) {
+        return dayColumnOffset(courses, rows) + rows;
+    }
+
+    static long levelSectionOffset(int courses, int rows) {
+        return align(blockColumnOffset(courses, rows) + rows);
+    }
+
+    static long align(long offset) {
+        return (offset + 7) & ~7L;
+    }
+}
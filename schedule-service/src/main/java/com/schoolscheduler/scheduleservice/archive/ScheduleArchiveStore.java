@@ -0,0 +1,78 @@
+package com.schoolscheduler.scheduleservice.archive;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Directory of yearly archive files ({@code <year>.schedule}). Each file is mapped on first use and
+ * the mapping is kept for the life of the service.
+ */
+@Component
+public class ScheduleArchiveStore {
+
+    private static final Pattern FILE_NAME = Pattern.compile("(\\d{4})\\.schedule");
+
+    private final Path directory;
+    private final Map<Integer, ScheduleArchive> open = new ConcurrentHashMap<>();
+
+    public ScheduleArchiveStore(@Value("${scheduler.archive.directory:archive}") Path directory) {
+        this.directory = directory;
+    }
+
+    public Path fileFor(int year) {
+        return directory.resolve(year + ".schedule");
+    }
+
+    public boolean exists(int year) {
+        return Files.exists(fileFor(year));
+    }
+
+    public Optional<ScheduleArchive> find(int year) {
+        if (!open.containsKey(year) && !exists(year)) {
+            return Optional.empty();
+        }
+        return Optional.of(open.computeIfAbsent(year, key -> {
+            try {
+                return ScheduleArchive.open(fileFor(key));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+    }
+
+    // For a close-out that rolled back: the file must go, or a retry would be refused as already archived.
+    public void discard(int year) {
+        open.remove(year);
+        try {
+            Files.deleteIfExists(fileFor(year));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public List<Integer> years() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> FILE_NAME.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(matcher -> Integer.valueOf(matcher.group(1)))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
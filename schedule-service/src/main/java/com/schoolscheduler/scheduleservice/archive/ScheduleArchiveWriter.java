@@ -0,0 +1,110 @@
+package com.schoolscheduler.scheduleservice.archive;
+
+import com.schoolscheduler.scheduleservice.engine.ScheduledSession;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Writes the schedules of a closed school year into one columnar file. The file is built under a
+ * temporary name of its own next to the final one and then linked into place, so readers never map
+ * a partially written archive and a concurrent close-out of the same year fails with
+ * {@link FileAlreadyExistsException} instead of replacing it.
+ */
+public final class ScheduleArchiveWriter {
+
+    private ScheduleArchiveWriter() {
+    }
+
+    public static long write(Path target, int year, Map<String, List<ScheduledSession>> sessionsByLevel)
+            throws IOException {
+        List<ScheduledSession> rows = sessionsByLevel.values().stream()
+                .flatMap(List::stream)
+                .sorted(Comparator.comparing(ScheduledSession::courseId)
+                        .thenComparingInt(ScheduledSession::day)
+                        .thenComparingInt(ScheduledSession::block))
+                .toList();
+        Map<Long, int[]> courseRanges = new TreeMap<>();
+        for (int row = 0; row < rows.size(); row++) {
+            int current = row;
+            courseRanges.computeIfAbsent(rows.get(row).courseId(), id -> new int[] {current, 0})[1]++;
+        }
+        List<byte[]> levelNames = new ArrayList<>();
+        List<List<Long>> levelCourses = new ArrayList<>();
+        int levelSectionBytes = 0;
+        for (Map.Entry<String, List<ScheduledSession>> level : new TreeMap<>(sessionsByLevel).entrySet()) {
+            byte[] name = level.getKey().getBytes(StandardCharsets.UTF_8);
+            List<Long> courses = level.getValue().stream().map(ScheduledSession::courseId).distinct().sorted().toList();
+            levelNames.add(name);
+            levelCourses.add(courses);
+            levelSectionBytes += Short.BYTES + name.length + Integer.BYTES + courses.size() * Long.BYTES;
+        }
+
+        int rowCount = rows.size();
+        int courseCount = courseRanges.size();
+        long levelOffset = ScheduleArchiveFormat.levelSectionOffset(courseCount, rowCount);
+        long size = levelOffset + levelSectionBytes;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Archive for " + year + " would exceed 2 GiB");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        buffer.putInt(ScheduleArchiveFormat.MAGIC)
+                .putInt(ScheduleArchiveFormat.FORMAT_VERSION)
+                .putInt(year)
+                .putInt(rowCount)
+                .putInt(courseCount)
+                .putInt(levelNames.size())
+                .putInt(levelSectionBytes);
+
+        buffer.position((int) ScheduleArchiveFormat.courseIndexOffset());
+        courseRanges.forEach((courseId, range) -> buffer.putLong(courseId).putInt(range[0]).putInt(range[1]));
+
+        int courseColumn = (int) ScheduleArchiveFormat.courseColumnOffset(courseCount);
+        int subjectColumn = (int) ScheduleArchiveFormat.subjectColumnOffset(courseCount, rowCount);
+        int teacherColumn = (int) ScheduleArchiveFormat.teacherColumnOffset(courseCount, rowCount);
+        int dayColumn = (int) ScheduleArchiveFormat.dayColumnOffset(courseCount, rowCount);
+        int blockColumn = (int) ScheduleArchiveFormat.blockColumnOffset(courseCount, rowCount);
+        for (int row = 0; row < rowCount; row++) {
+            ScheduledSession session = rows.get(row);
+            buffer.putLong(courseColumn + row * Long.BYTES, session.courseId());
+            buffer.putLong(subjectColumn + row * Long.BYTES, session.subjectId());
+            buffer.putLong(teacherColumn + row * Long.BYTES, session.teacherId());
+            buffer.put(dayColumn + row, (byte) session.day());
+            buffer.put(blockColumn + row, (byte) session.block());
+        }
+
+        buffer.position((int) levelOffset);
+        for (int i = 0; i < levelNames.size(); i++) {
+            buffer.putShort((short) levelNames.get(i).length).put(levelNames.get(i));
+            buffer.putInt(levelCourses.get(i).size());
+            levelCourses.get(i).forEach(buffer::putLong);
+        }
+        buffer.flip();
+
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        Path temp = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName() + ".", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            // Unlike a rename, a link never replaces an existing target.
+            Files.createLink(target, temp);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return size;
+    }
+}
@@ -0,0 +1,118 @@
+package com.schoolscheduler.scheduleservice.client;
+
+import com.schoolscheduler.scheduleservice.service.DatasetSnapshotProvider;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Follows the event-service stream and drops the cached dataset snapshot whenever one of the
+ * generator inputs changes, so simulations see edits without waiting for the snapshot TTL.
+ */
+@Component
+@ConditionalOnProperty(name = "scheduler.events.subscribe", havingValue = "true", matchIfMissing = true)
+public class DataChangeSubscriber {
+
+    private static final String DATASET_TYPES = "subject,teacher,course,classroom,config";
+    private static final long INITIAL_BACKOFF_MILLIS = 1_000;
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+    private final RestClient restClient;
+    private final DatasetSnapshotProvider snapshotProvider;
+    private final String eventsUrl;
+    private volatile boolean running;
+    private volatile String lastEventId;
+    private Thread worker;
+
+    public DataChangeSubscriber(RestClient.Builder restClientBuilder,
+                                DatasetSnapshotProvider snapshotProvider,
+                                @Value("${scheduler.events.url:http://event-service}") String eventsUrl) {
+        this.restClient = restClientBuilder.build();
+        this.snapshotProvider = snapshotProvider;
+        this.eventsUrl = eventsUrl;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::run, "data-change-subscriber");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    private void run() {
+        long backoffMillis = INITIAL_BACKOFF_MILLIS;
+        while (running) {
+            try {
+                follow();
+                backoffMillis = INITIAL_BACKOFF_MILLIS;
+            } catch (RuntimeException ex) {
+                backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+            }
+            // Events may have been lost while disconnected (event-service keeps them in memory only).
+            snapshotProvider.invalidate();
+            try {
+                Thread.sleep(backoffMillis);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void follow() {
+        RestClient.RequestHeadersSpec<?> request = restClient.get()
+                .uri(eventsUrl + "/api/events/stream?types=" + DATASET_TYPES)
+                .accept(MediaType.TEXT_EVENT_STREAM);
+        String resumeFrom = lastEventId;
+        if (resumeFrom != null) {
+            request = request.header("Last-Event-ID", resumeFrom);
+        }
+        request.exchange((httpRequest, response) -> {
+            if (!response.getStatusCode().is2xxSuccessful()) {
+                throw new IllegalStateException("Event stream returned " + response.getStatusCode());
+            }
+            consume(response.getBody());
+            return null;
+        });
+    }
+
+    private void consume(InputStream body) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        boolean pendingEvent = false;
+        String line;
+        while (running && (line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                if (pendingEvent) {
+                    snapshotProvider.invalidate();
+                    pendingEvent = false;
+                }
+            } else if (line.startsWith("id:")) {
+                lastEventId = line.substring(3).trim();
+            } else if (line.startsWith("data:")) {
+                pendingEvent = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.schoolscheduler.scheduleservice.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schoolscheduler.scheduleservice.service.model.ClassroomData;
+import com.schoolscheduler.scheduleservice.service.model.CourseData;
+import com.schoolscheduler.scheduleservice.service.model.DatasetSnapshot;
+import com.schoolscheduler.scheduleservice.service.model.HolidayData;
+import com.schoolscheduler.scheduleservice.service.model.SchedulerConfig;
+import com.schoolscheduler.scheduleservice.service.model.SourceStatus;
+import com.schoolscheduler.scheduleservice.service.model.SubjectData;
+import com.schoolscheduler.scheduleservice.service.model.TeacherData;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Fetches the generator inputs concurrently. Each upstream has its own bulkhead (a fixed number
+ * of in-flight calls) and every call has a timeout. The last successful result of each dataset is
+ * kept with a content version, and is used when the upstream is slow, failing or saturated.
+ */
+@Component
+public class ResilientDataFetcher {
+
+    private static final int MAX_CACHED_HOLIDAY_RANGES = 32;
+
+    private final SchedulerDataClient dataClient;
+    private final ExecutorService executor;
+    private final ObjectMapper objectMapper;
+    private final Duration callTimeout;
+    private final int maxConcurrentCalls;
+    private final Map<String, Semaphore> bulkheads = new ConcurrentHashMap<>();
+    private final Map<String, Versioned<?>> lastKnownGood = new ConcurrentHashMap<>();
+    private final Map<String, Versioned<List<HolidayData>>> holidayRanges = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Versioned<List<HolidayData>>> eldest) {
+            return size() > MAX_CACHED_HOLIDAY_RANGES;
+        }
+    };
+
+    public ResilientDataFetcher(SchedulerDataClient dataClient,
+                                @Qualifier("dataFetchExecutor") ExecutorService executor,
+                                ObjectMapper objectMapper,
+                                @Value("${scheduler.clients.call-timeout:PT3S}") Duration callTimeout,
+                                @Value("${scheduler.clients.max-concurrent-calls:4}") int maxConcurrentCalls) {
+        this.dataClient = dataClient;
+        this.executor = executor;
+        this.objectMapper = objectMapper;
+        this.callTimeout = callTimeout;
+        this.maxConcurrentCalls = Math.max(1, maxConcurrentCalls);
+    }
+
+    public DatasetSnapshot fetchSnapshot() {
+        CompletableFuture<Result<List<SubjectData>>> subjects = fetch("subject-service", dataClient::fetchSubjects);
+        CompletableFuture<Result<List<TeacherData>>> teachers = fetch("teacher-service", dataClient::fetchTeachers);
+        CompletableFuture<Result<List<CourseData>>> courses = fetch("course-service", dataClient::fetchCourses);
+        CompletableFuture<Result<List<ClassroomData>>> classrooms = fetch("classroom-service", dataClient::fetchClassrooms);
+        CompletableFuture<Result<SchedulerConfig>> config = fetch("config-service", dataClient::fetchConfig);
+
+        Result<List<SubjectData>> subjectResult = await(subjects);
+        Result<List<TeacherData>> teacherResult = await(teachers);
+        Result<List<CourseData>> courseResult = await(courses);
+        Result<List<ClassroomData>> classroomResult = await(classrooms);
+        Result<SchedulerConfig> configResult = await(config);
+        Map<String, SourceStatus> sources = new LinkedHashMap<>();
+        List.of(subjectResult, teacherResult, courseResult, classroomResult, configResult)
+                .forEach(result -> sources.put(result.status().source(), result.status()));
+        return DatasetSnapshot.of(subjectResult.value(), teacherResult.value(), courseResult.value(),
+                classroomResult.value(), configResult.value(), sources);
+    }
+
+    public List<HolidayData> fetchHolidays(LocalDate from, LocalDate to) {
+        String key = from + ".." + to;
+        try {
+            List<HolidayData> holidays = call("holiday-service", () -> dataClient.fetchHolidays(from, to)).join();
+            synchronized (holidayRanges) {
+                holidayRanges.put(key, new Versioned<>(holidays, versionOf(holidays), Instant.now()));
+            }
+            return holidays;
+        } catch (CompletionException ex) {
+            synchronized (holidayRanges) {
+                Versioned<List<HolidayData>> cached = holidayRanges.get(key);
+                if (cached != null) {
+                    return cached.value();
+                }
+            }
+            throw unavailable("holiday-service", ex.getCause());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<Result<T>> fetch(String source, Supplier<T> supplier) {
+        return call(source, supplier).handle((value, error) -> {
+            if (error == null) {
+                Versioned<T> fresh = new Versioned<>(value, versionOf(value), Instant.now());
+                lastKnownGood.put(source, fresh);
+                return new Result<>(value, new SourceStatus(source, fresh.version(), fresh.fetchedAt(), false, null));
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            Versioned<T> cached = (Versioned<T>) lastKnownGood.get(source);
+            if (cached == null) {
+                throw unavailable(source, cause);
+            }
+            return new Result<>(cached.value(),
+                    new SourceStatus(source, cached.version(), cached.fetchedAt(), true, describe(cause)));
+        });
+    }
+
+    private <T> CompletableFuture<T> call(String source, Supplier<T> supplier) {
+        Semaphore bulkhead = bulkheads.computeIfAbsent(source, ignored -> new Semaphore(maxConcurrentCalls));
+        if (!bulkhead.tryAcquire()) {
+            return CompletableFuture.failedFuture(new IllegalStateException(source + " bulkhead is full"));
+        }
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return supplier.get();
+                } finally {
+                    bulkhead.release();
+                }
+            }, executor);
+        } catch (RuntimeException ex) {
+            bulkhead.release();
+            throw ex;
+        }
+        return future.orTimeout(callTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private String versionOf(Object value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(value));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (JsonProcessingException | NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("Could not compute dataset version", ex);
+        }
+    }
+
+    private String describe(Throwable cause) {
+        if (cause instanceof TimeoutException) {
+            return "timed out after " + callTimeout.toMillis() + " ms";
+        }
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+
+    private ResponseStatusException unavailable(String source, Throwable cause) {
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                source + " is unavailable and no earlier copy of its data is cached: " + describe(cause), cause);
+    }
+
+    private record Versioned<T>(T value, String version, Instant fetchedAt) {
+    }
+
+    private record Result<T>(T value, SourceStatus status) {
+    }
+}
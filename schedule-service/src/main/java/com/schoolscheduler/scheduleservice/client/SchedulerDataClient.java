@@ -0,0 +1,101 @@
+package com.schoolscheduler.scheduleservice.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schoolscheduler.scheduleservice.configclient.ConfigSnapshot;
+import com.schoolscheduler.scheduleservice.configclient.ConfigWatcher;
+import com.schoolscheduler.scheduleservice.service.model.ClassroomData;
+import com.schoolscheduler.scheduleservice.service.model.ConfigEntry;
+import com.schoolscheduler.scheduleservice.service.model.CourseData;
+import com.schoolscheduler.scheduleservice.service.model.HolidayData;
+import com.schoolscheduler.scheduleservice.service.model.SchedulerConfig;
+import com.schoolscheduler.scheduleservice.service.model.SubjectData;
+import com.schoolscheduler.scheduleservice.service.model.TeacherData;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+@Component
+public class SchedulerDataClient {
+
+    private final RestClient restClient;
+    private final ObjectMapper objectMapper;
+    private final String subjectUrl;
+    private final String teacherUrl;
+    private final String courseUrl;
+    private final String classroomUrl;
+    private final String configUrl;
+    private final String holidayUrl;
+    private final ConfigWatcher configWatcher;
+
+    public SchedulerDataClient(RestClient.Builder restClientBuilder,
+                               ObjectMapper objectMapper,
+                               ConfigWatcher configWatcher,
+                               @Value("${scheduler.clients.subject-url}") String subjectUrl,
+                               @Value("${scheduler.clients.teacher-url}") String teacherUrl,
+                               @Value("${scheduler.clients.course-url}") String courseUrl,
+                               @Value("${scheduler.clients.classroom-url}") String classroomUrl,
+                               @Value("${scheduler.clients.config-url}") String configUrl,
+                               @Value("${scheduler.clients.holiday-url}") String holidayUrl,
+                               @Value("${scheduler.clients.connect-timeout:PT2S}") Duration connectTimeout,
+                               @Value("${scheduler.clients.read-timeout:PT10S}") Duration readTimeout) {
+        // The read timeout frees bulkhead permits held by calls the fetcher has already given up on.
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(
+                HttpClient.newBuilder().connectTimeout(connectTimeout).build());
+        requestFactory.setReadTimeout(readTimeout);
+        this.restClient = restClientBuilder.clone().requestFactory(requestFactory).build();
+        this.objectMapper = objectMapper;
+        this.subjectUrl = subjectUrl;
+        this.teacherUrl = teacherUrl;
+        this.courseUrl = courseUrl;
+        this.classroomUrl = classroomUrl;
+        this.configUrl = configUrl;
+        this.holidayUrl = holidayUrl;
+        this.configWatcher = configWatcher;
+    }
+
+    public List<SubjectData> fetchSubjects() {
+        return restClient.get().uri(subjectUrl + "/api/subjects").retrieve()
+                .body(new ParameterizedTypeReference<List<SubjectData>>() { });
+    }
+
+    public List<TeacherData> fetchTeachers() {
+        return restClient.get().uri(teacherUrl + "/api/teachers").retrieve()
+                .body(new ParameterizedTypeReference<List<TeacherData>>() { });
+    }
+
+    public List<CourseData> fetchCourses() {
+        return restClient.get().uri(courseUrl + "/api/courses").retrieve()
+                .body(new ParameterizedTypeReference<List<CourseData>>() { });
+    }
+
+    public List<ClassroomData> fetchClassrooms() {
+        return restClient.get().uri(classroomUrl + "/api/classrooms").retrieve()
+                .body(new ParameterizedTypeReference<List<ClassroomData>>() { });
+    }
+
+    // Served from the pushed snapshot; config-service is only queried until the first one arrives.
+    public SchedulerConfig fetchConfig() {
+        ConfigSnapshot snapshot = configWatcher.current();
+        if (snapshot.version() >= 0) {
+            return SchedulerConfig.fromEntries(snapshot.entries().stream()
+                    .map(entry -> new ConfigEntry(entry.id(), entry.key(), entry.value()))
+                    .toList(), objectMapper);
+        }
+        List<ConfigEntry> entries = restClient.get().uri(configUrl + "/api/config").retrieve()
+                .body(new ParameterizedTypeReference<List<ConfigEntry>>() { });
+        return SchedulerConfig.fromEntries(entries != null ? entries : List.of(), objectMapper);
+    }
+
+    public List<HolidayData> fetchHolidays(LocalDate from, LocalDate to) {
+        List<HolidayData> holidays = restClient.get()
+                .uri(holidayUrl + "/api/holidays/range?from={from}&to={to}", from, to).retrieve()
+                .body(new ParameterizedTypeReference<List<HolidayData>>() { });
+        return holidays != null ? holidays : List.of();
+    }
+}
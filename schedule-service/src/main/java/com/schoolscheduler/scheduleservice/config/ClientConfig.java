@@ -0,0 +1,56 @@
+package com.schoolscheduler.scheduleservice.config;
+
+import com.schoolscheduler.scheduleservice.configclient.ConfigWatcher;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestClient;
+
+@Configuration
+public class ClientConfig {
+
+    @Bean
+    @LoadBalanced
+    public RestClient.Builder loadBalancedRestClientBuilder() {
+        return RestClient.builder();
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ConfigWatcher configWatcher(RestClient.Builder restClientBuilder,
+                                       @Value("${scheduler.clients.config-url}") String configUrl,
+                                       @Value("${scheduler.clients.config-watch-timeout:PT30S}") Duration wait) {
+        return new ConfigWatcher(restClientBuilder, configUrl, wait);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService simulationExecutor(@Value("${scheduler.simulation.max-parallel:4}") int maxParallel) {
+        return Executors.newFixedThreadPool(Math.max(1, maxParallel));
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService generationExecutor(@Value("${scheduler.generation.max-parallel:3}") int maxParallel) {
+        return Executors.newFixedThreadPool(Math.max(1, maxParallel));
+    }
+
+    // Unbounded: dispatch tasks wait on the HTTP calls they submit to the same pool.
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService workUnitExecutor() {
+        return Executors.newCachedThreadPool();
+    }
+
+    // A single thread: each run renders every timetable, so overlapping runs would only repeat work.
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService timetableSnapshotExecutor() {
+        return Executors.newSingleThreadExecutor();
+    }
+
+    // Unbounded on purpose: ResilientDataFetcher admits calls through per-upstream bulkheads first.
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService dataFetchExecutor() {
+        return Executors.newCachedThreadPool();
+    }
+}
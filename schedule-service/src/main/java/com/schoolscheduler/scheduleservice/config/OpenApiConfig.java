@@ -0,0 +1,18 @@
+package com.schoolscheduler.scheduleservice.config;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Info;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OpenApiConfig {
+
+    @Bean
+    public OpenAPI scheduleServiceOpenAPI() {
+        return new OpenAPI().info(new Info()
+                .title("Schedule Service API")
+                .description("Generate, publish and simulate school schedules")
+                .version("v1.0.0"));
+    }
+}
@@ -0,0 +1,24 @@
+package com.schoolscheduler.scheduleservice.configclient;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Immutable copy of every config-service entry at one config version. Version -1 means nothing
+ * has been received yet.
+ */
+public record ConfigSnapshot(long version, List<Entry> entries) {
+
+    public static final ConfigSnapshot EMPTY = new ConfigSnapshot(-1, List.of());
+
+    public record Entry(Long id, String key, String value) {
+    }
+
+    public ConfigSnapshot {
+        entries = entries != null ? List.copyOf(entries) : List.of();
+    }
+
+    public Optional<String> get(String key) {
+        return entries.stream().filter(entry -> entry.key().equals(key)).map(Entry::value).reduce((first, second) -> second);
+    }
+}
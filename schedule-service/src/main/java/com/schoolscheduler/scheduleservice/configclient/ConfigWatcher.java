@@ -0,0 +1,97 @@
+package com.schoolscheduler.scheduleservice.configclient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Keeps an always-current {@link ConfigSnapshot} by long-polling {@code /api/config/watch} on a
+ * daemon thread. Each newer snapshot replaces the previous one with a single volatile write, so
+ * {@link #current()} never blocks and callers never poll. The package depends only on Spring's
+ * {@link RestClient}, so other services can embed it as is.
+ */
+public final class ConfigWatcher {
+
+    private static final long INITIAL_BACKOFF_MILLIS = 1_000;
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+    private final RestClient restClient;
+    private final String configUrl;
+    private final Duration wait;
+    private final List<Consumer<ConfigSnapshot>> listeners = new CopyOnWriteArrayList<>();
+    private volatile ConfigSnapshot current = ConfigSnapshot.EMPTY;
+    private volatile boolean running;
+    private Thread worker;
+
+    public ConfigWatcher(RestClient.Builder restClientBuilder, String configUrl, Duration wait) {
+        // The read timeout leaves room for the server to answer 304 when the wait is over.
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory();
+        requestFactory.setReadTimeout(wait.plusSeconds(10));
+        this.restClient = restClientBuilder.clone().requestFactory(requestFactory).build();
+        this.configUrl = configUrl;
+        this.wait = wait;
+    }
+
+    public ConfigSnapshot current() {
+        return current;
+    }
+
+    /**
+     * Registers a callback run on the watcher thread after each swap.
+     */
+    public void addListener(Consumer<ConfigSnapshot> listener) {
+        listeners.add(listener);
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::run, "config-watcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    private void run() {
+        long backoffMillis = INITIAL_BACKOFF_MILLIS;
+        while (running) {
+            try {
+                poll();
+                backoffMillis = INITIAL_BACKOFF_MILLIS;
+            } catch (RuntimeException ex) {
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    private void poll() {
+        ResponseEntity<ConfigSnapshot> response = restClient.get()
+                .uri(configUrl + "/api/config/watch?version={version}&timeout={timeout}", current.version(), wait)
+                .retrieve()
+                .toEntity(ConfigSnapshot.class);
+        ConfigSnapshot snapshot = response.getBody();
+        if (response.getStatusCode().value() == 304 || snapshot == null || snapshot.version() <= current.version()) {
+            return;
+        }
+        current = snapshot;
+        listeners.forEach(listener -> listener.accept(snapshot));
+    }
+}
@@ -0,0 +1,52 @@
+package com.schoolscheduler.scheduleservice.controller;
+
+import com.schoolscheduler.scheduleservice.dto.ArchiveSummaryDto;
+import com.schoolscheduler.scheduleservice.dto.ScheduleEntryDto;
+import com.schoolscheduler.scheduleservice.service.ArchiveService;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/archives")
+public class ArchiveController {
+
+    private final ArchiveService archiveService;
+
+    public ArchiveController(ArchiveService archiveService) {
+        this.archiveService = archiveService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ArchiveSummaryDto>> findAll() {
+        return ResponseEntity.ok(archiveService.findAll());
+    }
+
+    @PostMapping("/{year}")
+    public ResponseEntity<ArchiveSummaryDto> archiveYear(@PathVariable int year,
+                                                         @RequestParam(defaultValue = "false") boolean purgeHistory) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(archiveService.archiveYear(year, purgeHistory));
+    }
+
+    @GetMapping("/{year}/levels/{levelId}")
+    public ResponseEntity<List<ScheduleEntryDto>> findByLevel(@PathVariable int year, @PathVariable String levelId) {
+        return ResponseEntity.ok(archiveService.findByLevel(year, levelId));
+    }
+
+    @GetMapping("/{year}/courses/{courseId}")
+    public ResponseEntity<List<ScheduleEntryDto>> findByCourse(@PathVariable int year, @PathVariable Long courseId,
+                                                               @RequestParam(required = false) Long subjectId) {
+        return ResponseEntity.ok(archiveService.findByCourse(year, courseId, subjectId));
+    }
+
+    @GetMapping("/{year}/teachers/{teacherId}")
+    public ResponseEntity<List<ScheduleEntryDto>> findByTeacher(@PathVariable int year, @PathVariable Long teacherId) {
+        return ResponseEntity.ok(archiveService.findByTeacher(year, teacherId));
+    }
+}
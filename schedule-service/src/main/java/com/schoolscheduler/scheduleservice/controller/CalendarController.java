@@ -0,0 +1,43 @@
+package com.schoolscheduler.scheduleservice.controller;
+
+import com.schoolscheduler.scheduleservice.dto.DatedSlotPageDto;
+import com.schoolscheduler.scheduleservice.service.CalendarService;
+import java.time.LocalDate;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/calendar")
+public class CalendarController {
+
+    private final CalendarService calendarService;
+
+    public CalendarController(CalendarService calendarService) {
+        this.calendarService = calendarService;
+    }
+
+    @GetMapping("/courses/{courseId}")
+    public ResponseEntity<DatedSlotPageDto> courseCalendar(
+            @PathVariable Long courseId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(calendarService.courseCalendar(courseId, from, to, page, size));
+    }
+
+    @GetMapping("/teachers/{teacherId}")
+    public ResponseEntity<DatedSlotPageDto> teacherCalendar(
+            @PathVariable Long teacherId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(calendarService.teacherCalendar(teacherId, from, to, page, size));
+    }
+}
@@ -0,0 +1,31 @@
+package com.schoolscheduler.scheduleservice.controller;
+
+import com.schoolscheduler.scheduleservice.dto.SourceStatusDto;
+import com.schoolscheduler.scheduleservice.service.DatasetSnapshotProvider;
+import com.schoolscheduler.scheduleservice.service.model.DatasetSnapshot;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/datasets")
+public class DatasetController {
+
+    private final DatasetSnapshotProvider snapshotProvider;
+
+    public DatasetController(DatasetSnapshotProvider snapshotProvider) {
+        this.snapshotProvider = snapshotProvider;
+    }
+
+    @GetMapping("/sources")
+    public ResponseEntity<List<SourceStatusDto>> sources(@RequestParam(defaultValue = "false") boolean refresh) {
+        DatasetSnapshot snapshot = refresh ? snapshotProvider.refresh() : snapshotProvider.current();
+        return ResponseEntity.ok(snapshot.sources().values().stream()
+                .map(status -> new SourceStatusDto(status.source(), status.version(), status.fetchedAt(),
+                        status.stale(), status.error()))
+                .toList());
+    }
+}
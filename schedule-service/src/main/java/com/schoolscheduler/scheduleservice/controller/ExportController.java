@@ -0,0 +1,54 @@
+package com.schoolscheduler.scheduleservice.controller;
+
+import com.schoolscheduler.scheduleservice.export.ExportFormat;
+import com.schoolscheduler.scheduleservice.service.ExportService;
+import com.schoolscheduler.scheduleservice.service.model.ExportFile;
+import java.nio.charset.StandardCharsets;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/exports")
+public class ExportController {
+
+    private final ExportService exportService;
+
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @GetMapping("/courses/{courseId}")
+    public ResponseEntity<StreamingResponseBody> course(@PathVariable Long courseId,
+                                                        @RequestParam(defaultValue = "pdf") String format) {
+        return stream(exportService.course(courseId, ExportFormat.from(format)));
+    }
+
+    @GetMapping("/teachers/{teacherId}")
+    public ResponseEntity<StreamingResponseBody> teacher(@PathVariable Long teacherId,
+                                                         @RequestParam(defaultValue = "pdf") String format) {
+        return stream(exportService.teacher(teacherId, ExportFormat.from(format)));
+    }
+
+    @GetMapping("/school")
+    public ResponseEntity<StreamingResponseBody> school(@RequestParam(required = false) String levelId,
+                                                        @RequestParam(defaultValue = "pdf") String format) {
+        return stream(exportService.school(levelId, ExportFormat.from(format)));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> stream(ExportFile file) {
+        StreamingResponseBody body = out -> file.writer().writeTo(out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(file.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(file.filename(), StandardCharsets.UTF_8).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,38 @@
+package com.schoolscheduler.scheduleservice.controller;
+
+import com.schoolscheduler.scheduleservice.service.FlightRecordingService;
+import com.schoolscheduler.scheduleservice.service.model.ExportFile;
+import java.nio.charset.StandardCharsets;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/recordings")
+public class RecordingController {
+
+    private final FlightRecordingService flightRecordingService;
+
+    public RecordingController(FlightRecordingService flightRecordingService) {
+        this.flightRecordingService = flightRecordingService;
+    }
+
+    @PostMapping("/generations/{levelId}")
+    public ResponseEntity<StreamingResponseBody> recordGeneration(@PathVariable String levelId,
+                                                                  @RequestParam(defaultValue = "false") boolean detailed) {
+        ExportFile file = flightRecordingService.recordGeneration(levelId, detailed);
+        StreamingResponseBody body = out -> file.writer().writeTo(out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(file.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(file.filename(), StandardCharsets.UTF_8).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,54 @@
+package com.schoolscheduler.scheduleservice.controller;
+
+import com.schoolscheduler.scheduleservice.dto.ConflictReportDto;
+import com.schoolscheduler.scheduleservice.dto.ScheduleEntryDto;
+import com.schoolscheduler.scheduleservice.dto.ScheduleVersionDiffDto;
+import com.schoolscheduler.scheduleservice.dto.ScheduleVersionDto;
+import com.schoolscheduler.scheduleservice.service.ScheduleHistoryService;
+import com.schoolscheduler.scheduleservice.service.ScheduleService;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/schedules")
+public class ScheduleController {
+
+    private final ScheduleService scheduleService;
+    private final ScheduleHistoryService historyService;
+
+    public ScheduleController(ScheduleService scheduleService, ScheduleHistoryService historyService) {
+        this.scheduleService = scheduleService;
+        this.historyService = historyService;
+    }
+
+    @GetMapping("/{levelId}")
+    public ResponseEntity<List<ScheduleEntryDto>> findPublished(@PathVariable String levelId) {
+        return ResponseEntity.ok(scheduleService.findPublished(levelId));
+    }
+
+    @GetMapping("/{levelId}/conflicts")
+    public ResponseEntity<ConflictReportDto> conflicts(@PathVariable String levelId) {
+        return ResponseEntity.ok(scheduleService.explainConflicts(levelId));
+    }
+
+    @GetMapping("/{levelId}/versions")
+    public ResponseEntity<List<ScheduleVersionDto>> versions(@PathVariable String levelId) {
+        return ResponseEntity.ok(historyService.versions(levelId));
+    }
+
+    @GetMapping("/{levelId}/versions/{version}")
+    public ResponseEntity<List<ScheduleEntryDto>> findVersion(@PathVariable String levelId, @PathVariable int version) {
+        return ResponseEntity.ok(scheduleService.findVersion(levelId, version));
+    }
+
+    @GetMapping("/{levelId}/diff")
+    public ResponseEntity<ScheduleVersionDiffDto> diff(@PathVariable String levelId, @RequestParam int from,
+                                                       @RequestParam int to) {
+        return ResponseEntity.ok(historyService.diff(levelId, from, to));
+    }
+}
@@ -0,0 +1,33 @@
+package com.schoolscheduler.scheduleservice.controller;
+
+import com.schoolscheduler.scheduleservice.dto.SimulationRequest;
+import com.schoolscheduler.scheduleservice.dto.SimulationResultDto;
+import com.schoolscheduler.scheduleservice.service.SimulationService;
+import jakarta.validation.Valid;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/simulations")
+public class SimulationController {
+
+    private final SimulationService simulationService;
+
+    public SimulationController(SimulationService simulationService) {
+        this.simulationService = simulationService;
+    }
+
+    @PostMapping
+    public ResponseEntity<SimulationResultDto> simulate(@Valid @RequestBody SimulationRequest request) {
+        return ResponseEntity.ok(simulationService.simulate(request));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<SimulationResultDto>> simulateAll(@Valid @RequestBody List<@Valid SimulationRequest> requests) {
+        return ResponseEntity.ok(simulationService.simulateAll(requests));
+    }
+}
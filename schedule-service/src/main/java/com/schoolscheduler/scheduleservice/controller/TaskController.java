@@ -0,0 +1,42 @@
+package com.schoolscheduler.scheduleservice.controller;
+
+import com.schoolscheduler.scheduleservice.dto.BatchGenerationRequest;
+import com.schoolscheduler.scheduleservice.dto.GenerationRequest;
+import com.schoolscheduler.scheduleservice.dto.ScheduleSummaryDto;
+import com.schoolscheduler.scheduleservice.service.DistributedGenerationService;
+import com.schoolscheduler.scheduleservice.service.ScheduleService;
+import jakarta.validation.Valid;
+import java.util.Map;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/tasks")
+public class TaskController {
+
+    private final ScheduleService scheduleService;
+    private final DistributedGenerationService distributedGenerationService;
+
+    public TaskController(ScheduleService scheduleService, DistributedGenerationService distributedGenerationService) {
+        this.scheduleService = scheduleService;
+        this.distributedGenerationService = distributedGenerationService;
+    }
+
+    @PostMapping
+    public ResponseEntity<ScheduleSummaryDto> generate(@Valid @RequestBody GenerationRequest request) {
+        return ResponseEntity.ok(scheduleService.generate(request));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<Map<String, ScheduleSummaryDto>> generateAll(@RequestBody BatchGenerationRequest request) {
+        return ResponseEntity.ok(scheduleService.generateAll(request));
+    }
+
+    @PostMapping("/distributed")
+    public ResponseEntity<Map<String, ScheduleSummaryDto>> generateDistributed(@RequestBody BatchGenerationRequest request) {
+        return ResponseEntity.ok(distributedGenerationService.generate(request));
+    }
+}
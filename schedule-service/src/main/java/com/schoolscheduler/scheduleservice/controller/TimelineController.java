@@ -0,0 +1,67 @@
+package com.schoolscheduler.scheduleservice.controller;
+
+import com.schoolscheduler.scheduleservice.dto.TimelineDto;
+import com.schoolscheduler.scheduleservice.engine.SlotLayout;
+import com.schoolscheduler.scheduleservice.engine.SlotLayoutCache;
+import com.schoolscheduler.scheduleservice.engine.Timeline;
+import com.schoolscheduler.scheduleservice.engine.TimelineBuilder;
+import com.schoolscheduler.scheduleservice.service.DatasetSnapshotProvider;
+import com.schoolscheduler.scheduleservice.service.model.DatasetSnapshot;
+import com.schoolscheduler.scheduleservice.service.model.SourceStatus;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/timelines")
+public class TimelineController {
+
+    private final DatasetSnapshotProvider snapshotProvider;
+    private final SlotLayoutCache slotLayouts;
+
+    public TimelineController(DatasetSnapshotProvider snapshotProvider, SlotLayoutCache slotLayouts) {
+        this.snapshotProvider = snapshotProvider;
+        this.slotLayouts = slotLayouts;
+    }
+
+    @GetMapping("/{levelId}")
+    public ResponseEntity<TimelineDto> findByLevel(@PathVariable String levelId,
+                                                   @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                                                   String ifNoneMatch) {
+        DatasetSnapshot snapshot = snapshotProvider.current();
+        SourceStatus configSource = snapshot.sources().get("config-service");
+        String configVersion = configSource != null ? configSource.version()
+                : Integer.toHexString(snapshot.config().hashCode());
+        String eTag = "\"" + levelId + "-" + configVersion + "\"";
+        if (eTag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        SlotLayout layout = slotLayouts.layout(levelId, snapshot.config());
+        return ResponseEntity.ok().eTag(eTag).body(toDto(levelId, configVersion, layout));
+    }
+
+    private static TimelineDto toDto(String levelId, String configVersion, SlotLayout layout) {
+        List<TimelineDto.Day> days = new ArrayList<>();
+        for (int day = 0; day < layout.days(); day++) {
+            List<TimelineDto.Slot> slots = new ArrayList<>();
+            int block = 0;
+            for (int index = 0; index < layout.slotCount(day); index++) {
+                Timeline.SlotType type = layout.slotType(day, index);
+                slots.add(new TimelineDto.Slot(type.name(),
+                        TimelineBuilder.minutesToTime(layout.slotStart(day, index)),
+                        TimelineBuilder.minutesToTime(layout.slotEnd(day, index)),
+                        type == Timeline.SlotType.CLASS ? block++ : null));
+            }
+            days.add(new TimelineDto.Day(TimelineBuilder.WORKING_DAYS.get(day), slots));
+        }
+        return new TimelineDto(levelId, configVersion, days, layout.availableClassBlocks(), layout.adminMinutes(),
+                layout.breakMinutes());
+    }
+}
@@ -0,0 +1,122 @@
+package com.schoolscheduler.scheduleservice.controller;
+
+import com.schoolscheduler.scheduleservice.dto.TimetableSnapshotDto;
+import com.schoolscheduler.scheduleservice.publication.TimetableSnapshotStore;
+import com.schoolscheduler.scheduleservice.service.TimetableSnapshotService;
+import jakarta.servlet.http.HttpServletRequest;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.Arrays;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Serves the pre-rendered timetables. On Tomcat the file is handed to the connector's sendfile
+ * support, which copies it from the page cache to the socket without passing through the JVM;
+ * elsewhere it is transferred through a file channel.
+ */
+@RestController
+@RequestMapping("/api/timetables")
+public class TimetableSnapshotController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final TimetableSnapshotService timetableSnapshots;
+    private final CacheControl cacheControl;
+
+    public TimetableSnapshotController(TimetableSnapshotService timetableSnapshots,
+                                       @Value("${scheduler.timetable-snapshots.max-age:PT10M}") Duration maxAge) {
+        this.timetableSnapshots = timetableSnapshots;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    @PostMapping("/snapshots")
+    public ResponseEntity<TimetableSnapshotDto> publish() {
+        return ResponseEntity.status(HttpStatus.CREATED).body(timetableSnapshots.publish());
+    }
+
+    @GetMapping("/courses/{courseId}")
+    public ResponseEntity<StreamingResponseBody> course(@PathVariable Long courseId,
+                                                        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                        HttpServletRequest request) {
+        return serve(timetableSnapshots.course(courseId, acceptsGzip(acceptEncoding)), ifNoneMatch, request);
+    }
+
+    @GetMapping("/teachers/{teacherId}")
+    public ResponseEntity<StreamingResponseBody> teacher(@PathVariable Long teacherId,
+                                                         @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                         @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                         HttpServletRequest request) {
+        return serve(timetableSnapshots.teacher(teacherId, acceptsGzip(acceptEncoding)), ifNoneMatch, request);
+    }
+
+    private ResponseEntity<StreamingResponseBody> serve(TimetableSnapshotStore.Document document, String ifNoneMatch,
+                                                        HttpServletRequest request) {
+        if (matches(ifNoneMatch, document.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(document.etag())
+                    .cacheControl(cacheControl)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(document.etag())
+                .cacheControl(cacheControl)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(document.length());
+        if (document.gzip()) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, document.file().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, document.length());
+            return response.build();
+        }
+        StreamingResponseBody body = out -> {
+            try (FileChannel channel = FileChannel.open(document.file())) {
+                WritableByteChannel target = Channels.newChannel(out);
+                long position = 0;
+                while (position < document.length()) {
+                    long sent = channel.transferTo(position, document.length() - position, target);
+                    if (sent <= 0) {
+                        break;
+                    }
+                    position += sent;
+                }
+            }
+        };
+        return response.body(body);
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        return acceptEncoding != null && Arrays.stream(acceptEncoding.split(","))
+                .map(coding -> coding.trim().split(";"))
+                .filter(coding -> coding[0].trim().equalsIgnoreCase("gzip") || coding[0].trim().equals("*"))
+                .anyMatch(coding -> coding.length < 2 || !coding[1].trim().matches("q=0(\\.0*)?"));
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        return ifNoneMatch != null && Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .anyMatch(candidate -> candidate.equals(etag) || candidate.equals("*"));
+    }
+}
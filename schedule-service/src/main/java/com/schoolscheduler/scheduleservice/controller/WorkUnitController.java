@@ -0,0 +1,31 @@
+package com.schoolscheduler.scheduleservice.controller;
+
+import com.schoolscheduler.scheduleservice.dto.WorkUnitRequest;
+import com.schoolscheduler.scheduleservice.dto.WorkUnitResultDto;
+import com.schoolscheduler.scheduleservice.service.DistributedGenerationService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Worker side of a distributed generation: solves the levels of one work unit and returns the
+ * sessions without publishing them.
+ */
+@RestController
+@RequestMapping("/api/work-units")
+public class WorkUnitController {
+
+    private final DistributedGenerationService distributedGenerationService;
+
+    public WorkUnitController(DistributedGenerationService distributedGenerationService) {
+        this.distributedGenerationService = distributedGenerationService;
+    }
+
+    @PostMapping
+    public ResponseEntity<WorkUnitResultDto> solve(@Valid @RequestBody WorkUnitRequest request) {
+        return ResponseEntity.ok(distributedGenerationService.solve(request));
+    }
+}
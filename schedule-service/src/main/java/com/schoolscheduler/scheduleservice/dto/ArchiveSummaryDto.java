@@ -0,0 +1,6 @@
+package com.schoolscheduler.scheduleservice.dto;
+
+import java.util.List;
+
+public record ArchiveSummaryDto(int year, List<String> levels, int sessions, long sizeInBytes) {
+}
@@ -0,0 +1,6 @@
+package com.schoolscheduler.scheduleservice.dto;
+
+import java.util.List;
+
+public record BatchGenerationRequest(List<String> levelIds, boolean replaceExisting) {
+}
@@ -0,0 +1,12 @@
+package com.schoolscheduler.scheduleservice.dto;
+
+public record CellChangeDto(
+        Long courseId,
+        int day,
+        int block,
+        Long previousSubjectId,
+        Long previousTeacherId,
+        Long subjectId,
+        Long teacherId
+) {
+}
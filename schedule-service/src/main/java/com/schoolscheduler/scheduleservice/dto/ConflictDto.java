@@ -0,0 +1,7 @@
+package com.schoolscheduler.scheduleservice.dto;
+
+import java.util.List;
+
+public record ConflictDto(String kind, String message, List<Long> courseIds, List<Long> subjectIds,
+                          List<Long> teacherIds, int required, int available) {
+}
@@ -0,0 +1,6 @@
+package com.schoolscheduler.scheduleservice.dto;
+
+import java.util.List;
+
+public record ConflictReportDto(String levelId, List<ConflictDto> conflicts, List<String> staleSources) {
+}
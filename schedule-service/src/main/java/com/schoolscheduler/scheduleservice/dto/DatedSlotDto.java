@@ -0,0 +1,15 @@
+package com.schoolscheduler.scheduleservice.dto;
+
+import java.time.LocalDate;
+
+public record DatedSlotDto(
+        LocalDate date,
+        int block,
+        String start,
+        String end,
+        Long courseId,
+        Long subjectId,
+        Long teacherId,
+        Long roomId
+) {
+}
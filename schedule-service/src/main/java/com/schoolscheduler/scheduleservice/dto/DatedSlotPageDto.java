@@ -0,0 +1,6 @@
+package com.schoolscheduler.scheduleservice.dto;
+
+import java.util.List;
+
+public record DatedSlotPageDto(List<DatedSlotDto> content, int page, int size, long totalElements) {
+}
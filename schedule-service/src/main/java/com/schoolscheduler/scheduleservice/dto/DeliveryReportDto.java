@@ -0,0 +1,12 @@
+package com.schoolscheduler.scheduleservice.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record DeliveryReportDto(
+        LocalDate from,
+        LocalDate to,
+        List<Integer> teachingDaysPerWeekday,
+        List<DeliveryReportRowDto> rows
+) {
+}
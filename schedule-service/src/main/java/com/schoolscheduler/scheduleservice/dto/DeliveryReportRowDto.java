@@ -0,0 +1,13 @@
+package com.schoolscheduler.scheduleservice.dto;
+
+public record DeliveryReportRowDto(
+        Long courseId,
+        String courseName,
+        Long subjectId,
+        String subjectName,
+        int weeklyBlocks,
+        int expectedBlocks,
+        int deliveredBlocks,
+        int lostBlocks
+) {
+}
@@ -0,0 +1,6 @@
+package com.schoolscheduler.scheduleservice.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record GenerationRequest(@NotBlank String levelId, Integer year, boolean replaceExisting) {
+}
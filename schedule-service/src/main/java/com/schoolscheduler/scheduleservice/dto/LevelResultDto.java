@@ -0,0 +1,7 @@
+package com.schoolscheduler.scheduleservice.dto;
+
+import java.util.List;
+
+public record LevelResultDto(String levelId, List<ScheduleEntryDto> sessions, int generatedCourses,
+                             int assignedTeachers, int sessionsWithoutRoom, String error) {
+}
@@ -0,0 +1,4 @@
+package com.schoolscheduler.scheduleservice.dto;
+
+public record ScheduleEntryDto(Long courseId, int day, int block, Long subjectId, Long teacherId, Long roomId) {
+}
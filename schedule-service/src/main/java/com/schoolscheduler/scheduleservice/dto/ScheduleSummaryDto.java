@@ -0,0 +1,7 @@
+package com.schoolscheduler.scheduleservice.dto;
+
+import java.util.List;
+
+public record ScheduleSummaryDto(int generatedCourses, int assignedTeachers, int totalSessions,
+                                 List<String> staleSources, int version) {
+}
@@ -0,0 +1,6 @@
+package com.schoolscheduler.scheduleservice.dto;
+
+import java.util.List;
+
+public record ScheduleVersionDiffDto(String levelId, int fromVersion, int toVersion, List<CellChangeDto> changes) {
+}
@@ -0,0 +1,7 @@
+package com.schoolscheduler.scheduleservice.dto;
+
+import java.time.Instant;
+
+public record ScheduleVersionDto(int version, int baseVersion, boolean base, int changedCells, int totalCells,
+                                 int storedBytes, Instant createdAt) {
+}
@@ -0,0 +1,20 @@
+package com.schoolscheduler.scheduleservice.dto;
+
+import com.schoolscheduler.scheduleservice.service.model.CourseData;
+import com.schoolscheduler.scheduleservice.service.model.SubjectData;
+import com.schoolscheduler.scheduleservice.service.model.TeacherData;
+import jakarta.validation.constraints.NotBlank;
+import java.util.List;
+import java.util.Set;
+
+public record SimulationRequest(
+        String name,
+        @NotBlank String levelId,
+        List<SubjectData> subjects,
+        List<TeacherData> teachers,
+        List<CourseData> courses,
+        Set<Long> removedSubjectIds,
+        Set<Long> removedTeacherIds,
+        Set<Long> removedCourseIds
+) {
+}
@@ -0,0 +1,17 @@
+package com.schoolscheduler.scheduleservice.dto;
+
+import java.util.List;
+
+public record SimulationResultDto(
+        String name,
+        String levelId,
+        boolean feasible,
+        String error,
+        int generatedCourses,
+        int assignedTeachers,
+        int totalSessions,
+        int sessionsWithoutRoom,
+        int changedCells,
+        List<CellChangeDto> changes
+) {
+}
@@ -0,0 +1,6 @@
+package com.schoolscheduler.scheduleservice.dto;
+
+import java.time.Instant;
+
+public record SourceStatusDto(String source, String version, Instant fetchedAt, boolean stale, String error) {
+}
@@ -0,0 +1,14 @@
+package com.schoolscheduler.scheduleservice.dto;
+
+import java.util.List;
+
+public record TimelineDto(String levelId, String configVersion, List<Day> days, int availableClassBlocks,
+                          int adminMinutes, int breakMinutes) {
+
+    public record Day(String name, List<Slot> slots) {
+    }
+
+    /** {@code block} is the class-slot index used by schedule entries, or {@code null} for non-class slots. */
+    public record Slot(String type, String start, String end, Integer block) {
+    }
+}
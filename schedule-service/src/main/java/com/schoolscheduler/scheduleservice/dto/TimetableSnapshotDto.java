@@ -0,0 +1,4 @@
+package com.schoolscheduler.scheduleservice.dto;
+
+public record TimetableSnapshotDto(int version, int courses, int teachers) {
+}
@@ -0,0 +1,8 @@
+package com.schoolscheduler.scheduleservice.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+public record WorkUnitRequest(String unitId, @NotEmpty List<String> levelIds, @NotBlank String datasetVersion) {
+}
@@ -0,0 +1,6 @@
+package com.schoolscheduler.scheduleservice.dto;
+
+import java.util.List;
+
+public record WorkUnitResultDto(String unitId, List<LevelResultDto> levels) {
+}
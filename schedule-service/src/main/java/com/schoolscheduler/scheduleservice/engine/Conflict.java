@@ -0,0 +1,30 @@
+package com.schoolscheduler.scheduleservice.engine;
+
+import java.util.List;
+
+/**
+ * A set of inputs that cannot all hold at once. Dropping or relaxing any one of the listed
+ * subjects, courses or teachers lifts this particular conflict.
+ */
+public record Conflict(
+        Kind kind,
+        String message,
+        List<Long> courseIds,
+        List<Long> subjectIds,
+        List<Long> teacherIds,
+        int required,
+        int available
+) {
+
+    public enum Kind {
+        MISSING_INPUT,
+        WEEKLY_LOAD,
+        DAILY_LIMIT,
+        NO_QUALIFIED_TEACHER,
+        TEACHER_CAPACITY
+    }
+
+    static Conflict missing(String message) {
+        return new Conflict(Kind.MISSING_INPUT, message, List.of(), List.of(), List.of(), 0, 0);
+    }
+}
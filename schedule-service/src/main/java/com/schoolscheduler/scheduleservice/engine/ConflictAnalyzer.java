@@ -0,0 +1,318 @@
+package com.schoolscheduler.scheduleservice.engine;
+
+import com.schoolscheduler.scheduleservice.service.model.CourseData;
+import com.schoolscheduler.scheduleservice.service.model.SubjectData;
+import com.schoolscheduler.scheduleservice.service.model.TeacherData;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.springframework.stereotype.Component;
+
+/**
+ * Explains why a level cannot be generated by listing every conflict at once instead of the
+ * first one the greedy pass runs into. Each check is a condition any schedule must meet: the
+ * weekly load of a course against the blocks of its bell schedule, each subject's daily cap
+ * against the days it can use, and the weekly blocks of every course and subject against the
+ * teachers allowed to give them. The last one is a transport problem; its max-flow min cut marks
+ * a group of lessons that their teachers cannot cover together, which is then shrunk one lesson at
+ * a time until removing any of them would make it coverable. An empty answer means none of these
+ * conditions fail, not that the greedy pass is sure to succeed.
+ */
+@Component
+public class ConflictAnalyzer {
+
+    private static final int MAX_CAPACITY_CONFLICTS = 20;
+    private static final int UNBOUNDED = Integer.MAX_VALUE / 2;
+
+    private final SlotLayoutCache slotLayouts;
+
+    public ConflictAnalyzer(SlotLayoutCache slotLayouts) {
+        this.slotLayouts = slotLayouts;
+    }
+
+    private record Demand(CourseData course, SubjectData subject, int blocks, int[] teachers) {
+    }
+
+    public List<Conflict> analyze(GenerationInput input) {
+        String levelId = input.levelId();
+        List<CourseData> courses = input.courses().stream().filter(course -> levelId.equals(course.level())).toList();
+        List<SubjectData> subjects = input.subjects().stream().filter(subject -> levelId.equals(subject.level())).toList();
+        List<TeacherData> teachers = input.teachers().stream().filter(teacher -> teacher.belongsTo(levelId)).toList();
+        List<Conflict> conflicts = new ArrayList<>();
+        if (courses.isEmpty()) {
+            conflicts.add(Conflict.missing("No existen cursos registrados para el nivel seleccionado."));
+        }
+        List<SubjectData> requirements = subjects.stream()
+                .filter(subject -> ScheduleGenerator.weeklyBlocks(subject) > 0)
+                .toList();
+        if (requirements.isEmpty()) {
+            conflicts.add(Conflict.missing("Agrega asignaturas con carga semanal al nivel antes de generar horarios."));
+        }
+        if (teachers.isEmpty()) {
+            conflicts.add(Conflict.missing("Registra profesores asociados al nivel seleccionado."));
+        }
+        if (courses.isEmpty() || requirements.isEmpty()) {
+            return conflicts;
+        }
+
+        SlotLayout layout = slotLayouts.layout(levelId, input.config());
+        weeklyLoad(courses, requirements, layout, conflicts);
+        dailyLimits(courses, requirements, layout, conflicts);
+        if (!teachers.isEmpty()) {
+            teacherCoverage(courses, requirements, teachers, layout,
+                    ScheduleGenerator.blockDuration(input.config()), conflicts);
+        }
+        return conflicts;
+    }
+
+    // Every course of a level shares its subjects and bell schedule, so the heaviest subjects that overflow it are a smallest conflict.
+    private static void weeklyLoad(List<CourseData> courses, List<SubjectData> requirements, SlotLayout layout,
+                                   List<Conflict> conflicts) {
+        int available = layout.availableClassBlocks();
+        List<SubjectData> heaviest = requirements.stream()
+                .sorted(Comparator.comparingInt(ScheduleGenerator::weeklyBlocks).reversed())
+                .toList();
+        List<SubjectData> chosen = new ArrayList<>();
+        int required = 0;
+        for (SubjectData subject : heaviest) {
+            if (required > available) {
+                break;
+            }
+            chosen.add(subject);
+            required += ScheduleGenerator.weeklyBlocks(subject);
+        }
+        if (required > available) {
+            conflicts.add(new Conflict(Conflict.Kind.WEEKLY_LOAD,
+                    "La carga semanal de " + subjectNames(chosen) + " (" + required + " bloques) excede los "
+                            + available + " bloques de clase de la jornada. Ajusta los horarios o la duración de la jornada.",
+                    courseIds(courses), subjectIds(chosen), List.of(), required, available));
+        }
+    }
+
+    private static void dailyLimits(List<CourseData> courses, List<SubjectData> requirements, SlotLayout layout,
+                                    List<Conflict> conflicts) {
+        int days = TimelineBuilder.WORKING_DAYS.size();
+        for (SubjectData subject : requirements) {
+            int weeklyBlocks = ScheduleGenerator.weeklyBlocks(subject);
+            int maxPerDay = ScheduleGenerator.maxDailyBlocks(subject, days);
+            int available = IntStream.range(0, days).map(day -> Math.min(maxPerDay, layout.classSlotCount(day))).sum();
+            if (available < weeklyBlocks) {
+                conflicts.add(new Conflict(Conflict.Kind.DAILY_LIMIT,
+                        "Con un máximo de " + maxPerDay + " bloques diarios, " + subject.name() + " solo puede ocupar "
+                                + available + " de sus " + weeklyBlocks + " bloques semanales.",
+                        courseIds(courses), List.of(subject.id()), List.of(), weeklyBlocks, available));
+            }
+        }
+    }
+
+    // A teacher gives at most one class per block of the level, whatever their weekly hours allow.
+    private static void teacherCoverage(List<CourseData> courses, List<SubjectData> requirements,
+                                        List<TeacherData> teachers, SlotLayout layout, int blockDuration,
+                                        List<Conflict> conflicts) {
+        int[] capacities = teachers.stream()
+                .mapToInt(teacher -> Math.min(layout.availableClassBlocks(),
+                        Math.max(0, teacher.weeklyHours() != null ? teacher.weeklyHours() : 0) * 60 / blockDuration))
+                .toArray();
+        List<Demand> demands = new ArrayList<>();
+        Map<SubjectData, List<CourseData>> uncovered = new LinkedHashMap<>();
+        for (CourseData course : courses) {
+            for (SubjectData subject : requirements) {
+                int[] qualified = IntStream.range(0, teachers.size())
+                        .filter(index -> ScheduleGenerator.canTeach(teachers.get(index), subject.id(), course.id()))
+                        .toArray();
+                if (qualified.length == 0) {
+                    uncovered.computeIfAbsent(subject, key -> new ArrayList<>()).add(course);
+                } else {
+                    demands.add(new Demand(course, subject, ScheduleGenerator.weeklyBlocks(subject), qualified));
+                }
+            }
+        }
+        uncovered.forEach((subject, lacking) -> conflicts.add(new Conflict(Conflict.Kind.NO_QUALIFIED_TEACHER,
+                "Ningún profesor del nivel puede impartir " + subject.name() + " en " + courseNames(lacking) + ".",
+                courseIds(lacking), List.of(subject.id()), List.of(),
+                ScheduleGenerator.weeklyBlocks(subject) * lacking.size(), 0)));
+
+        // Smaller lessons are dropped first, so the conflicts kept name the heavy loads.
+        demands.sort(Comparator.comparingInt(Demand::blocks));
+        boolean[] active = new boolean[demands.size()];
+        Arrays.fill(active, true);
+        for (int found = 0; found < MAX_CAPACITY_CONFLICTS; found++) {
+            FlowGraph graph = FlowGraph.of(demands, capacities, active);
+            if (graph.maxFlow() == demand(demands, active)) {
+                return;
+            }
+            boolean[] core = graph.sourceSideDemands();
+            for (int index = 0; index < core.length; index++) {
+                if (!core[index]) {
+                    continue;
+                }
+                core[index] = false;
+                if (!deficient(demands, capacities, core)) {
+                    core[index] = true;
+                }
+            }
+            conflicts.add(capacityConflict(demands, teachers, capacities, core));
+            for (int index = 0; index < core.length; index++) {
+                active[index] &= !core[index];
+            }
+        }
+    }
+
+    private static boolean deficient(List<Demand> demands, int[] capacities, boolean[] subset) {
+        return FlowGraph.of(demands, capacities, subset).maxFlow() < demand(demands, subset);
+    }
+
+    private static int demand(List<Demand> demands, boolean[] subset) {
+        return IntStream.range(0, demands.size()).filter(index -> subset[index]).map(index -> demands.get(index).blocks()).sum();
+    }
+
+    private static Conflict capacityConflict(List<Demand> demands, List<TeacherData> teachers, int[] capacities,
+                                             boolean[] core) {
+        List<Demand> lessons = IntStream.range(0, demands.size()).filter(index -> core[index]).mapToObj(demands::get).toList();
+        int[] involved = lessons.stream().flatMapToInt(lesson -> Arrays.stream(lesson.teachers())).distinct().sorted().toArray();
+        List<CourseData> courses = lessons.stream().map(Demand::course).distinct().toList();
+        List<SubjectData> subjects = lessons.stream().map(Demand::subject).distinct().toList();
+        int required = lessons.stream().mapToInt(Demand::blocks).sum();
+        int available = Arrays.stream(involved).map(index -> capacities[index]).sum();
+        String teacherNames = Arrays.stream(involved).mapToObj(index -> teachers.get(index).name())
+                .collect(Collectors.joining(", "));
+        return new Conflict(Conflict.Kind.TEACHER_CAPACITY,
+                "Los profesores habilitados (" + teacherNames + ") suman " + available
+                        + " bloques semanales y la carga de " + subjectNames(subjects) + " en " + courseNames(courses)
+                        + " es de " + required + ". Habilita más profesores o amplía sus horas.",
+                courseIds(courses), subjectIds(subjects),
+                Arrays.stream(involved).mapToObj(index -> teachers.get(index).id()).toList(), required, available);
+    }
+
+    private static List<Long> courseIds(List<CourseData> courses) {
+        return courses.stream().map(CourseData::id).toList();
+    }
+
+    private static List<Long> subjectIds(List<SubjectData> subjects) {
+        return subjects.stream().map(SubjectData::id).toList();
+    }
+
+    private static String courseNames(List<CourseData> courses) {
+        return courses.stream().map(CourseData::name).collect(Collectors.joining(", "));
+    }
+
+    private static String subjectNames(List<SubjectData> subjects) {
+        return subjects.stream().map(SubjectData::name).collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Source, one node per lesson, one per teacher, sink. Lesson-to-teacher edges are unbounded,
+     * so the lessons still reachable after a maximum flow are exactly those whose teachers are
+     * all saturated.
+     */
+    private static final class FlowGraph {
+
+        private final int lessons;
+        private final int[] head;
+        private final int[] next;
+        private final int[] target;
+        private final int[] residual;
+        private int edges;
+
+        private FlowGraph(int lessons, int nodes, int capacity) {
+            this.lessons = lessons;
+            this.head = new int[nodes];
+            Arrays.fill(head, -1);
+            this.next = new int[capacity];
+            this.target = new int[capacity];
+            this.residual = new int[capacity];
+        }
+
+        static FlowGraph of(List<Demand> demands, int[] capacities, boolean[] subset) {
+            int lessons = demands.size();
+            int edges = 2 * (lessons + capacities.length + demands.stream().mapToInt(demand -> demand.teachers().length).sum());
+            FlowGraph graph = new FlowGraph(lessons, lessons + capacities.length + 2, edges);
+            int sink = graph.sink();
+            for (int index = 0; index < lessons; index++) {
+                if (!subset[index]) {
+                    continue;
+                }
+                graph.add(0, index + 1, demands.get(index).blocks());
+                for (int teacher : demands.get(index).teachers()) {
+                    graph.add(index + 1, lessons + 1 + teacher, UNBOUNDED);
+                }
+            }
+            for (int teacher = 0; teacher < capacities.length; teacher++) {
+                graph.add(lessons + 1 + teacher, sink, capacities[teacher]);
+            }
+            return graph;
+        }
+
+        int maxFlow() {
+            int total = 0;
+            int[] via = new int[head.length];
+            while (true) {
+                Arrays.fill(via, -1);
+                ArrayDeque<Integer> queue = new ArrayDeque<>();
+                queue.add(0);
+                while (!queue.isEmpty() && via[sink()] < 0) {
+                    int node = queue.poll();
+                    for (int edge = head[node]; edge >= 0; edge = next[edge]) {
+                        int to = target[edge];
+                        if (residual[edge] > 0 && to != 0 && via[to] < 0) {
+                            via[to] = edge;
+                            queue.add(to);
+                        }
+                    }
+                }
+                if (via[sink()] < 0) {
+                    return total;
+                }
+                int pushed = UNBOUNDED;
+                for (int node = sink(); node != 0; node = target[via[node] ^ 1]) {
+                    pushed = Math.min(pushed, residual[via[node]]);
+                }
+                for (int node = sink(); node != 0; node = target[via[node] ^ 1]) {
+                    residual[via[node]] -= pushed;
+                    residual[via[node] ^ 1] += pushed;
+                }
+                total += pushed;
+            }
+        }
+
+        boolean[] sourceSideDemands() {
+            boolean[] seen = new boolean[head.length];
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            queue.add(0);
+            seen[0] = true;
+            while (!queue.isEmpty()) {
+                int node = queue.poll();
+                for (int edge = head[node]; edge >= 0; edge = next[edge]) {
+                    if (residual[edge] > 0 && !seen[target[edge]]) {
+                        seen[target[edge]] = true;
+                        queue.add(target[edge]);
+                    }
+                }
+            }
+            return Arrays.copyOfRange(seen, 1, lessons + 1);
+        }
+
+        private int sink() {
+            return head.length - 1;
+        }
+
+        private void add(int from, int to, int capacity) {
+            link(from, to, capacity);
+            link(to, from, 0);
+        }
+
+        private void link(int from, int to, int capacity) {
+            target[edges] = to;
+            residual[edges] = capacity;
+            next[edges] = head[from];
+            head[from] = edges++;
+        }
+    }
+}
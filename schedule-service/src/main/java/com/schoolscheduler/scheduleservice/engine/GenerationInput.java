@@ -0,0 +1,18 @@
+package com.schoolscheduler.scheduleservice.engine;
+
+import com.schoolscheduler.scheduleservice.service.model.ClassroomData;
+import com.schoolscheduler.scheduleservice.service.model.CourseData;
+import com.schoolscheduler.scheduleservice.service.model.SchedulerConfig;
+import com.schoolscheduler.scheduleservice.service.model.SubjectData;
+import com.schoolscheduler.scheduleservice.service.model.TeacherData;
+import java.util.List;
+
+public record GenerationInput(
+        String levelId,
+        List<CourseData> courses,
+        List<SubjectData> subjects,
+        List<TeacherData> teachers,
+        List<ClassroomData> classrooms,
+        SchedulerConfig config
+) {
+}
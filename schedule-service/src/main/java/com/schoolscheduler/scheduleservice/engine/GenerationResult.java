@@ -0,0 +1,21 @@
+package com.schoolscheduler.scheduleservice.engine;
+
+import java.util.List;
+
+public record GenerationResult(
+        String levelId,
+        List<ScheduledSession> sessions,
+        int generatedCourses,
+        int assignedTeachers,
+        int sessionsWithoutRoom,
+        String error
+) {
+
+    public static GenerationResult failed(String levelId, String error) {
+        return new GenerationResult(levelId, List.of(), 0, 0, 0, error);
+    }
+
+    public boolean isSuccessful() {
+        return error == null;
+    }
+}
@@ -0,0 +1,88 @@
+package com.schoolscheduler.scheduleservice.engine;
+
+import com.schoolscheduler.scheduleservice.service.model.ClassroomData;
+import com.schoolscheduler.scheduleservice.service.model.CourseData;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.springframework.stereotype.Component;
+
+/**
+ * Places every session in the smallest free room whose capacity fits the course's
+ * {@code studentCount}. Rooms are sorted by capacity once and occupancy is one {@link BitSet}
+ * of room indexes per (day, block), so each lookup is a binary search plus a
+ * {@code nextClearBit}. A course keeps its first room whenever that room is free.
+ */
+@Component
+public class RoomAssigner {
+
+    public record Assignment(List<ScheduledSession> sessions, int sessionsWithoutRoom) {
+    }
+
+    public Assignment assign(List<ScheduledSession> sessions, List<CourseData> courses, List<ClassroomData> classrooms) {
+        if (classrooms.isEmpty() || sessions.isEmpty()) {
+            return new Assignment(sessions, 0);
+        }
+
+        List<ClassroomData> rooms = classrooms.stream()
+                .sorted(Comparator.comparingInt(RoomAssigner::capacity))
+                .toList();
+        int[] capacities = rooms.stream().mapToInt(RoomAssigner::capacity).toArray();
+        Map<Long, Integer> studentCounts = new HashMap<>();
+        courses.forEach(course -> studentCounts.put(course.id(),
+                course.studentCount() != null ? course.studentCount() : 0));
+
+        // Largest courses choose first so small ones do not take the only rooms that fit them.
+        int[] order = IntStream.range(0, sessions.size()).boxed()
+                .sorted(Comparator.comparingInt((Integer index) -> studentCounts.getOrDefault(sessions.get(index).courseId(), 0))
+                        .reversed()
+                        .thenComparing(index -> sessions.get(index).courseId()))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        ScheduledSession[] assigned = sessions.toArray(new ScheduledSession[0]);
+        Map<Integer, BitSet> occupancy = new HashMap<>();
+        Map<Long, Integer> homeRooms = new HashMap<>();
+        int withoutRoom = 0;
+
+        for (int index : order) {
+            ScheduledSession session = assigned[index];
+            int smallestFitting = lowerBound(capacities, studentCounts.getOrDefault(session.courseId(), 0));
+            BitSet occupied = occupancy.computeIfAbsent((session.day() << 16) | session.block(),
+                    key -> new BitSet(rooms.size()));
+
+            Integer home = homeRooms.get(session.courseId());
+            int room = home != null && !occupied.get(home) ? home : occupied.nextClearBit(smallestFitting);
+            if (room >= rooms.size()) {
+                withoutRoom++;
+                continue;
+            }
+            occupied.set(room);
+            homeRooms.putIfAbsent(session.courseId(), room);
+            assigned[index] = session.withRoom(rooms.get(room).id());
+        }
+        return new Assignment(Arrays.asList(assigned), withoutRoom);
+    }
+
+    private static int lowerBound(int[] sorted, int value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int capacity(ClassroomData classroom) {
+        return classroom.capacity() != null ? classroom.capacity() : 0;
+    }
+}
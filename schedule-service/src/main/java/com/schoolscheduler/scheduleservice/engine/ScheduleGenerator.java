@@ -0,0 +1,330 @@
+package com.schoolscheduler.scheduleservice.engine;
+
+import com.schoolscheduler.scheduleservice.engine.jfr.BacktrackEvent;
+import com.schoolscheduler.scheduleservice.engine.jfr.ConstraintRejectionEvent;
+import com.schoolscheduler.scheduleservice.engine.jfr.CourseGenerationEvent;
+import com.schoolscheduler.scheduleservice.engine.jfr.LevelGenerationEvent;
+import com.schoolscheduler.scheduleservice.engine.jfr.PlacementAttemptEvent;
+import com.schoolscheduler.scheduleservice.service.model.ClassroomData;
+import com.schoolscheduler.scheduleservice.service.model.CourseData;
+import com.schoolscheduler.scheduleservice.service.model.SchedulerConfig;
+import com.schoolscheduler.scheduleservice.service.model.SubjectData;
+import com.schoolscheduler.scheduleservice.service.model.TeacherData;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.springframework.stereotype.Component;
+
+/**
+ * Java port of the greedy distribution in {@code schedulePreview.ts}. All mutable state lives in
+ * a single {@link #generate} call, so one instance can serve concurrent generations. Teacher
+ * slots and weekly blocks are claimed through a {@link TeacherOccupancy}, which generations of
+ * different levels may share to avoid booking a teacher twice.
+ */
+@Component
+public class ScheduleGenerator {
+
+    private static final int MAX_ATTEMPTS = 2000;
+
+    private final SlotLayoutCache slotLayouts;
+    private final RoomAssigner roomAssigner;
+
+    public ScheduleGenerator(SlotLayoutCache slotLayouts, RoomAssigner roomAssigner) {
+        this.slotLayouts = slotLayouts;
+        this.roomAssigner = roomAssigner;
+    }
+
+    private record Candidate(TeacherData teacher, int remainingBlocks) {
+    }
+
+    public GenerationResult generate(GenerationInput input) {
+        return generate(input, TeacherOccupancy.forTeachers(input.teachers(), blockDuration(input.config())));
+    }
+
+    /**
+     * Generates one level against an occupancy that may be shared with other threads. Slots
+     * claimed by a failed generation are released before returning.
+     */
+    public GenerationResult generate(GenerationInput input, TeacherOccupancy occupancy) {
+        LevelGenerationEvent event = new LevelGenerationEvent();
+        event.begin();
+        GenerationResult result = solve(input, occupancy);
+        event.end();
+        if (event.shouldCommit()) {
+            event.levelId = result.levelId();
+            event.courses = result.generatedCourses();
+            event.sessions = result.sessions().size();
+            event.error = result.error();
+            event.commit();
+        }
+        return result;
+    }
+
+    private GenerationResult solve(GenerationInput input, TeacherOccupancy occupancy) {
+        String levelId = input.levelId();
+        if (levelId == null || levelId.isBlank()) {
+            return GenerationResult.failed(levelId, "Selecciona un nivel para generar la previsualización.");
+        }
+        List<CourseData> courses = input.courses().stream().filter(course -> levelId.equals(course.level())).toList();
+        if (courses.isEmpty()) {
+            return GenerationResult.failed(levelId, "No existen cursos registrados para el nivel seleccionado.");
+        }
+        List<SubjectData> subjects = input.subjects().stream().filter(subject -> levelId.equals(subject.level())).toList();
+        if (subjects.isEmpty()) {
+            return GenerationResult.failed(levelId, "Agrega asignaturas al nivel antes de generar horarios.");
+        }
+        List<TeacherData> teachers = input.teachers().stream().filter(teacher -> teacher.belongsTo(levelId)).toList();
+        if (teachers.isEmpty()) {
+            return GenerationResult.failed(levelId, "Registra profesores asociados al nivel seleccionado.");
+        }
+
+        SlotLayout layout = slotLayouts.layout(levelId, input.config());
+        List<ScheduledSession> sessions = new ArrayList<>();
+        for (CourseData course : courses) {
+            CourseGenerationEvent courseEvent = new CourseGenerationEvent();
+            courseEvent.begin();
+            int before = sessions.size();
+            String error = distributeCourse(course, layout, subjects, teachers, occupancy, sessions);
+            courseEvent.end();
+            if (courseEvent.shouldCommit()) {
+                courseEvent.levelId = levelId;
+                courseEvent.courseId = course.id();
+                courseEvent.courseName = course.name();
+                courseEvent.sessions = sessions.size() - before;
+                courseEvent.error = error;
+                courseEvent.commit();
+            }
+            if (error != null) {
+                BacktrackEvent rollback = new BacktrackEvent();
+                if (rollback.shouldCommit()) {
+                    rollback.levelId = levelId;
+                    rollback.courseId = course.id();
+                    rollback.day = -1;
+                    rollback.kind = BacktrackEvent.ROLLBACK;
+                    rollback.released = sessions.size();
+                    rollback.commit();
+                }
+                sessions.forEach(session -> occupancy.release(session.teacherId(), session.day(),
+                        layout.classStart(session.day(), session.block()), layout.classEnd(session.day(), session.block())));
+                return GenerationResult.failed(levelId, error);
+            }
+        }
+
+        Set<Long> assignedTeachers = new HashSet<>();
+        sessions.forEach(session -> assignedTeachers.add(session.teacherId()));
+        sessions.sort(Comparator.comparing(ScheduledSession::courseId)
+                .thenComparingInt(ScheduledSession::day)
+                .thenComparingInt(ScheduledSession::block));
+        List<ClassroomData> classrooms = input.classrooms().stream()
+                .filter(classroom -> classroom.belongsTo(levelId))
+                .toList();
+        RoomAssigner.Assignment rooms = roomAssigner.assign(sessions, courses, classrooms);
+        return new GenerationResult(levelId, List.copyOf(rooms.sessions()), courses.size(), assignedTeachers.size(),
+                rooms.sessionsWithoutRoom(), null);
+    }
+
+    public static int blockDuration(SchedulerConfig config) {
+        return Math.max(30, config.blockDuration());
+    }
+
+    private String distributeCourse(CourseData course, SlotLayout layout, List<SubjectData> subjects,
+                                    List<TeacherData> teachers, TeacherOccupancy occupancy,
+                                    List<ScheduledSession> sessions) {
+        int days = TimelineBuilder.WORKING_DAYS.size();
+        SubjectData[][] assignments = new SubjectData[days][];
+        for (int day = 0; day < days; day++) {
+            assignments[day] = new SubjectData[layout.classSlotCount(day)];
+        }
+
+        List<SubjectData> requirements = subjects.stream().filter(subject -> weeklyBlocks(subject) > 0).toList();
+        if (requirements.isEmpty()) {
+            return "El nivel " + course.level() + " no tiene asignaturas configuradas.";
+        }
+        int totalRequired = requirements.stream().mapToInt(ScheduleGenerator::weeklyBlocks).sum();
+        if (totalRequired > layout.availableClassBlocks()) {
+            return "La carga semanal total excede los bloques disponibles para " + course.name()
+                    + ". Ajusta los horarios o la duración de la jornada.";
+        }
+
+        for (SubjectData subject : requirements) {
+            int weeklyBlocks = weeklyBlocks(subject);
+            int maxPerDay = maxDailyBlocks(subject, days);
+            int[] counts = new int[days];
+
+            if (maxPerDay * days < weeklyBlocks) {
+                return "Los bloques diarios máximos de " + subject.name() + " impiden cumplir su carga semanal en "
+                        + course.name() + ". Ajusta la configuración antes de generar.";
+            }
+
+            int allocated = 0;
+            int dayPointer = 0;
+            int guard = 0;
+            while (allocated < weeklyBlocks && guard < MAX_ATTEMPTS) {
+                int dayIndex = dayPointer % days;
+                if (layout.classSlotCount(dayIndex) == 0) {
+                    dayPointer++;
+                    guard++;
+                    continue;
+                }
+
+                boolean placed = false;
+                for (int slotIndex : candidateIndexes(layout, dayIndex, subject)) {
+                    if (assignments[dayIndex][slotIndex] != null) {
+                        continue;
+                    }
+                    // The count only changes when a slot is placed, so every later slot would fail the same way.
+                    if (counts[dayIndex] >= maxPerDay) {
+                        reject(course, subject, dayIndex, slotIndex, ConstraintRejectionEvent.MAX_DAILY);
+                        break;
+                    }
+                    if (violatesConsecutive(assignments[dayIndex], slotIndex, subject)) {
+                        reject(course, subject, dayIndex, slotIndex, ConstraintRejectionEvent.CONSECUTIVE);
+                        continue;
+                    }
+                    PlacementAttemptEvent attempt = new PlacementAttemptEvent();
+                    attempt.begin();
+                    TeacherData teacher = claimTeacher(subject.id(), course.id(), teachers, occupancy, dayIndex,
+                            layout.classStart(dayIndex, slotIndex), layout.classEnd(dayIndex, slotIndex));
+                    attempt.end();
+                    if (attempt.shouldCommit()) {
+                        attempt.courseId = course.id();
+                        attempt.subjectId = subject.id();
+                        attempt.day = dayIndex;
+                        attempt.block = slotIndex;
+                        attempt.placed = teacher != null;
+                        attempt.commit();
+                    }
+                    if (teacher == null) {
+                        rejectTeacher(course, subject, teachers, occupancy, dayIndex, slotIndex);
+                        continue;
+                    }
+
+                    assignments[dayIndex][slotIndex] = subject;
+                    sessions.add(new ScheduledSession(course.id(), dayIndex, slotIndex, subject.id(), teacher.id(), null));
+                    counts[dayIndex]++;
+                    allocated++;
+                    placed = true;
+                    break;
+                }
+
+                if (!placed) {
+                    BacktrackEvent skip = new BacktrackEvent();
+                    if (skip.shouldCommit()) {
+                        skip.levelId = course.level();
+                        skip.courseId = course.id();
+                        skip.subjectId = subject.id();
+                        skip.day = dayIndex;
+                        skip.kind = BacktrackEvent.DAY_SKIPPED;
+                        skip.commit();
+                    }
+                    dayPointer++;
+                }
+                dayPointer++;
+                guard++;
+            }
+
+            if (allocated < weeklyBlocks) {
+                return "No fue posible asignar todos los bloques de " + subject.name() + " para " + course.name()
+                        + ". Ajusta la carga horaria o los profesores disponibles.";
+            }
+        }
+        return null;
+    }
+
+    // Counters are read once before sorting, since other levels may change them meanwhile. A lost
+    // race on the slot or on the teacher's last block simply moves on to the next candidate.
+    private TeacherData claimTeacher(Long subjectId, Long courseId, List<TeacherData> teachers,
+                                     TeacherOccupancy occupancy, int day, int start, int end) {
+        return teachers.stream()
+                .filter(teacher -> canTeach(teacher, subjectId, courseId))
+                .map(teacher -> new Candidate(teacher, occupancy.remainingBlocks(teacher.id())))
+                .filter(candidate -> candidate.remainingBlocks() > 0)
+                .sorted(Comparator.comparingInt(Candidate::remainingBlocks).reversed())
+                .map(Candidate::teacher)
+                .filter(teacher -> occupancy.claim(teacher.id(), day, start, end))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static void reject(CourseData course, SubjectData subject, int day, int block, String reason) {
+        ConstraintRejectionEvent event = new ConstraintRejectionEvent();
+        if (event.shouldCommit()) {
+            event.courseId = course.id();
+            event.subjectId = subject.id();
+            event.day = day;
+            event.block = block;
+            event.reason = reason;
+            event.commit();
+        }
+    }
+
+    // With blocks left, some qualified teacher must already be busy at that time; otherwise none has any left.
+    private static void rejectTeacher(CourseData course, SubjectData subject, List<TeacherData> teachers,
+                                      TeacherOccupancy occupancy, int day, int block) {
+        ConstraintRejectionEvent event = new ConstraintRejectionEvent();
+        if (event.shouldCommit()) {
+            boolean available = teachers.stream()
+                    .filter(teacher -> canTeach(teacher, subject.id(), course.id()))
+                    .anyMatch(teacher -> occupancy.remainingBlocks(teacher.id()) > 0);
+            event.courseId = course.id();
+            event.subjectId = subject.id();
+            event.day = day;
+            event.block = block;
+            event.reason = available ? ConstraintRejectionEvent.TEACHER_CLASH : ConstraintRejectionEvent.CAPACITY;
+            event.commit();
+        }
+    }
+
+    // Teachers coming from teacher-service carry no course list; they may teach any course of the level.
+    static boolean canTeach(TeacherData teacher, Long subjectId, Long courseId) {
+        Set<Long> courseIds = teacher.courseIds();
+        return teacher.subjectIds() != null && teacher.subjectIds().contains(subjectId)
+                && (courseIds == null || courseIds.isEmpty() || courseIds.contains(courseId));
+    }
+
+    private static int[] candidateIndexes(SlotLayout layout, int day, SubjectData subject) {
+        int slotCount = layout.classSlotCount(day);
+        boolean special = "Especial".equals(subject.type());
+        Comparator<Integer> order = special ? Comparator.reverseOrder() : Comparator.naturalOrder();
+        String preferred = subject.preferredTime();
+        if (preferred == null || "any".equals(preferred)) {
+            return IntStream.range(0, slotCount).boxed().sorted(order).mapToInt(Integer::intValue).toArray();
+        }
+        boolean morning = "morning".equals(preferred);
+        Map<Boolean, List<Integer>> partition = new HashMap<>();
+        IntStream.range(0, slotCount).forEach(index -> partition
+                .computeIfAbsent(layout.isMorning(day, index) == morning, key -> new ArrayList<>())
+                .add(index));
+        return IntStream.concat(
+                partition.getOrDefault(true, List.of()).stream().sorted(order).mapToInt(Integer::intValue),
+                partition.getOrDefault(false, List.of()).stream().sorted(order).mapToInt(Integer::intValue))
+                .toArray();
+    }
+
+    private static boolean violatesConsecutive(SubjectData[] dayAssignments, int slotIndex, SubjectData subject) {
+        if (slotIndex < 2) {
+            return false;
+        }
+        SubjectData previous = dayAssignments[slotIndex - 1];
+        SubjectData beforePrevious = dayAssignments[slotIndex - 2];
+        return previous != null && beforePrevious != null
+                && subject.name().equals(previous.name()) && subject.name().equals(beforePrevious.name());
+    }
+
+    static int weeklyBlocks(SubjectData subject) {
+        return Math.max(0, subject.weeklyBlocks() != null ? subject.weeklyBlocks() : 0);
+    }
+
+    // subject-service does not store a daily cap yet; without one the load is spread evenly over the week.
+    static int maxDailyBlocks(SubjectData subject, int days) {
+        if (subject.maxDailyBlocks() == null) {
+            return Math.max(1, (weeklyBlocks(subject) + days - 1) / days);
+        }
+        return Math.max(1, subject.maxDailyBlocks());
+    }
+}
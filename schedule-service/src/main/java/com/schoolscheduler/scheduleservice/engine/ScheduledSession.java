@@ -0,0 +1,13 @@
+package com.schoolscheduler.scheduleservice.engine;
+
+/**
+ * One placed class: {@code block} is the index of the class slot within the day, so breaks,
+ * lunch and administrative ranges never shift it. {@code roomId} is filled in by the
+ * {@link RoomAssigner} stage and stays {@code null} when no room fits.
+ */
+public record ScheduledSession(Long courseId, int day, int block, Long subjectId, Long teacherId, Long roomId) {
+
+    public ScheduledSession withRoom(Long newRoomId) {
+        return new ScheduledSession(courseId, day, block, subjectId, teacherId, newRoomId);
+    }
+}
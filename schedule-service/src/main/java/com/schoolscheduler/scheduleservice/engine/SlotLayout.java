@@ -0,0 +1,110 @@
+package com.schoolscheduler.scheduleservice.engine;
+
+import java.util.List;
+
+/**
+ * Flattened, immutable form of a {@link Timeline}. Slots of all days live in parallel primitive
+ * arrays indexed through per-day offsets, so generators and renderers read them without boxing and
+ * one instance can be shared by every request for the same level and configuration.
+ */
+public final class SlotLayout {
+
+    private static final Timeline.SlotType[] TYPES = Timeline.SlotType.values();
+
+    private final int[] slotOffsets;
+    private final byte[] slotTypes;
+    private final int[] slotStarts;
+    private final int[] slotEnds;
+    private final int[] classOffsets;
+    private final int[] classStarts;
+    private final int[] classEnds;
+    private final boolean[] classMorning;
+    private final int adminMinutes;
+    private final int breakMinutes;
+
+    private SlotLayout(Timeline timeline) {
+        int days = timeline.perDaySlots().size();
+        this.slotOffsets = new int[days + 1];
+        this.classOffsets = new int[days + 1];
+        for (int day = 0; day < days; day++) {
+            slotOffsets[day + 1] = slotOffsets[day] + timeline.perDaySlots().get(day).size();
+            classOffsets[day + 1] = classOffsets[day] + timeline.classSlots().get(day).size();
+        }
+        this.slotTypes = new byte[slotOffsets[days]];
+        this.slotStarts = new int[slotOffsets[days]];
+        this.slotEnds = new int[slotOffsets[days]];
+        this.classStarts = new int[classOffsets[days]];
+        this.classEnds = new int[classOffsets[days]];
+        this.classMorning = new boolean[classOffsets[days]];
+        for (int day = 0; day < days; day++) {
+            List<Timeline.DaySlot> slots = timeline.perDaySlots().get(day);
+            for (int index = 0; index < slots.size(); index++) {
+                int position = slotOffsets[day] + index;
+                slotTypes[position] = (byte) slots.get(index).type().ordinal();
+                slotStarts[position] = slots.get(index).start();
+                slotEnds[position] = slots.get(index).end();
+            }
+            List<Timeline.ClassSlot> classes = timeline.classSlots().get(day);
+            for (int index = 0; index < classes.size(); index++) {
+                int position = classOffsets[day] + index;
+                classStarts[position] = classes.get(index).start();
+                classEnds[position] = classes.get(index).end();
+                classMorning[position] = classes.get(index).morning();
+            }
+        }
+        this.adminMinutes = timeline.adminMinutes();
+        this.breakMinutes = timeline.breakMinutes();
+    }
+
+    public static SlotLayout of(Timeline timeline) {
+        return new SlotLayout(timeline);
+    }
+
+    public int days() {
+        return slotOffsets.length - 1;
+    }
+
+    public int slotCount(int day) {
+        return slotOffsets[day + 1] - slotOffsets[day];
+    }
+
+    public Timeline.SlotType slotType(int day, int index) {
+        return TYPES[slotTypes[slotOffsets[day] + index]];
+    }
+
+    public int slotStart(int day, int index) {
+        return slotStarts[slotOffsets[day] + index];
+    }
+
+    public int slotEnd(int day, int index) {
+        return slotEnds[slotOffsets[day] + index];
+    }
+
+    public int classSlotCount(int day) {
+        return classOffsets[day + 1] - classOffsets[day];
+    }
+
+    public int classStart(int day, int block) {
+        return classStarts[classOffsets[day] + block];
+    }
+
+    public int classEnd(int day, int block) {
+        return classEnds[classOffsets[day] + block];
+    }
+
+    public boolean isMorning(int day, int block) {
+        return classMorning[classOffsets[day] + block];
+    }
+
+    public int availableClassBlocks() {
+        return classStarts.length;
+    }
+
+    public int adminMinutes() {
+        return adminMinutes;
+    }
+
+    public int breakMinutes() {
+        return breakMinutes;
+    }
+}
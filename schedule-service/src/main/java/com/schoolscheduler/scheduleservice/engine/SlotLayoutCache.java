@@ -0,0 +1,41 @@
+package com.schoolscheduler.scheduleservice.engine;
+
+import com.schoolscheduler.scheduleservice.service.model.SchedulerConfig;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds each level's {@link SlotLayout} once per configuration. The key is the configuration
+ * content itself, so a config change yields new entries without any explicit invalidation; stale
+ * entries are dropped wholesale once the cache outgrows {@code max-entries}.
+ */
+@Component
+public class SlotLayoutCache {
+
+    private record Key(String levelId, SchedulerConfig config) {
+    }
+
+    private final TimelineBuilder timelineBuilder;
+    private final int maxEntries;
+    private final Map<Key, SlotLayout> layouts = new ConcurrentHashMap<>();
+
+    public SlotLayoutCache(TimelineBuilder timelineBuilder,
+                           @Value("${scheduler.timeline.max-entries:64}") int maxEntries) {
+        this.timelineBuilder = timelineBuilder;
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    public SlotLayout layout(String levelId, SchedulerConfig config) {
+        Key key = new Key(levelId, config);
+        SlotLayout cached = layouts.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        if (layouts.size() >= maxEntries) {
+            layouts.clear();
+        }
+        return layouts.computeIfAbsent(key, missing -> SlotLayout.of(timelineBuilder.build(levelId, config)));
+    }
+}
@@ -0,0 +1,123 @@
+package com.schoolscheduler.scheduleservice.engine;
+
+import com.schoolscheduler.scheduleservice.service.model.TeacherData;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Teacher timetables shared by generations running on different threads. Each teacher owns a
+ * row of bits, one per {@value #MINUTES_PER_UNIT} minutes of every working day, and a counter of
+ * weekly blocks left. A claim reserves a block from the counter and sets the bits covering the
+ * slot with compare-and-set; if another thread already holds any of those bits, the words set so
+ * far and the block are given back and the caller tries its next candidate. Slots are claimed by
+ * time rather than by block index, so levels with different bell schedules still collide.
+ */
+public final class TeacherOccupancy {
+
+    private static final int MINUTES_PER_UNIT = 5;
+    private static final int UNITS_PER_DAY = 24 * 60 / MINUTES_PER_UNIT;
+    private static final int DAYS = TimelineBuilder.WORKING_DAYS.size();
+    private static final int WORDS_PER_TEACHER = (DAYS * UNITS_PER_DAY + Long.SIZE - 1) / Long.SIZE;
+
+    private final Map<Long, Integer> rows;
+    private final AtomicLongArray slots;
+    private final AtomicIntegerArray remainingBlocks;
+
+    private TeacherOccupancy(Map<Long, Integer> rows, int[] capacities) {
+        this.rows = rows;
+        this.slots = new AtomicLongArray(rows.size() * WORDS_PER_TEACHER);
+        this.remainingBlocks = new AtomicIntegerArray(capacities);
+    }
+
+    public static TeacherOccupancy forTeachers(Collection<TeacherData> teachers, int blockDuration) {
+        Map<Long, Integer> rows = new HashMap<>();
+        int[] capacities = new int[teachers.size()];
+        for (TeacherData teacher : teachers) {
+            if (teacher.id() == null || rows.containsKey(teacher.id())) {
+                continue;
+            }
+            capacities[rows.size()] = Math.max(0, teacher.weeklyHours() != null ? teacher.weeklyHours() : 0)
+                    * 60 / blockDuration;
+            rows.put(teacher.id(), rows.size());
+        }
+        return new TeacherOccupancy(Map.copyOf(rows), capacities);
+    }
+
+    public int remainingBlocks(Long teacherId) {
+        Integer row = rows.get(teacherId);
+        return row != null ? remainingBlocks.get(row) : 0;
+    }
+
+    public boolean claim(Long teacherId, int day, int startMinute, int endMinute) {
+        Integer row = rows.get(teacherId);
+        if (row == null || !reserveBlock(row)) {
+            return false;
+        }
+        int first = firstBit(row, day, startMinute);
+        int last = lastBit(row, day, startMinute, endMinute);
+        for (int word = first / Long.SIZE; word <= last / Long.SIZE; word++) {
+            long mask = mask(word, first, last);
+            long current;
+            do {
+                current = slots.get(word);
+                if ((current & mask) != 0) {
+                    clear(first, Math.min(last, word * Long.SIZE - 1));
+                    remainingBlocks.incrementAndGet(row);
+                    return false;
+                }
+            } while (!slots.compareAndSet(word, current, current | mask));
+        }
+        return true;
+    }
+
+    public void release(Long teacherId, int day, int startMinute, int endMinute) {
+        Integer row = rows.get(teacherId);
+        if (row == null) {
+            return;
+        }
+        clear(firstBit(row, day, startMinute), lastBit(row, day, startMinute, endMinute));
+        remainingBlocks.incrementAndGet(row);
+    }
+
+    private boolean reserveBlock(int row) {
+        int current;
+        do {
+            current = remainingBlocks.get(row);
+            if (current <= 0) {
+                return false;
+            }
+        } while (!remainingBlocks.compareAndSet(row, current, current - 1));
+        return true;
+    }
+
+    private void clear(int first, int last) {
+        for (int word = first / Long.SIZE; word <= last / Long.SIZE && first <= last; word++) {
+            long mask = mask(word, first, last);
+            long current;
+            do {
+                current = slots.get(word);
+            } while (!slots.compareAndSet(word, current, current & ~mask));
+        }
+    }
+
+    private static int firstBit(int row, int day, int startMinute) {
+        return row * WORDS_PER_TEACHER * Long.SIZE + day * UNITS_PER_DAY + startMinute / MINUTES_PER_UNIT;
+    }
+
+    // A slot shorter than one unit, or with no end, still occupies the unit it starts in.
+    private static int lastBit(int row, int day, int startMinute, int endMinute) {
+        int endUnit = (Math.min(endMinute, 24 * 60) + MINUTES_PER_UNIT - 1) / MINUTES_PER_UNIT;
+        int startUnit = startMinute / MINUTES_PER_UNIT;
+        return row * WORDS_PER_TEACHER * Long.SIZE + day * UNITS_PER_DAY + Math.max(startUnit, endUnit - 1);
+    }
+
+    private static long mask(int word, int first, int last) {
+        int from = Math.max(first, word * Long.SIZE) - word * Long.SIZE;
+        int to = Math.min(last, word * Long.SIZE + Long.SIZE - 1) - word * Long.SIZE;
+        long upper = to == Long.SIZE - 1 ? -1L : (1L << (to + 1)) - 1;
+        return upper & (-1L << from);
+    }
+}
@@ -0,0 +1,32 @@
+package com.schoolscheduler.scheduleservice.engine;
+
+import java.util.List;
+
+public record Timeline(
+        List<List<DaySlot>> perDaySlots,
+        List<List<ClassSlot>> classSlots,
+        List<StructureRow> structure,
+        int adminMinutes,
+        int breakMinutes
+) {
+
+    public enum SlotType {
+        CLASS,
+        LUNCH,
+        ADMIN,
+        BREAK
+    }
+
+    public record DaySlot(SlotType type, int start, int end) {
+    }
+
+    public record ClassSlot(int start, int end, boolean morning) {
+    }
+
+    public record StructureRow(SlotType kind, String time) {
+    }
+
+    public int availableClassBlocks() {
+        return classSlots.stream().mapToInt(List::size).sum();
+    }
+}
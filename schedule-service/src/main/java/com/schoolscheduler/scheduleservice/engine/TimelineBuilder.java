@@ -0,0 +1,169 @@
+package com.schoolscheduler.scheduleservice.engine;
+
+import com.schoolscheduler.scheduleservice.service.model.LevelScheduleConfig;
+import com.schoolscheduler.scheduleservice.service.model.SchedulerConfig;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * Java port of {@code buildTimeline} in {@code schedulePreview.ts}: lays out the daily slots of a
+ * level (classes, breaks, lunch and administrative ranges) from the scheduler configuration.
+ */
+@Component
+public class TimelineBuilder {
+
+    public static final List<String> WORKING_DAYS = List.of("Lunes", "Martes", "Miércoles", "Jueves", "Viernes");
+
+    private record Range(Timeline.SlotType type, int start, int end) {
+    }
+
+    public Timeline build(String levelId, SchedulerConfig config) {
+        int blockDuration = Math.max(30, config.blockDuration());
+        int dayStart = timeToMinutes(config.dayStart() != null ? config.dayStart() : "08:00");
+        Integer lunchStart = config.lunchStart() != null ? timeToMinutes(config.lunchStart()) : null;
+        int lunchDuration = Math.max(0, config.lunchDuration());
+        Integer lunchEnd = lunchStart != null ? lunchStart + lunchDuration : null;
+
+        Optional<LevelScheduleConfig> levelSchedule = config.levelSchedule(levelId);
+        int dayEnd = levelSchedule.map(LevelScheduleConfig::endTime)
+                .map(TimelineBuilder::timeToMinutes)
+                .orElse(dayStart + blockDuration * 8 + lunchDuration);
+        List<Range> breakEntries = levelSchedule
+                .filter(schedule -> "custom".equals(schedule.breakMode()) && schedule.breaks() != null)
+                .map(schedule -> schedule.breaks().stream()
+                        .map(entry -> {
+                            int start = timeToMinutes(entry.start() != null ? entry.start() : "10:00");
+                            int duration = Math.max(0, entry.duration() != null ? entry.duration() : 0);
+                            return new Range(Timeline.SlotType.BREAK, start, start + duration);
+                        })
+                        .filter(range -> range.end() > range.start())
+                        .toList())
+                .orElse(List.of());
+
+        List<List<Timeline.DaySlot>> perDaySlots = new ArrayList<>();
+        List<List<Timeline.ClassSlot>> classSlots = new ArrayList<>();
+        int adminMinutes = 0;
+        int breakMinutes = 0;
+
+        for (String day : WORKING_DAYS) {
+            List<Range> specialRanges = new ArrayList<>();
+            levelSchedule.map(LevelScheduleConfig::administrativeBlocks).orElse(List.of()).stream()
+                    .filter(block -> day.equals(block.day()))
+                    .map(block -> new Range(Timeline.SlotType.ADMIN, timeToMinutes(block.start()), timeToMinutes(block.end())))
+                    .filter(range -> range.end() > range.start())
+                    .forEach(specialRanges::add);
+            if (lunchStart != null && lunchDuration > 0) {
+                specialRanges.add(new Range(Timeline.SlotType.LUNCH, lunchStart, lunchEnd));
+            }
+            breakEntries.stream()
+                    .filter(range -> range.start() >= dayStart && range.end() <= dayEnd + 1)
+                    .forEach(specialRanges::add);
+            specialRanges.sort(Comparator.comparingInt(Range::start));
+
+            List<Timeline.DaySlot> daySlots = new ArrayList<>();
+            List<Timeline.ClassSlot> dayClassSlots = new ArrayList<>();
+            int pointer = dayStart;
+
+            while (pointer < dayEnd + 1) {
+                Range active = findActive(specialRanges, pointer);
+                if (active != null) {
+                    daySlots.add(new Timeline.DaySlot(active.type(), active.start(), active.end()));
+                    if (active.type() == Timeline.SlotType.ADMIN) {
+                        adminMinutes += active.end() - active.start();
+                    }
+                    if (active.type() == Timeline.SlotType.BREAK) {
+                        breakMinutes += active.end() - active.start();
+                    }
+                    pointer = active.end();
+                    continue;
+                }
+
+                int blockEnd = pointer + blockDuration;
+                if (blockEnd > dayEnd + 1) {
+                    break;
+                }
+
+                Range next = findNext(specialRanges, pointer);
+                if (next != null && blockEnd > next.start()) {
+                    pointer = next.start();
+                    continue;
+                }
+
+                daySlots.add(new Timeline.DaySlot(Timeline.SlotType.CLASS, pointer, blockEnd));
+                dayClassSlots.add(new Timeline.ClassSlot(pointer, blockEnd,
+                        isMorning(lunchStart, lunchEnd, pointer, blockEnd)));
+                pointer = blockEnd;
+            }
+
+            perDaySlots.add(daySlots);
+            classSlots.add(dayClassSlots);
+        }
+
+        int maxSlots = perDaySlots.stream().mapToInt(List::size).max().orElse(0);
+        for (int dayIndex = 0; dayIndex < perDaySlots.size(); dayIndex++) {
+            List<Timeline.DaySlot> slots = perDaySlots.get(dayIndex);
+            List<Timeline.ClassSlot> dayClassSlots = classSlots.get(dayIndex);
+            int pointer = slots.isEmpty() ? dayStart : slots.get(slots.size() - 1).end();
+            while (slots.size() < maxSlots) {
+                int slotEnd = pointer + blockDuration;
+                slots.add(new Timeline.DaySlot(Timeline.SlotType.CLASS, pointer, slotEnd));
+                dayClassSlots.add(new Timeline.ClassSlot(pointer, slotEnd, isMorning(lunchStart, lunchEnd, pointer, slotEnd)));
+                pointer = slotEnd;
+            }
+        }
+
+        List<Timeline.StructureRow> structure = perDaySlots.get(0).stream()
+                .map(slot -> new Timeline.StructureRow(
+                        slot.type() == Timeline.SlotType.ADMIN ? Timeline.SlotType.CLASS : slot.type(),
+                        minutesToTime(slot.start()) + " - " + minutesToTime(slot.end())))
+                .toList();
+
+        return new Timeline(perDaySlots, classSlots, structure, adminMinutes, breakMinutes);
+    }
+
+    private static Range findActive(List<Range> ranges, int pointer) {
+        for (Range range : ranges) {
+            if (pointer >= range.start() && pointer < range.end()) {
+                return range;
+            }
+        }
+        return null;
+    }
+
+    private static Range findNext(List<Range> ranges, int pointer) {
+        for (Range range : ranges) {
+            if (range.start() > pointer) {
+                return range;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isMorning(Integer lunchStart, Integer lunchEnd, int slotStart, int slotEnd) {
+        if (lunchStart == null || lunchEnd == null) {
+            return slotStart < 12 * 60;
+        }
+        if (slotEnd <= lunchStart) {
+            return true;
+        }
+        if (slotStart >= lunchEnd) {
+            return false;
+        }
+        return slotStart < lunchStart;
+    }
+
+    static int timeToMinutes(String time) {
+        String[] parts = time.split(":");
+        int hour = parts.length > 0 && !parts[0].isBlank() ? Integer.parseInt(parts[0].trim()) : 0;
+        int minute = parts.length > 1 && !parts[1].isBlank() ? Integer.parseInt(parts[1].trim()) : 0;
+        return hour * 60 + minute;
+    }
+
+    public static String minutesToTime(int minutes) {
+        int total = ((minutes % (24 * 60)) + 24 * 60) % (24 * 60);
+        return String.format("%02d:%02d", total / 60, total % 60);
+    }
+}
@@ -0,0 +1,40 @@
+package com.schoolscheduler.scheduleservice.engine.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The greedy generator never undoes a single placement; it backs off in two ways. A subject
+ * that finds no slot on a day moves on to the next one, and a level that fails hands back every
+ * teacher slot it had claimed.
+ */
+@Name(BacktrackEvent.NAME)
+@Label("Backtrack")
+@Description("A subject giving up on a day, or a failed level releasing its teacher slots")
+@Category({"School Scheduler", "Generation"})
+public class BacktrackEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.schoolscheduler.Backtrack";
+    public static final String DAY_SKIPPED = "daySkipped";
+    public static final String ROLLBACK = "rollback";
+
+    @Label("Level")
+    public String levelId;
+
+    @Label("Course Id")
+    public long courseId;
+
+    @Label("Subject Id")
+    public long subjectId;
+
+    @Label("Day")
+    public int day;
+
+    @Label("Kind")
+    public String kind;
+
+    @Label("Released Sessions")
+    public int released;
+}
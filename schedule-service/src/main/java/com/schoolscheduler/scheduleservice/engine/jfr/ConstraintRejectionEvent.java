@@ -0,0 +1,39 @@
+package com.schoolscheduler.scheduleservice.engine.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Off unless a recording enables it by name: there is one per rejected slot.
+ */
+@Name(ConstraintRejectionEvent.NAME)
+@Label("Constraint Rejection")
+@Description("A free slot refused for a subject, with the constraint that refused it")
+@Category({"School Scheduler", "Generation"})
+@Enabled(false)
+public class ConstraintRejectionEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.schoolscheduler.ConstraintRejection";
+    public static final String MAX_DAILY = "maxDaily";
+    public static final String CONSECUTIVE = "consecutive";
+    public static final String TEACHER_CLASH = "teacherClash";
+    public static final String CAPACITY = "capacity";
+
+    @Label("Course Id")
+    public long courseId;
+
+    @Label("Subject Id")
+    public long subjectId;
+
+    @Label("Day")
+    public int day;
+
+    @Label("Block")
+    public int block;
+
+    @Label("Reason")
+    public String reason;
+}
@@ -0,0 +1,30 @@
+package com.schoolscheduler.scheduleservice.engine.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(CourseGenerationEvent.NAME)
+@Label("Course Generation")
+@Description("Distribution of the weekly load of one course, from its first to its last placement")
+@Category({"School Scheduler", "Generation"})
+public class CourseGenerationEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.schoolscheduler.CourseGeneration";
+
+    @Label("Level")
+    public String levelId;
+
+    @Label("Course Id")
+    public long courseId;
+
+    @Label("Course")
+    public String courseName;
+
+    @Label("Sessions")
+    public int sessions;
+
+    @Label("Error")
+    public String error;
+}
@@ -0,0 +1,27 @@
+package com.schoolscheduler.scheduleservice.engine.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(LevelGenerationEvent.NAME)
+@Label("Level Generation")
+@Description("One call to the schedule generator for a level")
+@Category({"School Scheduler", "Generation"})
+public class LevelGenerationEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.schoolscheduler.LevelGeneration";
+
+    @Label("Level")
+    public String levelId;
+
+    @Label("Courses")
+    public int courses;
+
+    @Label("Sessions")
+    public int sessions;
+
+    @Label("Error")
+    public String error;
+}
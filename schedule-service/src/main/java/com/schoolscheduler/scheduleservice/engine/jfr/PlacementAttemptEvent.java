@@ -0,0 +1,35 @@
+package com.schoolscheduler.scheduleservice.engine.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Off unless a recording enables it by name: there is one per free slot tried.
+ */
+@Name(PlacementAttemptEvent.NAME)
+@Label("Placement Attempt")
+@Description("Search for a teacher to place a subject in a free slot")
+@Category({"School Scheduler", "Generation"})
+@Enabled(false)
+public class PlacementAttemptEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.schoolscheduler.PlacementAttempt";
+
+    @Label("Course Id")
+    public long courseId;
+
+    @Label("Subject Id")
+    public long subjectId;
+
+    @Label("Day")
+    public int day;
+
+    @Label("Block")
+    public int block;
+
+    @Label("Placed")
+    public boolean placed;
+}
@@ -0,0 +1,147 @@
+package com.schoolscheduler.scheduleservice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.Instant;
+
+/**
+ * One published schedule of a level. Every version stores its cell changes against the previous
+ * one; base versions additionally store the full schedule so reads never replay more than one
+ * re-basing interval of deltas.
+ */
+@Entity
+@Table(name = "schedule_version",
+        uniqueConstraints = @UniqueConstraint(name = "uk_schedule_version_level", columnNames = {"level", "version_number"}))
+public class ScheduleVersion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String level;
+
+    @Column(name = "version_number", nullable = false)
+    private Integer versionNumber;
+
+    @Column(name = "base_version", nullable = false)
+    private Integer baseVersion;
+
+    @Column(nullable = false)
+    private boolean base;
+
+    @Column(nullable = false)
+    private byte[] delta;
+
+    @Column(name = "delta_size", nullable = false)
+    private Integer deltaSize;
+
+    private byte[] snapshot;
+
+    @Column(name = "snapshot_size")
+    private Integer snapshotSize;
+
+    @Column(name = "changed_cells", nullable = false)
+    private Integer changedCells;
+
+    @Column(name = "total_cells", nullable = false)
+    private Integer totalCells;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getLevel() {
+        return level;
+    }
+
+    public void setLevel(String level) {
+        this.level = level;
+    }
+
+    public Integer getVersionNumber() {
+        return versionNumber;
+    }
+
+    public void setVersionNumber(Integer versionNumber) {
+        this.versionNumber = versionNumber;
+    }
+
+    public Integer getBaseVersion() {
+        return baseVersion;
+    }
+
+    public void setBaseVersion(Integer baseVersion) {
+        this.baseVersion = baseVersion;
+    }
+
+    public boolean isBase() {
+        return base;
+    }
+
+    public void setBase(boolean base) {
+        this.base = base;
+    }
+
+    public byte[] getDelta() {
+        return delta;
+    }
+
+    public void setDelta(byte[] delta) {
+        this.delta = delta;
+        this.deltaSize = delta != null ? delta.length : 0;
+    }
+
+    public Integer getDeltaSize() {
+        return deltaSize;
+    }
+
+    public byte[] getSnapshot() {
+        return snapshot;
+    }
+
+    public void setSnapshot(byte[] snapshot) {
+        this.snapshot = snapshot;
+        this.snapshotSize = snapshot != null ? snapshot.length : null;
+    }
+
+    public Integer getSnapshotSize() {
+        return snapshotSize;
+    }
+
+    public Integer getChangedCells() {
+        return changedCells;
+    }
+
+    public void setChangedCells(Integer changedCells) {
+        this.changedCells = changedCells;
+    }
+
+    public Integer getTotalCells() {
+        return totalCells;
+    }
+
+    public void setTotalCells(Integer totalCells) {
+        this.totalCells = totalCells;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
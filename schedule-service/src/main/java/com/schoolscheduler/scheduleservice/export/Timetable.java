@@ -0,0 +1,26 @@
+package com.schoolscheduler.scheduleservice.export;
+
+import com.schoolscheduler.scheduleservice.engine.Timeline;
+import java.util.List;
+
+/**
+ * Weekly grid of one course or teacher, already resolved to display names. Rows follow the slot
+ * structure of the level's layout; {@code secondary} holds the teacher of a course cell or the
+ * course of a teacher cell.
+ */
+public record Timetable(
+        String heading,
+        String title,
+        String levelId,
+        String secondaryLabel,
+        List<String> days,
+        List<Row> rows,
+        int classMinutes
+) {
+
+    public record Row(String time, List<Cell> cells) {
+    }
+
+    public record Cell(Timeline.SlotType type, int start, int end, String subject, String secondary, String room) {
+    }
+}
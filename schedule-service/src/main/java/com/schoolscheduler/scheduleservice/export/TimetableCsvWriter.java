@@ -0,0 +1,62 @@
+package com.schoolscheduler.scheduleservice.export;
+
+import com.schoolscheduler.scheduleservice.engine.Timeline;
+import com.schoolscheduler.scheduleservice.engine.TimelineBuilder;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * One line per scheduled class, timetable by timetable and day by day. Starts with a UTF-8 byte order mark so spreadsheet
+ * applications keep the accents of day and subject names.
+ */
+public final class TimetableCsvWriter {
+
+    private TimetableCsvWriter() {
+    }
+
+    public static void write(List<Timetable> timetables, OutputStream target) throws IOException {
+        Writer out = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8));
+        out.write('\uFEFF');
+        String secondaryLabel = timetables.isEmpty() ? "" : timetables.get(0).secondaryLabel();
+        line(out, "Nivel", "Día", "Inicio", "Fin", "Asignatura", secondaryLabel, "Sala");
+        for (Timetable timetable : timetables) {
+            for (int day = 0; day < timetable.days().size(); day++) {
+                for (Timetable.Row row : timetable.rows()) {
+                    Timetable.Cell cell = row.cells().get(day);
+                    if (cell != null && cell.type() == Timeline.SlotType.CLASS && cell.subject() != null) {
+                        line(out, timetable.levelId(), timetable.days().get(day),
+                                TimelineBuilder.minutesToTime(cell.start()), TimelineBuilder.minutesToTime(cell.end()),
+                                cell.subject(), cell.secondary(), cell.room());
+                    }
+                }
+            }
+        }
+        // Flushed but not closed: the target may be an entry of a bulk ZIP.
+        out.flush();
+    }
+
+    private static void line(Writer out, String... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(quote(values[i]));
+        }
+        out.write("\r\n");
+    }
+
+    private static String quote(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,239 @@
+package com.schoolscheduler.scheduleservice.export;
+
+import com.schoolscheduler.scheduleservice.engine.Timeline;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Minimal PDF 1.4 writer for timetables: one landscape A4 page per {@link Timetable}, drawn with the
+ * standard Helvetica fonts so nothing has to be embedded. Each page is written to the target as
+ * soon as it is complete; only object offsets are kept until {@link #finish()} writes the page
+ * tree and cross-reference table, so memory does not grow with the number of pages.
+ */
+public final class TimetablePdfWriter {
+
+    private static final Charset WIN_ANSI = Charset.forName("windows-1252");
+    private static final float PAGE_WIDTH = 842;
+    private static final float PAGE_HEIGHT = 595;
+    private static final float MARGIN = 36;
+    private static final float TIME_COLUMN = 80;
+    private static final float HEADER_ROW = 18;
+    private static final int CATALOG = 1;
+    private static final int PAGES = 2;
+    private static final int REGULAR_FONT = 3;
+    private static final int BOLD_FONT = 4;
+
+    private final CountingOutputStream out;
+    private final String schoolName;
+    private final String generatedOn;
+    private final Map<Integer, Long> offsets = new TreeMap<>();
+    private final List<Integer> pageIds = new ArrayList<>();
+    private int nextId = BOLD_FONT + 1;
+
+    public TimetablePdfWriter(OutputStream target, String schoolName, String generatedOn) throws IOException {
+        this.out = new CountingOutputStream(target);
+        this.schoolName = schoolName;
+        this.generatedOn = generatedOn;
+        out.write("%PDF-1.4\n%".getBytes(StandardCharsets.US_ASCII));
+        out.write(new byte[] {(byte) 0xE2, (byte) 0xE3, (byte) 0xCF, (byte) 0xD3, '\n'});
+        object(REGULAR_FONT, "<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica /Encoding /WinAnsiEncoding >>");
+        object(BOLD_FONT, "<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica-Bold /Encoding /WinAnsiEncoding >>");
+    }
+
+    public void page(Timetable timetable) throws IOException {
+        byte[] content = content(timetable).getBytes(WIN_ANSI);
+        int contentId = nextId++;
+        int pageId = nextId++;
+        ByteArrayOutputStream stream = new ByteArrayOutputStream(content.length + 64);
+        stream.write(("<< /Length " + content.length + " >>\nstream\n").getBytes(StandardCharsets.US_ASCII));
+        stream.write(content);
+        stream.write("\nendstream".getBytes(StandardCharsets.US_ASCII));
+        object(contentId, stream.toByteArray());
+        object(pageId, "<< /Type /Page /Parent " + PAGES + " 0 R /MediaBox [0 0 842 595] /Resources << /Font << /F1 "
+                + REGULAR_FONT + " 0 R /F2 " + BOLD_FONT + " 0 R >> >> /Contents " + contentId + " 0 R >>");
+        pageIds.add(pageId);
+    }
+
+    /** Writes the document trailer. The target stream is flushed but left open. */
+    public void finish() throws IOException {
+        StringBuilder kids = new StringBuilder();
+        pageIds.forEach(id -> kids.append(id).append(" 0 R "));
+        object(PAGES, "<< /Type /Pages /Kids [" + kids + "] /Count " + pageIds.size() + " >>");
+        object(CATALOG, "<< /Type /Catalog /Pages " + PAGES + " 0 R >>");
+        long xref = out.count();
+        StringBuilder trailer = new StringBuilder("xref\n0 ").append(nextId).append("\n0000000000 65535 f \n");
+        for (int id = 1; id < nextId; id++) {
+            trailer.append(String.format(Locale.ROOT, "%010d 00000 n \n", offsets.get(id)));
+        }
+        trailer.append("trailer\n<< /Size ").append(nextId).append(" /Root ").append(CATALOG).append(" 0 R >>\n")
+                .append("startxref\n").append(xref).append("\n%%EOF\n");
+        out.write(trailer.toString().getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    private void object(int id, String body) throws IOException {
+        object(id, body.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private void object(int id, byte[] body) throws IOException {
+        offsets.put(id, out.count());
+        out.write((id + " 0 obj\n").getBytes(StandardCharsets.US_ASCII));
+        out.write(body);
+        out.write("\nendobj\n".getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private String content(Timetable timetable) {
+        StringBuilder page = new StringBuilder(8192);
+        float top = PAGE_HEIGHT - MARGIN;
+        text(page, "F2", 16, MARGIN, top - 16, schoolName);
+        text(page, "F1", 9, MARGIN, top - 30, "Nivel " + timetable.levelId() + " • Generado " + generatedOn);
+        text(page, "F2", 13, MARGIN, top - 48, timetable.heading() + " — " + timetable.title());
+
+        int days = timetable.days().size();
+        float tableTop = top - 62;
+        float dayColumn = (PAGE_WIDTH - 2 * MARGIN - TIME_COLUMN) / Math.max(1, days);
+        int rows = Math.max(1, timetable.rows().size());
+        float rowHeight = Math.max(12, Math.min(34, (tableTop - HEADER_ROW - MARGIN - 20) / rows));
+
+        fill(page, 0.89f, 0.91f, 0.94f, MARGIN, tableTop - HEADER_ROW, PAGE_WIDTH - 2 * MARGIN, HEADER_ROW);
+        text(page, "F2", 9, MARGIN + 4, tableTop - 12, "Horario");
+        for (int day = 0; day < days; day++) {
+            text(page, "F2", 9, MARGIN + TIME_COLUMN + day * dayColumn + 4, tableTop - 12, timetable.days().get(day));
+        }
+
+        float y = tableTop - HEADER_ROW;
+        for (Timetable.Row row : timetable.rows()) {
+            y -= rowHeight;
+            text(page, "F1", 8, MARGIN + 4, y + rowHeight / 2 - 3, row.time());
+            for (int day = 0; day < days; day++) {
+                cell(page, row.cells().get(day), MARGIN + TIME_COLUMN + day * dayColumn, y, dayColumn, rowHeight);
+            }
+        }
+
+        page.append("0.6 0.65 0.72 RG 0.5 w\n");
+        rect(page, MARGIN, y, PAGE_WIDTH - 2 * MARGIN, tableTop - y, "S");
+        line(page, MARGIN + TIME_COLUMN, y, MARGIN + TIME_COLUMN, tableTop);
+        for (int day = 1; day < days; day++) {
+            float x = MARGIN + TIME_COLUMN + day * dayColumn;
+            line(page, x, y, x, tableTop);
+        }
+        for (int row = 0; row <= timetable.rows().size(); row++) {
+            float lineY = tableTop - HEADER_ROW - row * rowHeight;
+            line(page, MARGIN, lineY, PAGE_WIDTH - MARGIN, lineY);
+        }
+
+        page.append("0 g\n");
+        text(page, "F1", 9, MARGIN, y - 16, "Horas de clase (semanales): " + formatMinutes(timetable.classMinutes()));
+        return page.toString();
+    }
+
+    private void cell(StringBuilder page, Timetable.Cell cell, float x, float y, float width, float height) {
+        Timeline.SlotType type = cell != null ? cell.type() : null;
+        String main;
+        String meta = null;
+        if (type == Timeline.SlotType.BREAK) {
+            fill(page, 0.98f, 0.80f, 0.08f, x, y, width, height);
+            main = "Recreo";
+        } else if (type == Timeline.SlotType.LUNCH) {
+            fill(page, 0.98f, 0.45f, 0.09f, x, y, width, height);
+            main = "Almuerzo";
+        } else if (type == Timeline.SlotType.ADMIN) {
+            fill(page, 0.80f, 0.84f, 0.96f, x, y, width, height);
+            main = "Hora administrativa";
+        } else if (cell != null && cell.subject() != null) {
+            fill(page, 0.86f, 0.92f, 1.0f, x, y, width, height);
+            main = cell.subject();
+            meta = cell.room() != null ? join(cell.secondary(), cell.room()) : cell.secondary();
+        } else {
+            fill(page, 0.95f, 0.96f, 0.98f, x, y, width, height);
+            main = "Sin clase";
+        }
+        page.append("0 g\n");
+        float mainY = meta != null && height >= 20 ? y + height / 2 + 1 : y + height / 2 - 3;
+        text(page, "F2", 8, x + 3, mainY, fit(main, width - 6, 8));
+        if (meta != null && height >= 20) {
+            page.append("0.28 0.33 0.41 rg\n");
+            text(page, "F1", 7, x + 3, mainY - 9, fit(meta, width - 6, 7));
+            page.append("0 g\n");
+        }
+    }
+
+    private static String join(String first, String second) {
+        return first != null ? first + " · " + second : second;
+    }
+
+    private static void text(StringBuilder page, String font, float size, float x, float y, String value) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        page.append("BT /").append(font).append(' ').append(number(size)).append(" Tf ")
+                .append(number(x)).append(' ').append(number(y)).append(" Td (").append(escape(value)).append(") Tj ET\n");
+    }
+
+    private static void fill(StringBuilder page, float r, float g, float b, float x, float y, float width, float height) {
+        page.append(number(r)).append(' ').append(number(g)).append(' ').append(number(b)).append(" rg\n");
+        rect(page, x, y, width, height, "f");
+    }
+
+    private static void rect(StringBuilder page, float x, float y, float width, float height, String operator) {
+        page.append(number(x)).append(' ').append(number(y)).append(' ').append(number(width)).append(' ')
+                .append(number(height)).append(" re ").append(operator).append('\n');
+    }
+
+    private static void line(StringBuilder page, float x1, float y1, float x2, float y2) {
+        page.append(number(x1)).append(' ').append(number(y1)).append(" m ")
+                .append(number(x2)).append(' ').append(number(y2)).append(" l S\n");
+    }
+
+    // Helvetica averages a little over half an em per character; good enough to avoid overflowing a cell.
+    private static String fit(String value, float width, float size) {
+        int maxChars = Math.max(1, (int) (width / (size * 0.52f)));
+        return value.length() <= maxChars ? value : value.substring(0, Math.max(1, maxChars - 1)) + "…";
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("(", "\\(").replace(")", "\\)");
+    }
+
+    private static String number(float value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+
+    private static String formatMinutes(int minutes) {
+        return minutes % 60 == 0 ? minutes / 60 + " h" : minutes / 60 + " h " + minutes % 60 + " min";
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        private CountingOutputStream(OutputStream target) {
+            super(target);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        private long count() {
+            return count;
+        }
+    }
+}
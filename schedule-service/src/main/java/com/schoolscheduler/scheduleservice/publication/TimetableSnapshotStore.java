@@ -0,0 +1,226 @@
+package com.schoolscheduler.scheduleservice.publication;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Directory of pre-rendered timetable documents, one numbered subdirectory per publication:
+ * {@code <version>/<name>.json}, a gzip copy beside it and a {@code manifest.properties} holding
+ * the digest and sizes of each document. A version is written under a staging name and renamed
+ * into place before {@code CURRENT} points at it, so readers only ever see complete versions.
+ * ETags come from the content, not the version, and stay valid across publications that leave a
+ * timetable unchanged. Instances sharing the directory re-read {@code CURRENT} every
+ * {@code reload-interval}. A version is only pruned once its successor has been current for
+ * {@code retire-after}, by which time every instance has switched away from it and finished
+ * sending its files; the newest {@code keep-versions} directories are always kept.
+ */
+@Component
+public class TimetableSnapshotStore {
+
+    private static final String CURRENT = "CURRENT";
+    private static final String MANIFEST = "manifest.properties";
+    private static final String JSON = ".json";
+    private static final String GZIP = ".json.gz";
+
+    public record Document(Path file, long length, String etag, boolean gzip) {
+    }
+
+    private record Entry(String digest, long length, long gzipLength) {
+    }
+
+    private record Version(int number, Path root, Map<String, Entry> entries) {
+    }
+
+    private static final Version NONE = new Version(0, null, Map.of());
+
+    private final Path directory;
+    private final int keepVersions;
+    private final long reloadNanos;
+    private final Duration retireAfter;
+    private volatile Version current;
+    private volatile long checkedAt;
+
+    public TimetableSnapshotStore(@Value("${scheduler.timetable-snapshots.directory:timetables}") Path directory,
+                                  @Value("${scheduler.timetable-snapshots.keep-versions:2}") int keepVersions,
+                                  @Value("${scheduler.timetable-snapshots.reload-interval:PT1S}") Duration reloadInterval,
+                                  @Value("${scheduler.timetable-snapshots.retire-after:PT1M}") Duration retireAfter) {
+        this.directory = directory;
+        this.keepVersions = Math.max(2, keepVersions);
+        this.reloadNanos = reloadInterval.toNanos();
+        // Readers must have had several chances to notice the newer version.
+        this.retireAfter = retireAfter.compareTo(reloadInterval.multipliedBy(3)) < 0
+                ? reloadInterval.multipliedBy(3) : retireAfter;
+    }
+
+    public synchronized int write(Map<String, byte[]> documents) throws IOException {
+        Files.createDirectories(directory);
+        int number = Math.max(current().number(), versions().stream().max(Integer::compare).orElse(0)) + 1;
+        Path staging = Files.createTempDirectory(directory, ".staging-");
+        Map<String, Entry> entries;
+        try {
+            entries = stage(staging, documents);
+        } catch (IOException e) {
+            deleteTree(staging);
+            throw e;
+        }
+        Path root = directory.resolve(Integer.toString(number));
+        Files.move(staging, root, StandardCopyOption.ATOMIC_MOVE);
+        Path pointer = directory.resolve(CURRENT + ".tmp");
+        Files.writeString(pointer, Integer.toString(number));
+        Files.move(pointer, directory.resolve(CURRENT), StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+        current = new Version(number, root, Map.copyOf(entries));
+        checkedAt = System.nanoTime();
+        prune(number);
+        return number;
+    }
+
+    public int currentVersion() {
+        return current().number();
+    }
+
+    public Optional<Document> find(String name, boolean gzip) {
+        Version version = current();
+        Entry entry = version.entries().get(name);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        // Each content coding is its own representation, so the gzip copy gets its own strong tag.
+        return Optional.of(gzip
+                ? new Document(version.root().resolve(name + GZIP), entry.gzipLength(),
+                "\"" + entry.digest() + "-gz\"", true)
+                : new Document(version.root().resolve(name + JSON), entry.length(), "\"" + entry.digest() + "\"", false));
+    }
+
+    // Another instance may have published since the last look, so CURRENT is re-read on an interval.
+    private Version current() {
+        Version version = current;
+        if (version == null || System.nanoTime() - checkedAt > reloadNanos) {
+            synchronized (this) {
+                if (current == null || System.nanoTime() - checkedAt > reloadNanos) {
+                    current = reload(current);
+                    checkedAt = System.nanoTime();
+                }
+                version = current;
+            }
+        }
+        return version;
+    }
+
+    private Version reload(Version previous) {
+        Path pointer = directory.resolve(CURRENT);
+        if (!Files.exists(pointer)) {
+            return NONE;
+        }
+        try {
+            int number = Integer.parseInt(Files.readString(pointer).trim());
+            if (previous != null && previous.number() == number) {
+                return previous;
+            }
+            Path root = directory.resolve(Integer.toString(number));
+            Properties manifest = new Properties();
+            try (Reader in = Files.newBufferedReader(root.resolve(MANIFEST))) {
+                manifest.load(in);
+            }
+            Map<String, Entry> entries = new HashMap<>();
+            for (String name : manifest.stringPropertyNames()) {
+                String[] parts = manifest.getProperty(name).split(" ");
+                entries.put(name, new Entry(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2])));
+            }
+            return new Version(number, root, Map.copyOf(entries));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<Integer> versions() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.matches("\\d+"))
+                    .map(Integer::valueOf)
+                    .toList();
+        }
+    }
+
+    private void prune(int latest) throws IOException {
+        List<Integer> versions = versions().stream().sorted().toList();
+        Instant retired = Instant.now().minus(retireAfter);
+        for (int index = 0; index < versions.size() - 1; index++) {
+            int number = versions.get(index);
+            if (number > latest - keepVersions) {
+                break;
+            }
+            // The successor's manifest is written just before CURRENT moves to it.
+            Path successor = directory.resolve(versions.get(index + 1) + "/" + MANIFEST);
+            if (!Files.exists(successor) || Files.getLastModifiedTime(successor).toInstant().isAfter(retired)) {
+                continue;
+            }
+            deleteTree(directory.resolve(Integer.toString(number)));
+        }
+    }
+
+    private static void deleteTree(Path root) throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private static Map<String, Entry> stage(Path staging, Map<String, byte[]> documents) throws IOException {
+        Map<String, Entry> entries = new HashMap<>();
+        Properties manifest = new Properties();
+        for (Map.Entry<String, byte[]> document : documents.entrySet()) {
+            byte[] body = document.getValue();
+            Path json = staging.resolve(document.getKey() + JSON);
+            Path gzip = staging.resolve(document.getKey() + GZIP);
+            Files.createDirectories(json.getParent());
+            Files.write(json, body);
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(gzip)) {
+                {
+                    def.setLevel(Deflater.BEST_COMPRESSION);
+                }
+            }) {
+                out.write(body);
+            }
+            Entry entry = new Entry(digest(body), body.length, Files.size(gzip));
+            entries.put(document.getKey(), entry);
+            manifest.setProperty(document.getKey(), entry.digest() + " " + entry.length() + " " + entry.gzipLength());
+        }
+        try (Writer out = Files.newBufferedWriter(staging.resolve(MANIFEST))) {
+            manifest.store(out, null);
+        }
+        return entries;
+    }
+
+    private static String digest(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
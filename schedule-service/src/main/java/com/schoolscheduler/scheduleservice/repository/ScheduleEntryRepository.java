@@ -0,0 +1,19 @@
+package com.schoolscheduler.scheduleservice.repository;
+
+import com.schoolscheduler.scheduleservice.entity.ScheduleEntry;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ScheduleEntryRepository extends JpaRepository<ScheduleEntry, Long> {
+    List<ScheduleEntry> findByLevel(String level);
+
+    List<ScheduleEntry> findByCourseId(Long courseId);
+
+    List<ScheduleEntry> findByTeacherId(Long teacherId);
+
+    boolean existsByLevel(String level);
+
+    void deleteByLevel(String level);
+}
@@ -0,0 +1,51 @@
+package com.schoolscheduler.scheduleservice.repository;
+
+import com.schoolscheduler.scheduleservice.dto.ScheduleVersionDto;
+import com.schoolscheduler.scheduleservice.entity.ScheduleVersion;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads select single columns so that replaying deltas never loads the snapshot blobs of the base
+ * versions in between.
+ */
+@Repository
+public interface ScheduleVersionRepository extends JpaRepository<ScheduleVersion, Long> {
+
+    void deleteByLevel(String level);
+
+    // Held until the publishing transaction ends, so versions of one level are numbered one at a time
+    // and each delta is taken against the schedule its predecessor left behind.
+    @Query(value = "select 1 from pg_advisory_xact_lock(hashtext('schedule_version:' || :level))", nativeQuery = true)
+    Integer lockLevel(@Param("level") String level);
+
+    @Query("select max(v.versionNumber) from ScheduleVersion v where v.level = :level")
+    Integer findLatestVersion(@Param("level") String level);
+
+    @Query("select max(v.versionNumber) from ScheduleVersion v "
+            + "where v.level = :level and v.base = true and v.versionNumber <= :version")
+    Integer findBaseVersion(@Param("level") String level, @Param("version") int version);
+
+    @Query("select v.snapshot from ScheduleVersion v where v.level = :level and v.versionNumber = :version")
+    byte[] findSnapshot(@Param("level") String level, @Param("version") int version);
+
+    @Query("select v.snapshotSize from ScheduleVersion v where v.level = :level and v.versionNumber = :version")
+    Integer findSnapshotSize(@Param("level") String level, @Param("version") int version);
+
+    @Query("select v.delta from ScheduleVersion v "
+            + "where v.level = :level and v.versionNumber > :after and v.versionNumber <= :upTo "
+            + "order by v.versionNumber asc")
+    List<byte[]> findDeltas(@Param("level") String level, @Param("after") int after, @Param("upTo") int upTo);
+
+    @Query("select coalesce(sum(v.deltaSize), 0) from ScheduleVersion v "
+            + "where v.level = :level and v.versionNumber > :after")
+    long sumDeltaSizeAfter(@Param("level") String level, @Param("after") int after);
+
+    @Query("select new com.schoolscheduler.scheduleservice.dto.ScheduleVersionDto(v.versionNumber, v.baseVersion, "
+            + "v.base, v.changedCells, v.totalCells, v.deltaSize + coalesce(v.snapshotSize, 0), v.createdAt) "
+            + "from ScheduleVersion v where v.level = :level order by v.versionNumber desc")
+    List<ScheduleVersionDto> findSummaries(@Param("level") String level);
+}
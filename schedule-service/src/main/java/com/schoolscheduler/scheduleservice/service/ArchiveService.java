@@ -0,0 +1,17 @@
+package com.schoolscheduler.scheduleservice.service;
+
+import com.schoolscheduler.scheduleservice.dto.ArchiveSummaryDto;
+import com.schoolscheduler.scheduleservice.dto.ScheduleEntryDto;
+import java.util.List;
+
+public interface ArchiveService {
+    ArchiveSummaryDto archiveYear(int year, boolean purgeHistory);
+
+    List<ArchiveSummaryDto> findAll();
+
+    List<ScheduleEntryDto> findByLevel(int year, String levelId);
+
+    List<ScheduleEntryDto> findByCourse(int year, Long courseId, Long subjectId);
+
+    List<ScheduleEntryDto> findByTeacher(int year, Long teacherId);
+}
@@ -0,0 +1,120 @@
+package com.schoolscheduler.scheduleservice.service;
+
+import com.schoolscheduler.scheduleservice.archive.ScheduleArchive;
+import com.schoolscheduler.scheduleservice.archive.ScheduleArchiveStore;
+import com.schoolscheduler.scheduleservice.archive.ScheduleArchiveWriter;
+import com.schoolscheduler.scheduleservice.dto.ArchiveSummaryDto;
+import com.schoolscheduler.scheduleservice.dto.ScheduleEntryDto;
+import com.schoolscheduler.scheduleservice.engine.ScheduledSession;
+import com.schoolscheduler.scheduleservice.entity.ScheduleEntry;
+import com.schoolscheduler.scheduleservice.repository.ScheduleEntryRepository;
+import com.schoolscheduler.scheduleservice.repository.ScheduleVersionRepository;
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Closes a school year by writing the published schedules of every level into its archive file.
+ * The file is written within the transaction that purges the history and deleted if it rolls back.
+ * Lookups on archived years are answered from the mapped file only.
+ */
+@Service
+public class ArchiveServiceImpl implements ArchiveService {
+
+    private final ScheduleEntryRepository scheduleEntryRepository;
+    private final ScheduleVersionRepository versionRepository;
+    private final ScheduleArchiveStore archiveStore;
+
+    public ArchiveServiceImpl(ScheduleEntryRepository scheduleEntryRepository,
+                              ScheduleVersionRepository versionRepository,
+                              ScheduleArchiveStore archiveStore) {
+        this.scheduleEntryRepository = scheduleEntryRepository;
+        this.versionRepository = versionRepository;
+        this.archiveStore = archiveStore;
+    }
+
+    @Override
+    @Transactional
+    public ArchiveSummaryDto archiveYear(int year, boolean purgeHistory) {
+        if (archiveStore.exists(year)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "School year " + year + " is already archived");
+        }
+        Map<String, List<ScheduledSession>> sessionsByLevel = scheduleEntryRepository.findAll().stream()
+                .collect(Collectors.groupingBy(ScheduleEntry::getLevel,
+                        Collectors.mapping(entry -> new ScheduledSession(entry.getCourseId(), entry.getDayIndex(),
+                                entry.getBlockIndex(), entry.getSubjectId(), entry.getTeacherId(),
+                                entry.getRoomId()), Collectors.toList())));
+        if (sessionsByLevel.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                    "There are no published schedules to archive");
+        }
+        try {
+            ScheduleArchiveWriter.write(archiveStore.fileFor(year), year, sessionsByLevel);
+        } catch (FileAlreadyExistsException e) {
+            // Another close-out of the same year got there first; its file is not ours to discard.
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "School year " + year + " is already archived", e);
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Could not write the archive for " + year, e);
+        }
+        // The file is in place before the purge commits, so it is removed again if the transaction does not.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    archiveStore.discard(year);
+                }
+            }
+        });
+        if (purgeHistory) {
+            sessionsByLevel.keySet().forEach(versionRepository::deleteByLevel);
+        }
+        return summary(archive(year));
+    }
+
+    @Override
+    public List<ArchiveSummaryDto> findAll() {
+        return archiveStore.years().stream().map(this::archive).map(this::summary).toList();
+    }
+
+    @Override
+    public List<ScheduleEntryDto> findByLevel(int year, String levelId) {
+        return toDtos(archive(year).level(levelId));
+    }
+
+    @Override
+    public List<ScheduleEntryDto> findByCourse(int year, Long courseId, Long subjectId) {
+        return toDtos(archive(year).course(courseId).stream()
+                .filter(session -> subjectId == null || subjectId.equals(session.subjectId()))
+                .toList());
+    }
+
+    @Override
+    public List<ScheduleEntryDto> findByTeacher(int year, Long teacherId) {
+        return toDtos(archive(year).teacher(teacherId));
+    }
+
+    private ScheduleArchive archive(int year) {
+        return archiveStore.find(year).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                "School year " + year + " is not archived"));
+    }
+
+    private ArchiveSummaryDto summary(ScheduleArchive archive) {
+        return new ArchiveSummaryDto(archive.year(), archive.levels(), archive.rowCount(), archive.sizeInBytes());
+    }
+
+    private List<ScheduleEntryDto> toDtos(List<ScheduledSession> sessions) {
+        return sessions.stream()
+                .map(session -> new ScheduleEntryDto(session.courseId(), session.day(), session.block(),
+                        session.subjectId(), session.teacherId(), session.roomId()))
+                .toList();
+    }
+}
@@ -0,0 +1,10 @@
+package com.schoolscheduler.scheduleservice.service;
+
+import com.schoolscheduler.scheduleservice.dto.DatedSlotPageDto;
+import java.time.LocalDate;
+
+public interface CalendarService {
+    DatedSlotPageDto courseCalendar(Long courseId, LocalDate from, LocalDate to, int page, int size);
+
+    DatedSlotPageDto teacherCalendar(Long teacherId, LocalDate from, LocalDate to, int page, int size);
+}
@@ -0,0 +1,127 @@
+package com.schoolscheduler.scheduleservice.service;
+
+import com.schoolscheduler.scheduleservice.client.ResilientDataFetcher;
+import com.schoolscheduler.scheduleservice.dto.DatedSlotDto;
+import com.schoolscheduler.scheduleservice.dto.DatedSlotPageDto;
+import com.schoolscheduler.scheduleservice.engine.SlotLayout;
+import com.schoolscheduler.scheduleservice.engine.SlotLayoutCache;
+import com.schoolscheduler.scheduleservice.engine.TimelineBuilder;
+import com.schoolscheduler.scheduleservice.entity.ScheduleEntry;
+import com.schoolscheduler.scheduleservice.repository.ScheduleEntryRepository;
+import com.schoolscheduler.scheduleservice.service.model.SchedulerConfig;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Expands a published weekly template into dated slots. Holidays for the whole range are
+ * fetched once into a {@link BitSet} of day offsets, and only the requested page is built:
+ * earlier days are skipped by counting the template's slots per weekday.
+ */
+@Service
+public class CalendarServiceImpl implements CalendarService {
+
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int WORKING_DAYS = TimelineBuilder.WORKING_DAYS.size();
+
+    private final ScheduleEntryRepository scheduleEntryRepository;
+    private final ResilientDataFetcher dataFetcher;
+    private final DatasetSnapshotProvider snapshotProvider;
+    private final SlotLayoutCache slotLayouts;
+
+    public CalendarServiceImpl(ScheduleEntryRepository scheduleEntryRepository,
+                               ResilientDataFetcher dataFetcher,
+                               DatasetSnapshotProvider snapshotProvider,
+                               SlotLayoutCache slotLayouts) {
+        this.scheduleEntryRepository = scheduleEntryRepository;
+        this.dataFetcher = dataFetcher;
+        this.snapshotProvider = snapshotProvider;
+        this.slotLayouts = slotLayouts;
+    }
+
+    @Override
+    public DatedSlotPageDto courseCalendar(Long courseId, LocalDate from, LocalDate to, int page, int size) {
+        return expand(scheduleEntryRepository.findByCourseId(courseId), from, to, page, size);
+    }
+
+    @Override
+    public DatedSlotPageDto teacherCalendar(Long teacherId, LocalDate from, LocalDate to, int page, int size) {
+        return expand(scheduleEntryRepository.findByTeacherId(teacherId), from, to, page, size);
+    }
+
+    private DatedSlotPageDto expand(List<ScheduleEntry> entries, LocalDate from, LocalDate to, int page, int size) {
+        if (from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must not be after to");
+        }
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        List<List<DatedSlotTemplate>> template = buildTemplate(entries);
+        BitSet holidays = new BitSet();
+        dataFetcher.fetchHolidays(from, to).forEach(holiday ->
+                holidays.set((int) ChronoUnit.DAYS.between(from, holiday.date())));
+
+        long offset = (long) page * size;
+        long total = 0;
+        List<DatedSlotDto> content = new ArrayList<>(size);
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        for (int dayOffset = 0; dayOffset < days; dayOffset++) {
+            if (holidays.get(dayOffset)) {
+                continue;
+            }
+            LocalDate date = from.plusDays(dayOffset);
+            int weekday = date.getDayOfWeek().getValue() - 1;
+            if (weekday >= WORKING_DAYS) {
+                continue;
+            }
+            List<DatedSlotTemplate> daySlots = template.get(weekday);
+            if (content.size() < size && total + daySlots.size() > offset) {
+                int start = (int) Math.max(0, offset - total);
+                for (int index = start; index < daySlots.size() && content.size() < size; index++) {
+                    content.add(daySlots.get(index).on(date));
+                }
+            }
+            total += daySlots.size();
+        }
+        return new DatedSlotPageDto(content, page, size, total);
+    }
+
+    private record DatedSlotTemplate(int block, String start, String end, ScheduleEntry entry) {
+
+        private DatedSlotDto on(LocalDate date) {
+            return new DatedSlotDto(date, block, start, end, entry.getCourseId(), entry.getSubjectId(),
+                    entry.getTeacherId(), entry.getRoomId());
+        }
+    }
+
+    private List<List<DatedSlotTemplate>> buildTemplate(List<ScheduleEntry> entries) {
+        SchedulerConfig config = snapshotProvider.current().config();
+        Map<String, SlotLayout> layouts = new HashMap<>();
+        List<List<DatedSlotTemplate>> template = new ArrayList<>();
+        for (int day = 0; day < WORKING_DAYS; day++) {
+            template.add(new ArrayList<>());
+        }
+        for (ScheduleEntry entry : entries) {
+            SlotLayout layout = layouts.computeIfAbsent(entry.getLevel(), level -> slotLayouts.layout(level, config));
+            int day = entry.getDayIndex();
+            int block = entry.getBlockIndex();
+            boolean placed = block < layout.classSlotCount(day);
+            template.get(day).add(new DatedSlotTemplate(block,
+                    placed ? TimelineBuilder.minutesToTime(layout.classStart(day, block)) : null,
+                    placed ? TimelineBuilder.minutesToTime(layout.classEnd(day, block)) : null,
+                    entry));
+        }
+        template.forEach(day -> day.sort(Comparator.comparing(DatedSlotTemplate::start, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(slot -> slot.entry().getCourseId())));
+        return template;
+    }
+}
@@ -0,0 +1,50 @@
+package com.schoolscheduler.scheduleservice.service;
+
+import com.schoolscheduler.scheduleservice.client.ResilientDataFetcher;
+import com.schoolscheduler.scheduleservice.configclient.ConfigWatcher;
+import com.schoolscheduler.scheduleservice.service.model.DatasetSnapshot;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DatasetSnapshotProvider {
+
+    private final ResilientDataFetcher dataFetcher;
+    private final Duration snapshotTtl;
+    private final AtomicReference<DatasetSnapshot> current = new AtomicReference<>();
+
+    public DatasetSnapshotProvider(ResilientDataFetcher dataFetcher,
+                                   ConfigWatcher configWatcher,
+                                   @Value("${scheduler.simulation.snapshot-ttl:PT30S}") Duration snapshotTtl) {
+        this.dataFetcher = dataFetcher;
+        this.snapshotTtl = snapshotTtl;
+        configWatcher.addListener(config -> invalidate());
+    }
+
+    public DatasetSnapshot current() {
+        DatasetSnapshot snapshot = current.get();
+        if (snapshot != null && snapshot.takenAt().plus(snapshotTtl).isAfter(Instant.now())) {
+            return snapshot;
+        }
+        synchronized (this) {
+            snapshot = current.get();
+            if (snapshot != null && snapshot.takenAt().plus(snapshotTtl).isAfter(Instant.now())) {
+                return snapshot;
+            }
+            return refresh();
+        }
+    }
+
+    public DatasetSnapshot refresh() {
+        DatasetSnapshot snapshot = dataFetcher.fetchSnapshot();
+        current.set(snapshot);
+        return snapshot;
+    }
+
+    public void invalidate() {
+        current.set(null);
+    }
+}
@@ -0,0 +1,13 @@
+package com.schoolscheduler.scheduleservice.service;
+
+import com.schoolscheduler.scheduleservice.dto.BatchGenerationRequest;
+import com.schoolscheduler.scheduleservice.dto.ScheduleSummaryDto;
+import com.schoolscheduler.scheduleservice.dto.WorkUnitRequest;
+import com.schoolscheduler.scheduleservice.dto.WorkUnitResultDto;
+import java.util.Map;
+
+public interface DistributedGenerationService {
+    Map<String, ScheduleSummaryDto> generate(BatchGenerationRequest request);
+
+    WorkUnitResultDto solve(WorkUnitRequest request);
+}
@@ -0,0 +1,213 @@
+package com.schoolscheduler.scheduleservice.service;
+
+import com.schoolscheduler.scheduleservice.dto.BatchGenerationRequest;
+import com.schoolscheduler.scheduleservice.dto.LevelResultDto;
+import com.schoolscheduler.scheduleservice.dto.ScheduleEntryDto;
+import com.schoolscheduler.scheduleservice.dto.ScheduleSummaryDto;
+import com.schoolscheduler.scheduleservice.dto.WorkUnitRequest;
+import com.schoolscheduler.scheduleservice.dto.WorkUnitResultDto;
+import com.schoolscheduler.scheduleservice.engine.GenerationResult;
+import com.schoolscheduler.scheduleservice.engine.ScheduledSession;
+import com.schoolscheduler.scheduleservice.service.model.DatasetSnapshot;
+import com.schoolscheduler.scheduleservice.service.model.SubjectData;
+import com.schoolscheduler.scheduleservice.service.model.TeacherData;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Spreads a batch generation over the schedule-service instances registered in Eureka. Levels
+ * that can draw on the same teacher are kept in one work unit, since only a single node can
+ * share a {@link com.schoolscheduler.scheduleservice.engine.TeacherOccupancy}; the units are
+ * independent and go to the instances round-robin. Each attempt holds a lease of
+ * {@code scheduler.distributed.lease-duration}: when the node fails or the lease runs out, the
+ * unit moves to the next instance and any late answer from the old one is dropped. After
+ * {@code max-attempts} the coordinator solves the unit itself. Every unit names the dataset version
+ * it was partitioned on; a worker that cannot refresh to that version answers 409 and the
+ * coordinator solves the unit itself right away, so the results published together all come from
+ * the snapshot they are published against.
+ */
+@Service
+public class DistributedGenerationServiceImpl implements DistributedGenerationService {
+
+    private record WorkUnit(String unitId, List<String> levelIds) {
+    }
+
+    private final ScheduleService scheduleService;
+    private final DatasetSnapshotProvider snapshotProvider;
+    private final DiscoveryClient discoveryClient;
+    private final ExecutorService workUnitExecutor;
+    private final RestClient restClient;
+    private final String serviceId;
+    private final Duration leaseDuration;
+    private final int maxAttempts;
+
+    public DistributedGenerationServiceImpl(ScheduleService scheduleService,
+                                            DatasetSnapshotProvider snapshotProvider,
+                                            DiscoveryClient discoveryClient,
+                                            @Qualifier("workUnitExecutor") ExecutorService workUnitExecutor,
+                                            @Value("${spring.application.name}") String serviceId,
+                                            @Value("${scheduler.distributed.lease-duration:PT60S}") Duration leaseDuration,
+                                            @Value("${scheduler.distributed.max-attempts:3}") int maxAttempts,
+                                            @Value("${scheduler.clients.connect-timeout:PT2S}") Duration connectTimeout) {
+        this.scheduleService = scheduleService;
+        this.snapshotProvider = snapshotProvider;
+        this.discoveryClient = discoveryClient;
+        this.workUnitExecutor = workUnitExecutor;
+        this.serviceId = serviceId;
+        this.leaseDuration = leaseDuration;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        // Instances are addressed directly, so this client is not the load-balanced one.
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(
+                HttpClient.newBuilder().connectTimeout(connectTimeout).build());
+        requestFactory.setReadTimeout(leaseDuration);
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+    }
+
+    @Override
+    public Map<String, ScheduleSummaryDto> generate(BatchGenerationRequest request) {
+        DatasetSnapshot snapshot = snapshotProvider.refresh();
+        List<WorkUnit> units = partition(snapshot, scheduleService.levelsFor(snapshot, request));
+        List<ServiceInstance> instances = discoveryClient.getInstances(serviceId);
+        List<CompletableFuture<List<GenerationResult>>> futures = new ArrayList<>();
+        for (int index = 0; index < units.size(); index++) {
+            WorkUnit unit = units.get(index);
+            int first = index;
+            futures.add(CompletableFuture.supplyAsync(() -> dispatch(snapshot, unit, instances, first), workUnitExecutor));
+        }
+        List<GenerationResult> results = futures.stream()
+                .map(CompletableFuture::join)
+                .flatMap(List::stream)
+                .toList();
+        return scheduleService.publishAll(snapshot, results);
+    }
+
+    @Override
+    public WorkUnitResultDto solve(WorkUnitRequest request) {
+        DatasetSnapshot snapshot = snapshotProvider.current();
+        if (!request.datasetVersion().equals(snapshot.version())) {
+            snapshot = snapshotProvider.refresh();
+        }
+        if (!request.datasetVersion().equals(snapshot.version())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Work unit " + request.unitId()
+                    + " was partitioned on dataset " + request.datasetVersion() + " but this instance has "
+                    + snapshot.version());
+        }
+        List<LevelResultDto> levels = scheduleService.solve(snapshot, request.levelIds()).stream()
+                .map(DistributedGenerationServiceImpl::toDto)
+                .toList();
+        return new WorkUnitResultDto(request.unitId(), levels);
+    }
+
+    private List<GenerationResult> dispatch(DatasetSnapshot snapshot, WorkUnit unit, List<ServiceInstance> instances,
+                                            int first) {
+        WorkUnitRequest request = new WorkUnitRequest(unit.unitId(), unit.levelIds(), snapshot.version());
+        for (int attempt = 0; attempt < maxAttempts && !instances.isEmpty(); attempt++) {
+            ServiceInstance instance = instances.get((first + attempt) % instances.size());
+            CompletableFuture<WorkUnitResultDto> call = CompletableFuture.supplyAsync(() -> restClient.post()
+                    .uri(instance.getUri() + "/api/work-units")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(request)
+                    .retrieve()
+                    .body(WorkUnitResultDto.class), workUnitExecutor);
+            try {
+                WorkUnitResultDto result = call.get(leaseDuration.toMillis(), TimeUnit.MILLISECONDS);
+                if (result != null && result.levels() != null && result.levels().size() == unit.levelIds().size()) {
+                    return result.levels().stream().map(DistributedGenerationServiceImpl::fromDto).toList();
+                }
+            } catch (TimeoutException ex) {
+                // The lease ran out; whatever this node answers later is no longer read.
+                call.cancel(true);
+            } catch (ExecutionException ex) {
+                if (ex.getCause() instanceof HttpClientErrorException clientError
+                        && clientError.getStatusCode().value() == HttpStatus.CONFLICT.value()) {
+                    // The worker sees other data than the coordinator; other instances would too.
+                    break;
+                }
+                // Node lost or failing: the unit moves on to the next instance.
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for work unit " + unit.unitId(), ex);
+            }
+        }
+        return scheduleService.solve(snapshot, unit.levelIds());
+    }
+
+    // Teachers without a level may teach anywhere; they tie together the levels they have subjects in.
+    private static List<WorkUnit> partition(DatasetSnapshot snapshot, List<String> levelIds) {
+        int[] parent = new int[levelIds.size()];
+        for (int index = 0; index < parent.length; index++) {
+            parent[index] = index;
+        }
+        for (TeacherData teacher : snapshot.teachers().values()) {
+            if (teacher.level() != null || teacher.subjectIds() == null) {
+                continue;
+            }
+            int joined = -1;
+            for (int index = 0; index < levelIds.size(); index++) {
+                boolean teaches = snapshot.subjectsForLevel(levelIds.get(index)).stream()
+                        .map(SubjectData::id)
+                        .anyMatch(teacher.subjectIds()::contains);
+                if (!teaches) {
+                    continue;
+                }
+                if (joined >= 0) {
+                    parent[root(parent, index)] = root(parent, joined);
+                }
+                joined = index;
+            }
+        }
+        Map<Integer, List<String>> groups = new LinkedHashMap<>();
+        for (int index = 0; index < levelIds.size(); index++) {
+            groups.computeIfAbsent(root(parent, index), key -> new ArrayList<>()).add(levelIds.get(index));
+        }
+        return groups.values().stream()
+                .map(levels -> new WorkUnit(String.join("+", levels), List.copyOf(levels)))
+                .toList();
+    }
+
+    private static int root(int[] parent, int index) {
+        while (parent[index] != index) {
+            parent[index] = parent[parent[index]];
+            index = parent[index];
+        }
+        return index;
+    }
+
+    private static LevelResultDto toDto(GenerationResult result) {
+        List<ScheduleEntryDto> sessions = result.sessions().stream()
+                .map(session -> new ScheduleEntryDto(session.courseId(), session.day(), session.block(),
+                        session.subjectId(), session.teacherId(), session.roomId()))
+                .toList();
+        return new LevelResultDto(result.levelId(), sessions, result.generatedCourses(), result.assignedTeachers(),
+                result.sessionsWithoutRoom(), result.error());
+    }
+
+    private static GenerationResult fromDto(LevelResultDto level) {
+        List<ScheduledSession> sessions = level.sessions() == null ? List.of() : level.sessions().stream()
+                .map(entry -> new ScheduledSession(entry.courseId(), entry.day(), entry.block(), entry.subjectId(),
+                        entry.teacherId(), entry.roomId()))
+                .toList();
+        return new GenerationResult(level.levelId(), sessions, level.generatedCourses(), level.assignedTeachers(),
+                level.sessionsWithoutRoom(), level.error());
+    }
+}
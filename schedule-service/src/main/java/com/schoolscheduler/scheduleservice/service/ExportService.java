@@ -0,0 +1,12 @@
+package com.schoolscheduler.scheduleservice.service;
+
+import com.schoolscheduler.scheduleservice.export.ExportFormat;
+import com.schoolscheduler.scheduleservice.service.model.ExportFile;
+
+public interface ExportService {
+    ExportFile course(Long courseId, ExportFormat format);
+
+    ExportFile teacher(Long teacherId, ExportFormat format);
+
+    ExportFile school(String levelId, ExportFormat format);
+}
@@ -0,0 +1,133 @@
+package com.schoolscheduler.scheduleservice.service;
+
+import com.schoolscheduler.scheduleservice.entity.ScheduleEntry;
+import com.schoolscheduler.scheduleservice.export.ExportFormat;
+import com.schoolscheduler.scheduleservice.export.Timetable;
+import com.schoolscheduler.scheduleservice.export.TimetableCsvWriter;
+import com.schoolscheduler.scheduleservice.export.TimetablePdfWriter;
+import com.schoolscheduler.scheduleservice.repository.ScheduleEntryRepository;
+import com.schoolscheduler.scheduleservice.service.model.CourseData;
+import com.schoolscheduler.scheduleservice.service.model.DatasetSnapshot;
+import com.schoolscheduler.scheduleservice.service.model.ExportFile;
+import com.schoolscheduler.scheduleservice.service.model.TeacherData;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Writes the timetables of the published entries as PDF or CSV. Bulk exports load
+ * and write one course or teacher at a time into a ZIP stream, so memory stays flat however
+ * many timetables the school has.
+ */
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    private static final DateTimeFormatter GENERATED_ON = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+    private final ScheduleEntryRepository scheduleEntryRepository;
+    private final DatasetSnapshotProvider snapshotProvider;
+    private final TimetableAssembler timetableAssembler;
+
+    public ExportServiceImpl(ScheduleEntryRepository scheduleEntryRepository,
+                             DatasetSnapshotProvider snapshotProvider,
+                             TimetableAssembler timetableAssembler) {
+        this.scheduleEntryRepository = scheduleEntryRepository;
+        this.snapshotProvider = snapshotProvider;
+        this.timetableAssembler = timetableAssembler;
+    }
+
+    @Override
+    public ExportFile course(Long courseId, ExportFormat format) {
+        DatasetSnapshot snapshot = snapshotProvider.current();
+        List<ScheduleEntry> entries = scheduleEntryRepository.findByCourseId(courseId);
+        CourseData course = snapshot.courses().get(courseId);
+        if (course == null && entries.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Course " + courseId + " has no schedule");
+        }
+        String level = course != null ? course.level() : entries.get(0).getLevel();
+        Timetable timetable = timetableAssembler.course(snapshot, courseId, level, entries);
+        return new ExportFile("horario-" + fileName(timetable.title()) + "." + format.extension(), format.contentType(),
+                out -> write(format, snapshot, List.of(timetable), out));
+    }
+
+    @Override
+    public ExportFile teacher(Long teacherId, ExportFormat format) {
+        DatasetSnapshot snapshot = snapshotProvider.current();
+        List<ScheduleEntry> entries = scheduleEntryRepository.findByTeacherId(teacherId);
+        if (!snapshot.teachers().containsKey(teacherId) && entries.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Teacher " + teacherId + " has no schedule");
+        }
+        List<Timetable> timetables = timetableAssembler.teacher(snapshot, teacherId, entries);
+        return new ExportFile("horario-" + fileName(TimetableAssembler.teacherName(snapshot, teacherId)) + "." + format.extension(),
+                format.contentType(), out -> write(format, snapshot, timetables, out));
+    }
+
+    @Override
+    public ExportFile school(String levelId, ExportFormat format) {
+        DatasetSnapshot snapshot = snapshotProvider.current();
+        List<CourseData> courses = snapshot.courses().values().stream()
+                .filter(course -> levelId == null || levelId.equals(course.level()))
+                .sorted(Comparator.comparing(CourseData::level, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(CourseData::name, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+        List<TeacherData> teachers = snapshot.teachers().values().stream()
+                .sorted(Comparator.comparing(TeacherData::name, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+        String name = "horarios-" + (levelId != null ? fileName(levelId) : "colegio") + ".zip";
+        return new ExportFile(name, "application/zip", out -> {
+            ZipOutputStream zip = new ZipOutputStream(out);
+            for (CourseData course : courses) {
+                List<ScheduleEntry> entries = scheduleEntryRepository.findByCourseId(course.id());
+                if (entries.isEmpty()) {
+                    continue;
+                }
+                zip.putNextEntry(new ZipEntry("cursos/" + fileName(course.level()) + "/" + fileName(course.name())
+                        + "-" + course.id() + "." + format.extension()));
+                write(format, snapshot, List.of(timetableAssembler.course(snapshot, course.id(), course.level(), entries)), zip);
+                zip.closeEntry();
+            }
+            for (TeacherData teacher : teachers) {
+                List<ScheduleEntry> entries = scheduleEntryRepository.findByTeacherId(teacher.id()).stream()
+                        .filter(entry -> levelId == null || levelId.equals(entry.getLevel()))
+                        .toList();
+                if (entries.isEmpty()) {
+                    continue;
+                }
+                zip.putNextEntry(new ZipEntry("profesores/" + fileName(teacher.name()) + "-" + teacher.id()
+                        + "." + format.extension()));
+                write(format, snapshot, timetableAssembler.teacher(snapshot, teacher.id(), entries), zip);
+                zip.closeEntry();
+            }
+            // The response stream is closed by the container.
+            zip.finish();
+        });
+    }
+
+    private static void write(ExportFormat format, DatasetSnapshot snapshot, List<Timetable> timetables,
+                              OutputStream out) throws IOException {
+        if (format == ExportFormat.CSV) {
+            TimetableCsvWriter.write(timetables, out);
+            return;
+        }
+        TimetablePdfWriter pdf = new TimetablePdfWriter(out, snapshot.config().schoolName(),
+                LocalDate.now().format(GENERATED_ON));
+        for (Timetable timetable : timetables) {
+            pdf.page(timetable);
+        }
+        pdf.finish();
+    }
+
+    private static String fileName(String value) {
+        String cleaned = value == null ? "" : value.trim().replaceAll("[^\\p{L}\\p{N}._-]+", "-")
+                .replaceAll("^-+|-+$", "");
+        return cleaned.isEmpty() ? "sin-nombre" : cleaned;
+    }
+}
@@ -0,0 +1,7 @@
+package com.schoolscheduler.scheduleservice.service;
+
+import com.schoolscheduler.scheduleservice.service.model.ExportFile;
+
+public interface FlightRecordingService {
+    ExportFile recordGeneration(String levelId, boolean detailed);
+}
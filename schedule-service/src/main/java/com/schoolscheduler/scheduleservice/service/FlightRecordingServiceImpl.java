@@ -0,0 +1,108 @@
+package com.schoolscheduler.scheduleservice.service;
+
+import com.schoolscheduler.scheduleservice.engine.ScheduleGenerator;
+import com.schoolscheduler.scheduleservice.engine.jfr.BacktrackEvent;
+import com.schoolscheduler.scheduleservice.engine.jfr.ConstraintRejectionEvent;
+import com.schoolscheduler.scheduleservice.engine.jfr.CourseGenerationEvent;
+import com.schoolscheduler.scheduleservice.engine.jfr.LevelGenerationEvent;
+import com.schoolscheduler.scheduleservice.engine.jfr.PlacementAttemptEvent;
+import com.schoolscheduler.scheduleservice.service.model.ExportFile;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Runs one unpublished generation of a level inside a JFR recording and hands back the dump.
+ * Only the solver events and CPU samples are enabled, and the recording is capped by
+ * {@code scheduler.recording.max-size} and {@code max-duration}, so it can be taken on a live
+ * instance. Per-slot events are only added when a detailed recording is asked for. One recording
+ * runs at a time; the dump lives in a temporary file that is removed once it has been streamed.
+ */
+@Service
+public class FlightRecordingServiceImpl implements FlightRecordingService {
+
+    private static final List<String> SOLVER_EVENTS = List.of(LevelGenerationEvent.NAME, CourseGenerationEvent.NAME,
+            BacktrackEvent.NAME);
+    private static final List<String> DETAILED_EVENTS = List.of(PlacementAttemptEvent.NAME,
+            ConstraintRejectionEvent.NAME);
+
+    private final DatasetSnapshotProvider snapshotProvider;
+    private final ScheduleGenerator scheduleGenerator;
+    private final long maxSize;
+    private final Duration maxDuration;
+    private final Duration samplePeriod;
+    private final AtomicBoolean recording = new AtomicBoolean();
+
+    public FlightRecordingServiceImpl(DatasetSnapshotProvider snapshotProvider,
+                                      ScheduleGenerator scheduleGenerator,
+                                      @Value("${scheduler.recording.max-size:16777216}") long maxSize,
+                                      @Value("${scheduler.recording.max-duration:PT2M}") Duration maxDuration,
+                                      @Value("${scheduler.recording.sample-period:PT0.01S}") Duration samplePeriod) {
+        this.snapshotProvider = snapshotProvider;
+        this.scheduleGenerator = scheduleGenerator;
+        this.maxSize = maxSize;
+        this.maxDuration = maxDuration;
+        this.samplePeriod = samplePeriod;
+    }
+
+    @Override
+    public ExportFile recordGeneration(String levelId, boolean detailed) {
+        if (!recording.compareAndSet(false, true)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "A generation is already being recorded");
+        }
+        Path dump = null;
+        try (Recording jfr = new Recording()) {
+            jfr.setName("generation-" + levelId);
+            jfr.setToDisk(true);
+            jfr.setMaxSize(maxSize);
+            jfr.setDuration(maxDuration);
+            SOLVER_EVENTS.forEach(jfr::enable);
+            if (detailed) {
+                DETAILED_EVENTS.forEach(jfr::enable);
+            }
+            jfr.enable("jdk.ExecutionSample").withPeriod(samplePeriod);
+            jfr.start();
+            scheduleGenerator.generate(snapshotProvider.refresh().inputFor(levelId));
+            // The duration cap may already have stopped it.
+            if (jfr.getState() == RecordingState.RUNNING) {
+                jfr.stop();
+            }
+            dump = Files.createTempFile("generation-", ".jfr");
+            jfr.dump(dump);
+        } catch (IOException e) {
+            deleteQuietly(dump);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Could not write the recording for " + levelId, e);
+        } finally {
+            recording.set(false);
+        }
+        Path file = dump;
+        return new ExportFile("generation-" + levelId + ".jfr", "application/octet-stream", out -> {
+            try {
+                Files.copy(file, out);
+            } finally {
+                deleteQuietly(file);
+            }
+        });
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // Left to the temporary directory's own cleanup.
+        }
+    }
+}
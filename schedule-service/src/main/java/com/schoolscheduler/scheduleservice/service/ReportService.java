@@ -0,0 +1,8 @@
+package com.schoolscheduler.scheduleservice.service;
+
+import com.schoolscheduler.scheduleservice.dto.DeliveryReportDto;
+import java.time.LocalDate;
+
+public interface ReportService {
+    DeliveryReportDto delivery(String levelId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,112 @@
+package com.schoolscheduler.scheduleservice.service;
+
+import com.schoolscheduler.scheduleservice.client.ResilientDataFetcher;
+import com.schoolscheduler.scheduleservice.dto.DeliveryReportDto;
+import com.schoolscheduler.scheduleservice.dto.DeliveryReportRowDto;
+import com.schoolscheduler.scheduleservice.engine.TimelineBuilder;
+import com.schoolscheduler.scheduleservice.entity.ScheduleEntry;
+import com.schoolscheduler.scheduleservice.repository.ScheduleEntryRepository;
+import com.schoolscheduler.scheduleservice.service.model.CourseData;
+import com.schoolscheduler.scheduleservice.service.model.DatasetSnapshot;
+import com.schoolscheduler.scheduleservice.service.model.SubjectData;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Delivered-versus-expected blocks over a date range. The range is a {@link BitSet} of day
+ * offsets: one mask per weekday, minus the holiday mask, gives the teaching days per weekday.
+ * Each published cell then adds its weekday's count, so the cost is one pass over the
+ * template however long the range is.
+ */
+@Service
+public class ReportServiceImpl implements ReportService {
+
+    private static final int WORKING_DAYS = TimelineBuilder.WORKING_DAYS.size();
+
+    private final ScheduleEntryRepository scheduleEntryRepository;
+    private final ResilientDataFetcher dataFetcher;
+    private final DatasetSnapshotProvider snapshotProvider;
+
+    public ReportServiceImpl(ScheduleEntryRepository scheduleEntryRepository,
+                             ResilientDataFetcher dataFetcher,
+                             DatasetSnapshotProvider snapshotProvider) {
+        this.scheduleEntryRepository = scheduleEntryRepository;
+        this.dataFetcher = dataFetcher;
+        this.snapshotProvider = snapshotProvider;
+    }
+
+    private static final class Totals {
+        private final Long courseId;
+        private final Long subjectId;
+        private int weeklyBlocks;
+        private int expected;
+        private int delivered;
+
+        private Totals(Long courseId, Long subjectId) {
+            this.courseId = courseId;
+            this.subjectId = subjectId;
+        }
+    }
+
+    private record CourseSubject(Long courseId, Long subjectId) {
+    }
+
+    @Override
+    public DeliveryReportDto delivery(String levelId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must not be after to");
+        }
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+
+        BitSet holidays = new BitSet(days);
+        dataFetcher.fetchHolidays(from, to).forEach(holiday ->
+                holidays.set((int) ChronoUnit.DAYS.between(from, holiday.date())));
+
+        int[] schoolDays = new int[WORKING_DAYS];
+        int[] teachingDays = new int[WORKING_DAYS];
+        int firstWeekday = from.getDayOfWeek().getValue() - 1;
+        for (int weekday = 0; weekday < WORKING_DAYS; weekday++) {
+            BitSet weekdayMask = new BitSet(days);
+            for (int offset = Math.floorMod(weekday - firstWeekday, 7); offset < days; offset += 7) {
+                weekdayMask.set(offset);
+            }
+            schoolDays[weekday] = weekdayMask.cardinality();
+            weekdayMask.andNot(holidays);
+            teachingDays[weekday] = weekdayMask.cardinality();
+        }
+
+        List<ScheduleEntry> entries = levelId != null
+                ? scheduleEntryRepository.findByLevel(levelId)
+                : scheduleEntryRepository.findAll();
+        Map<CourseSubject, Totals> totals = new LinkedHashMap<>();
+        for (ScheduleEntry entry : entries) {
+            Totals row = totals.computeIfAbsent(new CourseSubject(entry.getCourseId(), entry.getSubjectId()),
+                    key -> new Totals(key.courseId(), key.subjectId()));
+            row.weeklyBlocks++;
+            row.expected += schoolDays[entry.getDayIndex()];
+            row.delivered += teachingDays[entry.getDayIndex()];
+        }
+
+        DatasetSnapshot snapshot = snapshotProvider.current();
+        List<DeliveryReportRowDto> rows = new ArrayList<>(totals.size());
+        for (Totals row : totals.values()) {
+            CourseData course = snapshot.courses().get(row.courseId);
+            SubjectData subject = snapshot.subjects().get(row.subjectId);
+            rows.add(new DeliveryReportRowDto(row.courseId, course != null ? course.name() : null,
+                    row.subjectId, subject != null ? subject.name() : null,
+                    row.weeklyBlocks, row.expected, row.delivered, row.expected - row.delivered));
+        }
+        rows.sort(Comparator.comparing(DeliveryReportRowDto::courseId).thenComparing(DeliveryReportRowDto::subjectId));
+        return new DeliveryReportDto(from, to, Arrays.stream(teachingDays).boxed().toList(), rows);
+    }
+}
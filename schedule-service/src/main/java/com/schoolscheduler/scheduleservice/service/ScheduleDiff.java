@@ -0,0 +1,104 @@
+package com.schoolscheduler.scheduleservice.service;
+
+import com.schoolscheduler.scheduleservice.dto.CellChangeDto;
+import com.schoolscheduler.scheduleservice.engine.ScheduledSession;
+import com.schoolscheduler.scheduleservice.service.model.CellDelta;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public final class ScheduleDiff {
+
+    private record CellKey(Long courseId, int day, int block) {
+    }
+
+    private ScheduleDiff() {
+    }
+
+    public static List<CellChangeDto> between(List<ScheduledSession> before, List<ScheduledSession> after) {
+        Map<CellKey, ScheduledSession> previous = new HashMap<>();
+        before.forEach(session -> previous.put(key(session), session));
+
+        List<CellChangeDto> changes = new ArrayList<>();
+        for (ScheduledSession session : after) {
+            ScheduledSession old = previous.remove(key(session));
+            if (old == null) {
+                changes.add(new CellChangeDto(session.courseId(), session.day(), session.block(),
+                        null, null, session.subjectId(), session.teacherId()));
+            } else if (!Objects.equals(old.subjectId(), session.subjectId())
+                    || !Objects.equals(old.teacherId(), session.teacherId())) {
+                changes.add(new CellChangeDto(session.courseId(), session.day(), session.block(),
+                        old.subjectId(), old.teacherId(), session.subjectId(), session.teacherId()));
+            }
+        }
+        previous.values().forEach(old -> changes.add(new CellChangeDto(old.courseId(), old.day(), old.block(),
+                old.subjectId(), old.teacherId(), null, null)));
+        changes.sort(Comparator.comparing(CellChangeDto::courseId)
+                .thenComparingInt(CellChangeDto::day)
+                .thenComparingInt(CellChangeDto::block));
+        return changes;
+    }
+
+    /**
+     * Cell-level changes between two versions, including room moves. Used as the stored delta of a
+     * schedule version.
+     */
+    public static List<CellDelta> deltas(List<ScheduledSession> before, List<ScheduledSession> after) {
+        Map<CellKey, ScheduledSession> previous = new HashMap<>();
+        before.forEach(session -> previous.put(key(session), session));
+
+        List<CellDelta> deltas = new ArrayList<>();
+        for (ScheduledSession session : after) {
+            ScheduledSession old = previous.remove(key(session));
+            if (!session.equals(old)) {
+                deltas.add(new CellDelta(session.courseId(), session.day(), session.block(), old, session));
+            }
+        }
+        previous.values().forEach(old -> deltas.add(new CellDelta(old.courseId(), old.day(), old.block(), old, null)));
+        deltas.sort(Comparator.comparing(CellDelta::courseId)
+                .thenComparingInt(CellDelta::day)
+                .thenComparingInt(CellDelta::block));
+        return deltas;
+    }
+
+    /**
+     * Folds consecutive version deltas into the net change between the first and the last version:
+     * each cell keeps the state before its first change and after its last one.
+     */
+    public static List<CellChangeDto> compose(List<List<CellDelta>> versions) {
+        Map<CellKey, ScheduledSession> first = new HashMap<>();
+        Map<CellKey, ScheduledSession> last = new HashMap<>();
+        for (List<CellDelta> version : versions) {
+            for (CellDelta delta : version) {
+                CellKey key = new CellKey(delta.courseId(), delta.day(), delta.block());
+                if (!last.containsKey(key)) {
+                    first.put(key, delta.before());
+                }
+                last.put(key, delta.after());
+            }
+        }
+        List<CellChangeDto> changes = new ArrayList<>();
+        last.forEach((key, after) -> {
+            ScheduledSession before = first.get(key);
+            Long previousSubjectId = before != null ? before.subjectId() : null;
+            Long previousTeacherId = before != null ? before.teacherId() : null;
+            Long subjectId = after != null ? after.subjectId() : null;
+            Long teacherId = after != null ? after.teacherId() : null;
+            if (!Objects.equals(previousSubjectId, subjectId) || !Objects.equals(previousTeacherId, teacherId)) {
+                changes.add(new CellChangeDto(key.courseId(), key.day(), key.block(),
+                        previousSubjectId, previousTeacherId, subjectId, teacherId));
+            }
+        });
+        changes.sort(Comparator.comparing(CellChangeDto::courseId)
+                .thenComparingInt(CellChangeDto::day)
+                .thenComparingInt(CellChangeDto::block));
+        return changes;
+    }
+
+    private static CellKey key(ScheduledSession session) {
+        return new CellKey(session.courseId(), session.day(), session.block());
+    }
+}
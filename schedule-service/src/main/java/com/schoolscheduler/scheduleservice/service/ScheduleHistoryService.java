@@ -0,0 +1,22 @@
+package com.schoolscheduler.scheduleservice.service;
+
+import com.schoolscheduler.scheduleservice.dto.ScheduleVersionDiffDto;
+import com.schoolscheduler.scheduleservice.dto.ScheduleVersionDto;
+import com.schoolscheduler.scheduleservice.engine.ScheduledSession;
+import java.util.List;
+
+public interface ScheduleHistoryService {
+    /**
+     * Serializes publishing for {@code levelId} until the current transaction ends. Callers take it
+     * before reading the schedule they pass to {@link #record} as {@code previous}.
+     */
+    void lock(String levelId);
+
+    int record(String levelId, List<ScheduledSession> previous, List<ScheduledSession> current);
+
+    List<ScheduleVersionDto> versions(String levelId);
+
+    List<ScheduledSession> sessionsAt(String levelId, int version);
+
+    ScheduleVersionDiffDto diff(String levelId, int fromVersion, int toVersion);
+}
@@ -0,0 +1,153 @@
+package com.schoolscheduler.scheduleservice.service;
+
+import com.schoolscheduler.scheduleservice.dto.CellChangeDto;
+import com.schoolscheduler.scheduleservice.dto.ScheduleVersionDiffDto;
+import com.schoolscheduler.scheduleservice.dto.ScheduleVersionDto;
+import com.schoolscheduler.scheduleservice.engine.ScheduledSession;
+import com.schoolscheduler.scheduleservice.entity.ScheduleVersion;
+import com.schoolscheduler.scheduleservice.repository.ScheduleVersionRepository;
+import com.schoolscheduler.scheduleservice.service.model.CellDelta;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Keeps every published schedule as a chain of deltas. A new base snapshot is written when the
+ * chain since the last one reaches {@code rebase-interval} versions or when its deltas together
+ * outweigh the base snapshot, which bounds both the replay work of a read and the storage growth.
+ */
+@Service
+public class ScheduleHistoryServiceImpl implements ScheduleHistoryService {
+
+    private record CellKey(Long courseId, int day, int block) {
+    }
+
+    private final ScheduleVersionRepository versionRepository;
+    private final int rebaseInterval;
+
+    public ScheduleHistoryServiceImpl(ScheduleVersionRepository versionRepository,
+                                      @Value("${scheduler.history.rebase-interval:20}") int rebaseInterval) {
+        this.versionRepository = versionRepository;
+        this.rebaseInterval = Math.max(1, rebaseInterval);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lock(String levelId) {
+        versionRepository.lockLevel(levelId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int record(String levelId, List<ScheduledSession> previous, List<ScheduledSession> current) {
+        // Re-entrant within the transaction; covers callers that did not lock before reading previous.
+        versionRepository.lockLevel(levelId);
+        Integer latest = versionRepository.findLatestVersion(levelId);
+        int version = latest != null ? latest + 1 : 1;
+        // The first version is stored against an empty schedule so every delta chain starts from nothing.
+        List<CellDelta> deltas = ScheduleDiff.deltas(latest != null ? previous : List.of(), current);
+        byte[] delta = ScheduleVersionCodec.encodeDelta(deltas);
+
+        ScheduleVersion entity = new ScheduleVersion();
+        entity.setLevel(levelId);
+        entity.setVersionNumber(version);
+        entity.setDelta(delta);
+        entity.setChangedCells(deltas.size());
+        entity.setTotalCells(current.size());
+        entity.setCreatedAt(Instant.now());
+
+        Integer baseVersion = latest != null ? versionRepository.findBaseVersion(levelId, latest) : null;
+        if (baseVersion == null || shouldRebase(levelId, version, baseVersion, delta.length)) {
+            entity.setBase(true);
+            entity.setBaseVersion(version);
+            entity.setSnapshot(ScheduleVersionCodec.encodeSnapshot(current));
+        } else {
+            entity.setBase(false);
+            entity.setBaseVersion(baseVersion);
+        }
+        versionRepository.save(entity);
+        return version;
+    }
+
+    @Override
+    public List<ScheduleVersionDto> versions(String levelId) {
+        return versionRepository.findSummaries(levelId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ScheduledSession> sessionsAt(String levelId, int version) {
+        Integer baseVersion = version > 0 ? versionRepository.findBaseVersion(levelId, version) : null;
+        if (baseVersion == null || version > latestVersion(levelId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND,
+                    "Schedule version " + version + " does not exist for level " + levelId);
+        }
+        Map<CellKey, ScheduledSession> cells = new LinkedHashMap<>();
+        ScheduleVersionCodec.decodeSnapshot(versionRepository.findSnapshot(levelId, baseVersion))
+                .forEach(session -> cells.put(new CellKey(session.courseId(), session.day(), session.block()), session));
+        for (byte[] delta : versionRepository.findDeltas(levelId, baseVersion, version)) {
+            for (CellDelta change : ScheduleVersionCodec.decodeDelta(delta)) {
+                CellKey key = new CellKey(change.courseId(), change.day(), change.block());
+                if (change.after() != null) {
+                    cells.put(key, change.after());
+                } else {
+                    cells.remove(key);
+                }
+            }
+        }
+        return cells.values().stream()
+                .sorted(Comparator.comparing(ScheduledSession::courseId)
+                        .thenComparingInt(ScheduledSession::day)
+                        .thenComparingInt(ScheduledSession::block))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ScheduleVersionDiffDto diff(String levelId, int fromVersion, int toVersion) {
+        int latest = latestVersion(levelId);
+        if (fromVersion < 0 || toVersion < 0 || fromVersion > latest || toVersion > latest) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND,
+                    "Versions must be between 0 and " + latest + " for level " + levelId);
+        }
+        int lower = Math.min(fromVersion, toVersion);
+        int upper = Math.max(fromVersion, toVersion);
+        List<List<CellDelta>> deltas = versionRepository.findDeltas(levelId, lower, upper).stream()
+                .map(ScheduleVersionCodec::decodeDelta)
+                .toList();
+        List<CellChangeDto> changes = ScheduleDiff.compose(deltas);
+        if (fromVersion > toVersion) {
+            changes = changes.stream()
+                    .map(change -> new CellChangeDto(change.courseId(), change.day(), change.block(),
+                            change.subjectId(), change.teacherId(), change.previousSubjectId(),
+                            change.previousTeacherId()))
+                    .toList();
+        }
+        return new ScheduleVersionDiffDto(levelId, fromVersion, toVersion, changes);
+    }
+
+    private boolean shouldRebase(String levelId, int version, int baseVersion, int deltaSize) {
+        if (version - baseVersion >= rebaseInterval) {
+            return true;
+        }
+        Integer snapshotSize = versionRepository.findSnapshotSize(levelId, baseVersion);
+        long chainSize = versionRepository.sumDeltaSizeAfter(levelId, baseVersion) + deltaSize;
+        return snapshotSize == null || chainSize >= snapshotSize;
+    }
+
+    private int latestVersion(String levelId) {
+        Integer latest = versionRepository.findLatestVersion(levelId);
+        if (latest == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No schedule history for level " + levelId);
+        }
+        return latest;
+    }
+}
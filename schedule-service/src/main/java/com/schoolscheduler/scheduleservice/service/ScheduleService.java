@@ -0,0 +1,32 @@
+package com.schoolscheduler.scheduleservice.service;
+
+import com.schoolscheduler.scheduleservice.dto.BatchGenerationRequest;
+import com.schoolscheduler.scheduleservice.dto.ConflictReportDto;
+import com.schoolscheduler.scheduleservice.dto.GenerationRequest;
+import com.schoolscheduler.scheduleservice.dto.ScheduleEntryDto;
+import com.schoolscheduler.scheduleservice.dto.ScheduleSummaryDto;
+import com.schoolscheduler.scheduleservice.engine.GenerationResult;
+import com.schoolscheduler.scheduleservice.engine.ScheduledSession;
+import com.schoolscheduler.scheduleservice.service.model.DatasetSnapshot;
+import java.util.List;
+import java.util.Map;
+
+public interface ScheduleService {
+    ScheduleSummaryDto generate(GenerationRequest request);
+
+    Map<String, ScheduleSummaryDto> generateAll(BatchGenerationRequest request);
+
+    List<String> levelsFor(DatasetSnapshot snapshot, BatchGenerationRequest request);
+
+    List<GenerationResult> solve(DatasetSnapshot snapshot, List<String> levelIds);
+
+    Map<String, ScheduleSummaryDto> publishAll(DatasetSnapshot snapshot, List<GenerationResult> results);
+
+    ConflictReportDto explainConflicts(String levelId);
+
+    List<ScheduleEntryDto> findPublished(String levelId);
+
+    List<ScheduleEntryDto> findVersion(String levelId, int version);
+
+    List<ScheduledSession> publishedSessions(String levelId);
+}
@@ -0,0 +1,209 @@
+package com.schoolscheduler.scheduleservice.service;
+
+import com.schoolscheduler.scheduleservice.dto.BatchGenerationRequest;
+import com.schoolscheduler.scheduleservice.dto.ConflictDto;
+import com.schoolscheduler.scheduleservice.dto.ConflictReportDto;
+import com.schoolscheduler.scheduleservice.dto.GenerationRequest;
+import com.schoolscheduler.scheduleservice.dto.ScheduleEntryDto;
+import com.schoolscheduler.scheduleservice.dto.ScheduleSummaryDto;
+import com.schoolscheduler.scheduleservice.engine.ConflictAnalyzer;
+import com.schoolscheduler.scheduleservice.engine.GenerationResult;
+import com.schoolscheduler.scheduleservice.engine.ScheduleGenerator;
+import com.schoolscheduler.scheduleservice.engine.ScheduledSession;
+import com.schoolscheduler.scheduleservice.engine.TeacherOccupancy;
+import com.schoolscheduler.scheduleservice.entity.ScheduleEntry;
+import com.schoolscheduler.scheduleservice.repository.ScheduleEntryRepository;
+import com.schoolscheduler.scheduleservice.service.model.DatasetSnapshot;
+import com.schoolscheduler.scheduleservice.service.model.SourceStatus;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Generates and publishes schedules. A batch generation solves its levels on separate threads
+ * against one shared {@link TeacherOccupancy}, so teachers working in several levels are never
+ * booked twice. The solve runs outside any transaction; only publishing every level holds one.
+ */
+@Service
+public class ScheduleServiceImpl implements ScheduleService {
+
+    private final ScheduleEntryRepository scheduleEntryRepository;
+    private final DatasetSnapshotProvider snapshotProvider;
+    private final ScheduleGenerator scheduleGenerator;
+    private final ConflictAnalyzer conflictAnalyzer;
+    private final ScheduleHistoryService historyService;
+    private final TimetableSnapshotService timetableSnapshots;
+    private final ExecutorService generationExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    public ScheduleServiceImpl(ScheduleEntryRepository scheduleEntryRepository,
+                               DatasetSnapshotProvider snapshotProvider,
+                               ScheduleGenerator scheduleGenerator,
+                               ConflictAnalyzer conflictAnalyzer,
+                               ScheduleHistoryService historyService,
+                               TimetableSnapshotService timetableSnapshots,
+                               @Qualifier("generationExecutor") ExecutorService generationExecutor,
+                               PlatformTransactionManager transactionManager) {
+        this.scheduleEntryRepository = scheduleEntryRepository;
+        this.snapshotProvider = snapshotProvider;
+        this.scheduleGenerator = scheduleGenerator;
+        this.conflictAnalyzer = conflictAnalyzer;
+        this.historyService = historyService;
+        this.timetableSnapshots = timetableSnapshots;
+        this.generationExecutor = generationExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public ScheduleSummaryDto generate(GenerationRequest request) {
+        requireReplaceable(request);
+        DatasetSnapshot snapshot = snapshotProvider.refresh();
+        GenerationResult result = scheduleGenerator.generate(snapshot.inputFor(request.levelId()));
+        if (!result.isSuccessful()) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, result.error());
+        }
+        // Only the publish holds a connection; the refresh and the solve above run outside any transaction.
+        return transactionTemplate.execute(status -> {
+            historyService.lock(request.levelId());
+            // Checked again under the level lock: another generation may have published during the solve.
+            requireReplaceable(request);
+            return publish(result, staleSources(snapshot));
+        });
+    }
+
+    private void requireReplaceable(GenerationRequest request) {
+        if (!request.replaceExisting() && scheduleEntryRepository.existsByLevel(request.levelId())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "A schedule is already published for this level");
+        }
+    }
+
+    @Override
+    public Map<String, ScheduleSummaryDto> generateAll(BatchGenerationRequest request) {
+        DatasetSnapshot snapshot = snapshotProvider.refresh();
+        List<GenerationResult> results = solve(snapshot, levelsFor(snapshot, request));
+        // A call on this would bypass the transactional proxy of publishAll.
+        return transactionTemplate.execute(status -> publishAll(snapshot, results));
+    }
+
+    @Override
+    public List<String> levelsFor(DatasetSnapshot snapshot, BatchGenerationRequest request) {
+        List<String> levelIds = request.levelIds() == null || request.levelIds().isEmpty()
+                ? snapshot.levels().stream().sorted().toList()
+                : request.levelIds().stream().distinct().toList();
+        if (!request.replaceExisting()) {
+            levelIds.stream().filter(scheduleEntryRepository::existsByLevel).findFirst().ifPresent(levelId -> {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "A schedule is already published for level " + levelId);
+            });
+        }
+        return levelIds;
+    }
+
+    @Override
+    public List<GenerationResult> solve(DatasetSnapshot snapshot, List<String> levelIds) {
+        TeacherOccupancy occupancy = TeacherOccupancy.forTeachers(snapshot.teachers().values(),
+                ScheduleGenerator.blockDuration(snapshot.config()));
+        List<CompletableFuture<GenerationResult>> futures = levelIds.stream()
+                .map(levelId -> CompletableFuture.supplyAsync(
+                        () -> scheduleGenerator.generate(snapshot.inputFor(levelId), occupancy), generationExecutor))
+                .toList();
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    @Override
+    @Transactional
+    public Map<String, ScheduleSummaryDto> publishAll(DatasetSnapshot snapshot, List<GenerationResult> results) {
+        String errors = results.stream()
+                .filter(result -> !result.isSuccessful())
+                .map(result -> result.levelId() + ": " + result.error())
+                .collect(Collectors.joining(" "));
+        if (!errors.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, errors);
+        }
+
+        // Always in the same order, so two batches over overlapping levels cannot deadlock.
+        results.stream().map(GenerationResult::levelId).sorted().forEach(historyService::lock);
+        List<String> staleSources = staleSources(snapshot);
+        Map<String, ScheduleSummaryDto> summaries = new LinkedHashMap<>();
+        results.forEach(result -> summaries.put(result.levelId(), publish(result, staleSources)));
+        return summaries;
+    }
+
+    private ScheduleSummaryDto publish(GenerationResult result, List<String> staleSources) {
+        String levelId = result.levelId();
+        historyService.lock(levelId);
+        List<ScheduledSession> previous = publishedSessions(levelId);
+        scheduleEntryRepository.deleteByLevel(levelId);
+        scheduleEntryRepository.saveAll(result.sessions().stream()
+                .map(session -> toEntity(levelId, session))
+                .toList());
+        int version = historyService.record(levelId, previous, result.sessions());
+        timetableSnapshots.publishAfterCommit();
+        return new ScheduleSummaryDto(result.generatedCourses(), result.assignedTeachers(), result.sessions().size(),
+                staleSources, version);
+    }
+
+    private static List<String> staleSources(DatasetSnapshot snapshot) {
+        return snapshot.sources().values().stream()
+                .filter(SourceStatus::stale)
+                .map(SourceStatus::source)
+                .toList();
+    }
+
+    @Override
+    public ConflictReportDto explainConflicts(String levelId) {
+        DatasetSnapshot snapshot = snapshotProvider.refresh();
+        List<ConflictDto> conflicts = conflictAnalyzer.analyze(snapshot.inputFor(levelId)).stream()
+                .map(conflict -> new ConflictDto(conflict.kind().name(), conflict.message(), conflict.courseIds(),
+                        conflict.subjectIds(), conflict.teacherIds(), conflict.required(), conflict.available()))
+                .toList();
+        return new ConflictReportDto(levelId, conflicts, staleSources(snapshot));
+    }
+
+    @Override
+    public List<ScheduleEntryDto> findPublished(String levelId) {
+        return toDtos(publishedSessions(levelId));
+    }
+
+    @Override
+    public List<ScheduleEntryDto> findVersion(String levelId, int version) {
+        return toDtos(historyService.sessionsAt(levelId, version));
+    }
+
+    @Override
+    public List<ScheduledSession> publishedSessions(String levelId) {
+        return scheduleEntryRepository.findByLevel(levelId).stream()
+                .map(entry -> new ScheduledSession(entry.getCourseId(), entry.getDayIndex(), entry.getBlockIndex(),
+                        entry.getSubjectId(), entry.getTeacherId(), entry.getRoomId()))
+                .toList();
+    }
+
+    private List<ScheduleEntryDto> toDtos(List<ScheduledSession> sessions) {
+        return sessions.stream()
+                .map(session -> new ScheduleEntryDto(session.courseId(), session.day(), session.block(),
+                        session.subjectId(), session.teacherId(), session.roomId()))
+                .toList();
+    }
+
+    private ScheduleEntry toEntity(String levelId, ScheduledSession session) {
+        ScheduleEntry entry = new ScheduleEntry();
+        entry.setLevel(levelId);
+        entry.setCourseId(session.courseId());
+        entry.setDayIndex(session.day());
+        entry.setBlockIndex(session.block());
+        entry.setSubjectId(session.subjectId());
+        entry.setTeacherId(session.teacherId());
+        entry.setRoomId(session.roomId());
+        return entry;
+    }
+}
@@ -0,0 +1,170 @@
+package com.schoolscheduler.scheduleservice.service;
+
+import com.schoolscheduler.scheduleservice.engine.ScheduledSession;
+import com.schoolscheduler.scheduleservice.service.model.CellDelta;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Binary form of stored schedule versions. Cells are written in (course, day, block) order with
+ * course ids as gaps from the previous cell and every number as a varint, then deflated; nullable
+ * ids are shifted by one so that zero stands for {@code null}.
+ */
+public final class ScheduleVersionCodec {
+
+    private static final Comparator<ScheduledSession> CELL_ORDER = Comparator.comparing(ScheduledSession::courseId)
+            .thenComparingInt(ScheduledSession::day)
+            .thenComparingInt(ScheduledSession::block);
+
+    private ScheduleVersionCodec() {
+    }
+
+    public static byte[] encodeSnapshot(List<ScheduledSession> sessions) {
+        List<ScheduledSession> sorted = sessions.stream().sorted(CELL_ORDER).toList();
+        return write(out -> {
+            writeVarint(out, sorted.size());
+            long previousCourse = 0;
+            for (ScheduledSession session : sorted) {
+                writeVarint(out, session.courseId() - previousCourse);
+                previousCourse = session.courseId();
+                writeVarint(out, session.day());
+                writeVarint(out, session.block());
+                writeContent(out, session);
+            }
+        });
+    }
+
+    public static List<ScheduledSession> decodeSnapshot(byte[] data) {
+        return read(data, in -> {
+            int size = (int) readVarint(in);
+            List<ScheduledSession> sessions = new ArrayList<>(size);
+            long course = 0;
+            for (int i = 0; i < size; i++) {
+                course += readVarint(in);
+                int day = (int) readVarint(in);
+                int block = (int) readVarint(in);
+                sessions.add(readContent(in, course, day, block));
+            }
+            return sessions;
+        });
+    }
+
+    /** Expects the deltas sorted by cell, as produced by {@link ScheduleDiff#deltas}. */
+    public static byte[] encodeDelta(List<CellDelta> deltas) {
+        return write(out -> {
+            writeVarint(out, deltas.size());
+            long previousCourse = 0;
+            for (CellDelta delta : deltas) {
+                writeVarint(out, delta.courseId() - previousCourse);
+                previousCourse = delta.courseId();
+                writeVarint(out, delta.day());
+                writeVarint(out, delta.block());
+                writeContent(out, delta.before());
+                writeContent(out, delta.after());
+            }
+        });
+    }
+
+    public static List<CellDelta> decodeDelta(byte[] data) {
+        return read(data, in -> {
+            int size = (int) readVarint(in);
+            List<CellDelta> deltas = new ArrayList<>(size);
+            long course = 0;
+            for (int i = 0; i < size; i++) {
+                course += readVarint(in);
+                int day = (int) readVarint(in);
+                int block = (int) readVarint(in);
+                ScheduledSession before = readContent(in, course, day, block);
+                ScheduledSession after = readContent(in, course, day, block);
+                deltas.add(new CellDelta(course, day, block, before, after));
+            }
+            return deltas;
+        });
+    }
+
+    private static void writeContent(DataOutputStream out, ScheduledSession session) throws IOException {
+        writeNullable(out, session != null ? session.subjectId() : null);
+        writeNullable(out, session != null ? session.teacherId() : null);
+        writeNullable(out, session != null ? session.roomId() : null);
+    }
+
+    private static ScheduledSession readContent(DataInputStream in, long course, int day, int block) throws IOException {
+        Long subjectId = readNullable(in);
+        Long teacherId = readNullable(in);
+        Long roomId = readNullable(in);
+        if (subjectId == null && teacherId == null) {
+            return null;
+        }
+        return new ScheduledSession(course, day, block, subjectId, teacherId, roomId);
+    }
+
+    private static void writeNullable(DataOutputStream out, Long value) throws IOException {
+        writeVarint(out, value != null ? value + 1 : 0);
+    }
+
+    private static Long readNullable(DataInputStream in) throws IOException {
+        long value = readVarint(in);
+        return value == 0 ? null : value - 1;
+    }
+
+    private static void writeVarint(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarint(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in stored schedule version");
+    }
+
+    private static byte[] write(Writer writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static <T> T read(byte[] data, Reader<T> reader) {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(data)))) {
+            return reader.read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Reader<T> {
+        T read(DataInputStream in) throws IOException;
+    }
+}
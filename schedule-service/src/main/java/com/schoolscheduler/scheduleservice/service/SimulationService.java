@@ -0,0 +1,11 @@
+package com.schoolscheduler.scheduleservice.service;
+
+import com.schoolscheduler.scheduleservice.dto.SimulationRequest;
+import com.schoolscheduler.scheduleservice.dto.SimulationResultDto;
+import java.util.List;
+
+public interface SimulationService {
+    SimulationResultDto simulate(SimulationRequest request);
+
+    List<SimulationResultDto> simulateAll(List<SimulationRequest> requests);
+}
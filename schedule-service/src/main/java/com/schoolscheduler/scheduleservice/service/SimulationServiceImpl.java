@@ -0,0 +1,103 @@
+package com.schoolscheduler.scheduleservice.service;
+
+import com.schoolscheduler.scheduleservice.dto.CellChangeDto;
+import com.schoolscheduler.scheduleservice.dto.SimulationRequest;
+import com.schoolscheduler.scheduleservice.dto.SimulationResultDto;
+import com.schoolscheduler.scheduleservice.engine.GenerationResult;
+import com.schoolscheduler.scheduleservice.engine.ScheduleGenerator;
+import com.schoolscheduler.scheduleservice.engine.ScheduledSession;
+import com.schoolscheduler.scheduleservice.service.model.DatasetOverlay;
+import com.schoolscheduler.scheduleservice.service.model.DatasetSnapshot;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs what-if generations over an overlay of the current dataset. Every simulation in a batch
+ * shares one snapshot and one read of the published schedule per level; nothing is persisted.
+ */
+@Service
+public class SimulationServiceImpl implements SimulationService {
+
+    private final DatasetSnapshotProvider snapshotProvider;
+    private final ScheduleGenerator scheduleGenerator;
+    private final ScheduleService scheduleService;
+    private final ExecutorService simulationExecutor;
+
+    public SimulationServiceImpl(DatasetSnapshotProvider snapshotProvider,
+                                 ScheduleGenerator scheduleGenerator,
+                                 ScheduleService scheduleService,
+                                 @Qualifier("simulationExecutor") ExecutorService simulationExecutor) {
+        this.snapshotProvider = snapshotProvider;
+        this.scheduleGenerator = scheduleGenerator;
+        this.scheduleService = scheduleService;
+        this.simulationExecutor = simulationExecutor;
+    }
+
+    @Override
+    public SimulationResultDto simulate(SimulationRequest request) {
+        return run(snapshotProvider.current(), request, publishedFor(List.of(request)));
+    }
+
+    @Override
+    public List<SimulationResultDto> simulateAll(List<SimulationRequest> requests) {
+        DatasetSnapshot snapshot = snapshotProvider.current();
+        // Read before the simulations start, so the workers only look the schedules up.
+        Map<String, List<ScheduledSession>> published = publishedFor(requests);
+        List<CompletableFuture<SimulationResultDto>> futures = requests.stream()
+                .map(request -> CompletableFuture.supplyAsync(() -> run(snapshot, request, published), simulationExecutor))
+                .toList();
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private Map<String, List<ScheduledSession>> publishedFor(List<SimulationRequest> requests) {
+        return requests.stream()
+                .map(SimulationRequest::levelId)
+                .distinct()
+                .collect(Collectors.toMap(Function.identity(), scheduleService::publishedSessions));
+    }
+
+    private SimulationResultDto run(DatasetSnapshot snapshot, SimulationRequest request,
+                                    Map<String, List<ScheduledSession>> published) {
+        GenerationResult result = scheduleGenerator.generate(applyEdits(snapshot.overlay(), request)
+                .inputFor(request.levelId()));
+        if (!result.isSuccessful()) {
+            return new SimulationResultDto(request.name(), request.levelId(), false, result.error(),
+                    0, 0, 0, 0, 0, List.of());
+        }
+        List<CellChangeDto> changes = ScheduleDiff.between(
+                published.get(request.levelId()),
+                result.sessions());
+        return new SimulationResultDto(request.name(), request.levelId(), true, null,
+                result.generatedCourses(), result.assignedTeachers(), result.sessions().size(),
+                result.sessionsWithoutRoom(),
+                changes.size(), changes);
+    }
+
+    private DatasetOverlay applyEdits(DatasetOverlay overlay, SimulationRequest request) {
+        if (request.removedSubjectIds() != null) {
+            request.removedSubjectIds().forEach(overlay::removeSubject);
+        }
+        if (request.removedTeacherIds() != null) {
+            request.removedTeacherIds().forEach(overlay::removeTeacher);
+        }
+        if (request.removedCourseIds() != null) {
+            request.removedCourseIds().forEach(overlay::removeCourse);
+        }
+        if (request.subjects() != null) {
+            request.subjects().forEach(overlay::putSubject);
+        }
+        if (request.teachers() != null) {
+            request.teachers().forEach(overlay::putTeacher);
+        }
+        if (request.courses() != null) {
+            request.courses().forEach(overlay::putCourse);
+        }
+        return overlay;
+    }
+}
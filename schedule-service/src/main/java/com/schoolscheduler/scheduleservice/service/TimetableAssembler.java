@@ -0,0 +1,130 @@
+package com.schoolscheduler.scheduleservice.service;
+
+import com.schoolscheduler.scheduleservice.engine.SlotLayout;
+import com.schoolscheduler.scheduleservice.engine.SlotLayoutCache;
+import com.schoolscheduler.scheduleservice.engine.Timeline;
+import com.schoolscheduler.scheduleservice.engine.TimelineBuilder;
+import com.schoolscheduler.scheduleservice.entity.ScheduleEntry;
+import com.schoolscheduler.scheduleservice.export.Timetable;
+import com.schoolscheduler.scheduleservice.service.model.ClassroomData;
+import com.schoolscheduler.scheduleservice.service.model.CourseData;
+import com.schoolscheduler.scheduleservice.service.model.DatasetSnapshot;
+import com.schoolscheduler.scheduleservice.service.model.SubjectData;
+import com.schoolscheduler.scheduleservice.service.model.TeacherData;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves published entries into display-ready {@link Timetable} grids, shared by the exports
+ * and the static timetable snapshots.
+ */
+@Component
+public class TimetableAssembler {
+
+    private static final String COURSE_HEADING = "Horario semanal del curso";
+    private static final String TEACHER_HEADING = "Horario semanal del profesor";
+
+    private final SlotLayoutCache slotLayouts;
+
+    public TimetableAssembler(SlotLayoutCache slotLayouts) {
+        this.slotLayouts = slotLayouts;
+    }
+
+    public Timetable course(DatasetSnapshot snapshot, Long courseId, String level, List<ScheduleEntry> entries) {
+        CourseData course = snapshot.courses().get(courseId);
+        String title = course != null && course.name() != null ? course.name() : "Curso " + courseId;
+        return timetable(snapshot, COURSE_HEADING, title, level, "Profesor", entries,
+                entry -> teacherName(snapshot, entry.getTeacherId()));
+    }
+
+    public List<Timetable> teacher(DatasetSnapshot snapshot, Long teacherId, List<ScheduleEntry> entries) {
+        String title = teacherName(snapshot, teacherId);
+        Map<String, List<ScheduleEntry>> byLevel = entries.stream()
+                .collect(Collectors.groupingBy(ScheduleEntry::getLevel, TreeMap::new, Collectors.toList()));
+        if (byLevel.isEmpty()) {
+            TeacherData teacher = snapshot.teachers().get(teacherId);
+            byLevel.put(teacher != null && teacher.level() != null ? teacher.level() : "", List.of());
+        }
+        List<Timetable> timetables = new ArrayList<>();
+        byLevel.forEach((level, levelEntries) -> timetables.add(timetable(snapshot, TEACHER_HEADING, title, level,
+                "Curso", levelEntries, entry -> courseName(snapshot, entry.getCourseId()))));
+        return timetables;
+    }
+
+    private Timetable timetable(DatasetSnapshot snapshot, String heading, String title, String level,
+                                String secondaryLabel, List<ScheduleEntry> entries,
+                                Function<ScheduleEntry, String> secondary) {
+        SlotLayout layout = slotLayouts.layout(level, snapshot.config());
+        Map<Integer, ScheduleEntry> byCell = new HashMap<>();
+        entries.forEach(entry -> byCell.put(cellKey(entry.getDayIndex(), entry.getBlockIndex()), entry));
+
+        int days = layout.days();
+        int rowCount = 0;
+        for (int day = 0; day < days; day++) {
+            rowCount = Math.max(rowCount, layout.slotCount(day));
+        }
+        int[] nextBlock = new int[days];
+        int classBlocks = 0;
+        List<Timetable.Row> rows = new ArrayList<>(rowCount);
+        for (int index = 0; index < rowCount; index++) {
+            String time = index < layout.slotCount(0)
+                    ? TimelineBuilder.minutesToTime(layout.slotStart(0, index)) + " - "
+                    + TimelineBuilder.minutesToTime(layout.slotEnd(0, index))
+                    : "";
+            List<Timetable.Cell> cells = new ArrayList<>(days);
+            for (int day = 0; day < days; day++) {
+                if (index >= layout.slotCount(day)) {
+                    cells.add(null);
+                    continue;
+                }
+                Timeline.SlotType type = layout.slotType(day, index);
+                int start = layout.slotStart(day, index);
+                int end = layout.slotEnd(day, index);
+                ScheduleEntry entry = type == Timeline.SlotType.CLASS ? byCell.get(cellKey(day, nextBlock[day]++)) : null;
+                if (entry == null) {
+                    cells.add(new Timetable.Cell(type, start, end, null, null, null));
+                    continue;
+                }
+                classBlocks++;
+                cells.add(new Timetable.Cell(type, start, end, subjectName(snapshot, entry.getSubjectId()),
+                        secondary.apply(entry), roomName(snapshot, entry.getRoomId())));
+            }
+            rows.add(new Timetable.Row(time, cells));
+        }
+        int classMinutes = classBlocks * Math.max(30, snapshot.config().blockDuration());
+        return new Timetable(heading, title, level, secondaryLabel, TimelineBuilder.WORKING_DAYS, rows, classMinutes);
+    }
+
+    private static int cellKey(int day, int block) {
+        return day * 100 + block;
+    }
+
+    private static String subjectName(DatasetSnapshot snapshot, Long subjectId) {
+        SubjectData subject = snapshot.subjects().get(subjectId);
+        return subject != null && subject.name() != null ? subject.name() : "Asignatura " + subjectId;
+    }
+
+    static String teacherName(DatasetSnapshot snapshot, Long teacherId) {
+        TeacherData teacher = snapshot.teachers().get(teacherId);
+        return teacher != null && teacher.name() != null ? teacher.name() : "Profesor " + teacherId;
+    }
+
+    private static String courseName(DatasetSnapshot snapshot, Long courseId) {
+        CourseData course = snapshot.courses().get(courseId);
+        return course != null && course.name() != null ? course.name() : "Curso " + courseId;
+    }
+
+    private static String roomName(DatasetSnapshot snapshot, Long roomId) {
+        if (roomId == null) {
+            return null;
+        }
+        ClassroomData classroom = snapshot.classrooms().get(roomId);
+        return classroom != null && classroom.name() != null ? classroom.name() : "Sala " + roomId;
+    }
+}
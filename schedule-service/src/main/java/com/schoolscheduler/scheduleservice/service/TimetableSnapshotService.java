@@ -0,0 +1,14 @@
+package com.schoolscheduler.scheduleservice.service;
+
+import com.schoolscheduler.scheduleservice.dto.TimetableSnapshotDto;
+import com.schoolscheduler.scheduleservice.publication.TimetableSnapshotStore;
+
+public interface TimetableSnapshotService {
+    TimetableSnapshotDto publish();
+
+    void publishAfterCommit();
+
+    TimetableSnapshotStore.Document course(Long courseId, boolean gzip);
+
+    TimetableSnapshotStore.Document teacher(Long teacherId, boolean gzip);
+}
@@ -0,0 +1,134 @@
+package com.schoolscheduler.scheduleservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schoolscheduler.scheduleservice.dto.TimetableSnapshotDto;
+import com.schoolscheduler.scheduleservice.entity.ScheduleEntry;
+import com.schoolscheduler.scheduleservice.publication.TimetableSnapshotStore;
+import com.schoolscheduler.scheduleservice.repository.ScheduleEntryRepository;
+import com.schoolscheduler.scheduleservice.service.model.DatasetSnapshot;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Renders every course and teacher timetable of the published schedules to JSON once per
+ * publication, so reads are served from files and never reach JPA or the object mapper. After a
+ * generation commits, a new version is rendered in the background; publications requested while
+ * one is running are folded into a single follow-up run.
+ */
+@Service
+public class TimetableSnapshotServiceImpl implements TimetableSnapshotService {
+
+    private final ScheduleEntryRepository scheduleEntryRepository;
+    private final DatasetSnapshotProvider snapshotProvider;
+    private final TimetableAssembler timetableAssembler;
+    private final TimetableSnapshotStore store;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService snapshotExecutor;
+    private final boolean publishOnGenerate;
+    private final AtomicBoolean pending = new AtomicBoolean();
+
+    public TimetableSnapshotServiceImpl(ScheduleEntryRepository scheduleEntryRepository,
+                                        DatasetSnapshotProvider snapshotProvider,
+                                        TimetableAssembler timetableAssembler,
+                                        TimetableSnapshotStore store,
+                                        ObjectMapper objectMapper,
+                                        @Qualifier("timetableSnapshotExecutor") ExecutorService snapshotExecutor,
+                                        @Value("${scheduler.timetable-snapshots.publish-on-generate:true}") boolean publishOnGenerate) {
+        this.scheduleEntryRepository = scheduleEntryRepository;
+        this.snapshotProvider = snapshotProvider;
+        this.timetableAssembler = timetableAssembler;
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.snapshotExecutor = snapshotExecutor;
+        this.publishOnGenerate = publishOnGenerate;
+    }
+
+    @Override
+    public TimetableSnapshotDto publish() {
+        DatasetSnapshot snapshot = snapshotProvider.current();
+        List<ScheduleEntry> entries = scheduleEntryRepository.findAll();
+        Map<Long, List<ScheduleEntry>> byCourse = entries.stream()
+                .collect(Collectors.groupingBy(ScheduleEntry::getCourseId, TreeMap::new, Collectors.toList()));
+        Map<Long, List<ScheduleEntry>> byTeacher = entries.stream()
+                .filter(entry -> entry.getTeacherId() != null)
+                .collect(Collectors.groupingBy(ScheduleEntry::getTeacherId, TreeMap::new, Collectors.toList()));
+        Map<String, byte[]> documents = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<Long, List<ScheduleEntry>> course : byCourse.entrySet()) {
+                String level = course.getValue().get(0).getLevel();
+                documents.put(courseName(course.getKey()), objectMapper.writeValueAsBytes(
+                        timetableAssembler.course(snapshot, course.getKey(), level, course.getValue())));
+            }
+            for (Map.Entry<Long, List<ScheduleEntry>> teacher : byTeacher.entrySet()) {
+                documents.put(teacherName(teacher.getKey()), objectMapper.writeValueAsBytes(
+                        timetableAssembler.teacher(snapshot, teacher.getKey(), teacher.getValue())));
+            }
+            return new TimetableSnapshotDto(store.write(documents), byCourse.size(), byTeacher.size());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize the published timetables", e);
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Could not write the timetable snapshots", e);
+        }
+    }
+
+    @Override
+    public void publishAfterCommit() {
+        if (!publishOnGenerate) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publishLater();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publishLater();
+            }
+        });
+    }
+
+    @Override
+    public TimetableSnapshotStore.Document course(Long courseId, boolean gzip) {
+        return store.find(courseName(courseId), gzip).orElseThrow(() ->
+                new ResponseStatusException(HttpStatus.NOT_FOUND, "Course " + courseId + " has no published timetable"));
+    }
+
+    @Override
+    public TimetableSnapshotStore.Document teacher(Long teacherId, boolean gzip) {
+        return store.find(teacherName(teacherId), gzip).orElseThrow(() ->
+                new ResponseStatusException(HttpStatus.NOT_FOUND, "Teacher " + teacherId + " has no published timetable"));
+    }
+
+    private void publishLater() {
+        if (pending.compareAndSet(false, true)) {
+            snapshotExecutor.execute(() -> {
+                pending.set(false);
+                publish();
+            });
+        }
+    }
+
+    private static String courseName(Long courseId) {
+        return "courses/" + courseId;
+    }
+
+    private static String teacherName(Long teacherId) {
+        return "teachers/" + teacherId;
+    }
+}
@@ -0,0 +1,10 @@
+package com.schoolscheduler.scheduleservice.service.model;
+
+import com.schoolscheduler.scheduleservice.engine.ScheduledSession;
+
+/**
+ * How one (course, day, block) cell changed between two consecutive versions. A {@code null}
+ * side means the cell was empty; both sides are kept so diffs never need the versions themselves.
+ */
+public record CellDelta(Long courseId, int day, int block, ScheduledSession before, ScheduledSession after) {
+}
@@ -0,0 +1,10 @@
+package com.schoolscheduler.scheduleservice.service.model;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+
+public record ClassroomData(Long id, String name, @JsonAlias("levelId") String level, Integer capacity) {
+
+    public boolean belongsTo(String levelId) {
+        return level == null || level.equals(levelId);
+    }
+}
@@ -0,0 +1,4 @@
+package com.schoolscheduler.scheduleservice.service.model;
+
+public record ConfigEntry(Long id, String key, String value) {
+}
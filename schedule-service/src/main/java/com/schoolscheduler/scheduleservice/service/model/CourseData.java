@@ -0,0 +1,10 @@
+package com.schoolscheduler.scheduleservice.service.model;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+
+public record CourseData(Long id, String name, @JsonAlias("levelId") String level, Integer studentCount) {
+
+    public CourseData withId(Long newId) {
+        return new CourseData(newId, name, level, studentCount);
+    }
+}
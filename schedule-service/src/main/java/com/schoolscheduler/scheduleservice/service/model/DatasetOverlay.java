@@ -0,0 +1,104 @@
+package com.schoolscheduler.scheduleservice.service.model;
+
+import com.schoolscheduler.scheduleservice.engine.GenerationInput;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Hypothetical edits layered over a {@link DatasetSnapshot}. Only the edited entities are held
+ * here; everything else is read from the shared base, so many overlays can coexist cheaply.
+ * Entities created without an id receive negative ids so they never collide with stored ones.
+ */
+public final class DatasetOverlay implements SchedulerDataset {
+
+    private final DatasetSnapshot base;
+    private final Map<Long, SubjectData> subjects = new LinkedHashMap<>();
+    private final Map<Long, TeacherData> teachers = new LinkedHashMap<>();
+    private final Map<Long, CourseData> courses = new LinkedHashMap<>();
+    private final Set<Long> removedSubjects = new HashSet<>();
+    private final Set<Long> removedTeachers = new HashSet<>();
+    private final Set<Long> removedCourses = new HashSet<>();
+    private long nextHypotheticalId = -1;
+
+    DatasetOverlay(DatasetSnapshot base) {
+        this.base = base;
+    }
+
+    public DatasetOverlay putSubject(SubjectData subject) {
+        SubjectData stored = subject.id() != null ? subject : subject.withId(nextHypotheticalId--);
+        subjects.put(stored.id(), stored);
+        removedSubjects.remove(stored.id());
+        return this;
+    }
+
+    public DatasetOverlay putTeacher(TeacherData teacher) {
+        TeacherData stored = teacher.id() != null ? teacher : teacher.withId(nextHypotheticalId--);
+        teachers.put(stored.id(), stored);
+        removedTeachers.remove(stored.id());
+        return this;
+    }
+
+    public DatasetOverlay putCourse(CourseData course) {
+        CourseData stored = course.id() != null ? course : course.withId(nextHypotheticalId--);
+        courses.put(stored.id(), stored);
+        removedCourses.remove(stored.id());
+        return this;
+    }
+
+    public DatasetOverlay removeSubject(Long id) {
+        subjects.remove(id);
+        removedSubjects.add(id);
+        return this;
+    }
+
+    public DatasetOverlay removeTeacher(Long id) {
+        teachers.remove(id);
+        removedTeachers.add(id);
+        return this;
+    }
+
+    public DatasetOverlay removeCourse(Long id) {
+        courses.remove(id);
+        removedCourses.add(id);
+        return this;
+    }
+
+    public DatasetSnapshot base() {
+        return base;
+    }
+
+    @Override
+    public GenerationInput inputFor(String levelId) {
+        return new GenerationInput(levelId,
+                merge(base.coursesForLevel(levelId), courses, removedCourses, CourseData::id,
+                        course -> levelId.equals(course.level())),
+                merge(base.subjectsForLevel(levelId), subjects, removedSubjects, SubjectData::id,
+                        subject -> levelId.equals(subject.level())),
+                merge(base.teachersForLevel(levelId), teachers, removedTeachers, TeacherData::id,
+                        teacher -> teacher.belongsTo(levelId)),
+                base.classroomsForLevel(levelId),
+                base.config());
+    }
+
+    private static <T> List<T> merge(List<T> baseItems, Map<Long, T> edits, Set<Long> removed,
+                                     Function<T, Long> id, Predicate<T> inLevel) {
+        if (edits.isEmpty() && removed.isEmpty()) {
+            return baseItems;
+        }
+        List<T> merged = new ArrayList<>(baseItems.size() + edits.size());
+        for (T item : baseItems) {
+            Long itemId = id.apply(item);
+            if (!removed.contains(itemId) && !edits.containsKey(itemId)) {
+                merged.add(item);
+            }
+        }
+        edits.values().stream().filter(inLevel).forEach(merged::add);
+        return merged;
+    }
+}
@@ -0,0 +1,135 @@
+package com.schoolscheduler.scheduleservice.service.model;
+
+import com.schoolscheduler.scheduleservice.engine.GenerationInput;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable, level-indexed copy of the scheduler inputs at one point in time. Overlays and
+ * concurrent generations share it without copying.
+ */
+public final class DatasetSnapshot implements SchedulerDataset {
+
+    private final Map<Long, SubjectData> subjects;
+    private final Map<Long, TeacherData> teachers;
+    private final Map<Long, CourseData> courses;
+    private final Map<Long, ClassroomData> classrooms;
+    private final Map<String, List<SubjectData>> subjectsByLevel;
+    private final Map<String, List<CourseData>> coursesByLevel;
+    private final SchedulerConfig config;
+    private final Map<String, SourceStatus> sources;
+    private final Instant takenAt;
+
+    private DatasetSnapshot(List<SubjectData> subjects, List<TeacherData> teachers, List<CourseData> courses,
+                            List<ClassroomData> classrooms, SchedulerConfig config, Map<String, SourceStatus> sources) {
+        this.subjects = index(subjects, SubjectData::id);
+        this.teachers = index(teachers, TeacherData::id);
+        this.courses = index(courses, CourseData::id);
+        this.classrooms = index(classrooms, ClassroomData::id);
+        this.subjectsByLevel = subjects.stream().filter(subject -> subject.level() != null)
+                .collect(Collectors.groupingBy(SubjectData::level, Collectors.toUnmodifiableList()));
+        this.coursesByLevel = courses.stream().filter(course -> course.level() != null)
+                .collect(Collectors.groupingBy(CourseData::level, Collectors.toUnmodifiableList()));
+        this.config = config;
+        this.sources = Collections.unmodifiableMap(new LinkedHashMap<>(sources));
+        this.takenAt = Instant.now();
+    }
+
+    public static DatasetSnapshot of(List<SubjectData> subjects, List<TeacherData> teachers, List<CourseData> courses,
+                                     List<ClassroomData> classrooms, SchedulerConfig config) {
+        return of(subjects, teachers, courses, classrooms, config, Map.of());
+    }
+
+    public static DatasetSnapshot of(List<SubjectData> subjects, List<TeacherData> teachers, List<CourseData> courses,
+                                     List<ClassroomData> classrooms, SchedulerConfig config,
+                                     Map<String, SourceStatus> sources) {
+        return new DatasetSnapshot(nonNull(subjects), nonNull(teachers), nonNull(courses), nonNull(classrooms), config,
+                sources);
+    }
+
+    @Override
+    public GenerationInput inputFor(String levelId) {
+        return new GenerationInput(levelId, coursesForLevel(levelId), subjectsForLevel(levelId),
+                teachersForLevel(levelId), classroomsForLevel(levelId), config);
+    }
+
+    public DatasetOverlay overlay() {
+        return new DatasetOverlay(this);
+    }
+
+    public Set<String> levels() {
+        return coursesByLevel.keySet();
+    }
+
+    public List<SubjectData> subjectsForLevel(String levelId) {
+        return subjectsByLevel.getOrDefault(levelId, List.of());
+    }
+
+    public List<CourseData> coursesForLevel(String levelId) {
+        return coursesByLevel.getOrDefault(levelId, List.of());
+    }
+
+    public List<TeacherData> teachersForLevel(String levelId) {
+        return teachers.values().stream().filter(teacher -> teacher.belongsTo(levelId)).toList();
+    }
+
+    public List<ClassroomData> classroomsForLevel(String levelId) {
+        return classrooms.values().stream().filter(classroom -> classroom.belongsTo(levelId)).toList();
+    }
+
+    public Map<Long, SubjectData> subjects() {
+        return subjects;
+    }
+
+    public Map<Long, TeacherData> teachers() {
+        return teachers;
+    }
+
+    public Map<Long, CourseData> courses() {
+        return courses;
+    }
+
+    public Map<Long, ClassroomData> classrooms() {
+        return classrooms;
+    }
+
+    public SchedulerConfig config() {
+        return config;
+    }
+
+    public Map<String, SourceStatus> sources() {
+        return sources;
+    }
+
+    // The content versions of all sources; two snapshots with the same version hold the same inputs.
+    public String version() {
+        return new TreeMap<>(sources).values().stream()
+                .map(status -> status.source() + "@" + status.version())
+                .collect(Collectors.joining(","));
+    }
+
+    public boolean isDegraded() {
+        return sources.values().stream().anyMatch(SourceStatus::stale);
+    }
+
+    public Instant takenAt() {
+        return takenAt;
+    }
+
+    private static <T> Map<Long, T> index(List<T> items, Function<T, Long> id) {
+        Map<Long, T> indexed = new LinkedHashMap<>();
+        items.forEach(item -> indexed.put(id.apply(item), item));
+        return Collections.unmodifiableMap(indexed);
+    }
+
+    private static <T> List<T> nonNull(List<T> items) {
+        return items != null ? items : List.of();
+    }
+}
@@ -0,0 +1,16 @@
+package com.schoolscheduler.scheduleservice.service.model;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A rendered export that has not been written yet: the content is produced straight into the
+ * response stream when {@link Writer#writeTo} runs.
+ */
+public record ExportFile(String filename, String contentType, Writer writer) {
+
+    @FunctionalInterface
+    public interface Writer {
+        void writeTo(OutputStream out) throws IOException;
+    }
+}
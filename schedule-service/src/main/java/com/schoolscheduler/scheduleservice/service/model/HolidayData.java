@@ -0,0 +1,6 @@
+package com.schoolscheduler.scheduleservice.service.model;
+
+import java.time.LocalDate;
+
+public record HolidayData(Long id, LocalDate date, String description) {
+}
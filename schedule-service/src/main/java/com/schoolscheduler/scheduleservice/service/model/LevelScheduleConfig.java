@@ -0,0 +1,19 @@
+package com.schoolscheduler.scheduleservice.service.model;
+
+import java.util.List;
+
+public record LevelScheduleConfig(
+        String levelId,
+        String endTime,
+        String administrativeMode,
+        List<AdministrativeBlock> administrativeBlocks,
+        String breakMode,
+        List<BreakConfig> breaks
+) {
+
+    public record AdministrativeBlock(String day, String start, String end) {
+    }
+
+    public record BreakConfig(String start, Integer duration) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.schoolscheduler.scheduleservice.service.model;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Typed view over the key/value entries stored by config-service. Missing keys fall back to the
+ * same defaults the frontend applies in {@code configService.ts}.
+ */
+public record SchedulerConfig(
+        String schoolName,
+        int blockDuration,
+        String dayStart,
+        String lunchStart,
+        int lunchDuration,
+        List<LevelScheduleConfig> levelSchedules
+) {
+
+    private static final List<LevelScheduleConfig> DEFAULT_LEVEL_SCHEDULES = List.of(
+            new LevelScheduleConfig("parvulario", "13:00", "none", List.of(), "custom",
+                    List.of(new LevelScheduleConfig.BreakConfig("09:30", 20))),
+            new LevelScheduleConfig("basico", "15:00", "custom", List.of(), "custom",
+                    List.of(new LevelScheduleConfig.BreakConfig("10:15", 15))),
+            new LevelScheduleConfig("media", "17:00", "custom", List.of(), "custom",
+                    List.of(new LevelScheduleConfig.BreakConfig("10:15", 10),
+                            new LevelScheduleConfig.BreakConfig("14:45", 15))));
+
+    public Optional<LevelScheduleConfig> levelSchedule(String levelId) {
+        return levelSchedules.stream().filter(schedule -> schedule.levelId().equals(levelId)).findFirst();
+    }
+
+    public static SchedulerConfig fromEntries(List<ConfigEntry> entries, ObjectMapper objectMapper) {
+        Map<String, String> values = entries.stream()
+                .collect(Collectors.toMap(ConfigEntry::key, ConfigEntry::value, (first, second) -> second));
+        return new SchedulerConfig(
+                values.getOrDefault("schoolName", "School Scheduler"),
+                parseInt(values.get("blockDuration"), 45),
+                values.getOrDefault("dayStart", "08:00"),
+                values.getOrDefault("lunchStart", "13:00"),
+                parseInt(values.get("lunchDuration"), 60),
+                parseLevelSchedules(values.get("levelSchedules"), objectMapper));
+    }
+
+    private static int parseInt(String value, int fallback) {
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException ex) {
+            return fallback;
+        }
+    }
+
+    private static List<LevelScheduleConfig> parseLevelSchedules(String value, ObjectMapper objectMapper) {
+        if (value == null || value.isBlank()) {
+            return DEFAULT_LEVEL_SCHEDULES;
+        }
+        try {
+            Map<String, LevelScheduleConfig> configured = objectMapper
+                    .readValue(value, new TypeReference<List<LevelScheduleConfig>>() { })
+                    .stream()
+                    .collect(Collectors.toMap(LevelScheduleConfig::levelId, Function.identity(), (a, b) -> b));
+            return DEFAULT_LEVEL_SCHEDULES.stream()
+                    .map(schedule -> configured.getOrDefault(schedule.levelId(), schedule))
+                    .toList();
+        } catch (JsonProcessingException ex) {
+            return DEFAULT_LEVEL_SCHEDULES;
+        }
+    }
+}
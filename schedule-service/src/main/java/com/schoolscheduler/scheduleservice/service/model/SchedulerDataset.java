@@ -0,0 +1,7 @@
+package com.schoolscheduler.scheduleservice.service.model;
+
+import com.schoolscheduler.scheduleservice.engine.GenerationInput;
+
+public interface SchedulerDataset {
+    GenerationInput inputFor(String levelId);
+}
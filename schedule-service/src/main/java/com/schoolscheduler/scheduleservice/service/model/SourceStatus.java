@@ -0,0 +1,10 @@
+package com.schoolscheduler.scheduleservice.service.model;
+
+import java.time.Instant;
+
+/**
+ * Where one dataset of a snapshot came from. {@code stale} means the upstream call failed and the
+ * last copy that was fetched successfully was used instead.
+ */
+public record SourceStatus(String source, String version, Instant fetchedAt, boolean stale, String error) {
+}
@@ -0,0 +1,19 @@
+package com.schoolscheduler.scheduleservice.service.model;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+
+public record SubjectData(
+        Long id,
+        String name,
+        @JsonAlias("levelId") String level,
+        Integer weeklyBlocks,
+        Integer maxDailyBlocks,
+        String type,
+        String color,
+        String preferredTime
+) {
+
+    public SubjectData withId(Long newId) {
+        return new SubjectData(newId, name, level, weeklyBlocks, maxDailyBlocks, type, color, preferredTime);
+    }
+}
@@ -0,0 +1,22 @@
+package com.schoolscheduler.scheduleservice.service.model;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import java.util.Set;
+
+public record TeacherData(
+        Long id,
+        String name,
+        @JsonAlias("levelId") String level,
+        Set<Long> subjectIds,
+        Set<Long> courseIds,
+        Integer weeklyHours
+) {
+
+    public TeacherData withId(Long newId) {
+        return new TeacherData(newId, name, level, subjectIds, courseIds, weeklyHours);
+    }
+
+    public boolean belongsTo(String levelId) {
+        return level == null || level.equals(levelId);
+    }
+}
@@ -0,0 +1,137 @@
+package com.schoolscheduler.scheduleservice.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.schoolscheduler.scheduleservice.service.model.CourseData;
+import com.schoolscheduler.scheduleservice.service.model.SchedulerConfig;
+import com.schoolscheduler.scheduleservice.service.model.SubjectData;
+import com.schoolscheduler.scheduleservice.service.model.TeacherData;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class ConflictAnalyzerTest {
+
+    private static final String LEVEL = "basico";
+    // No level schedule: eight 45-minute blocks a day, so layout limits never get in the way here.
+    private static final SchedulerConfig CONFIG = new SchedulerConfig("Colegio", 45, "08:00", "13:00", 60, List.of());
+
+    private static final CourseData FIRST = new CourseData(1L, "1° Básico A", LEVEL, 30);
+    private static final CourseData SECOND = new CourseData(2L, "1° Básico B", LEVEL, 30);
+
+    private static final SubjectData MATH = subject(10L, "Matemática", 3);
+    private static final SubjectData LANGUAGE = subject(11L, "Lenguaje", 3);
+    private static final SubjectData ART = subject(12L, "Artes", 2);
+    private static final SubjectData MUSIC = subject(13L, "Música", 2);
+
+    // Three hours are four blocks, one hour is one block.
+    private static final TeacherData ANA = teacher(100L, "Ana", 3, Set.of(MATH.id(), LANGUAGE.id(), ART.id()), Set.of());
+    private static final TeacherData BRUNO = teacher(101L, "Bruno", 1, Set.of(ART.id()), Set.of());
+    private static final TeacherData CARLA = teacher(102L, "Carla", 30, Set.of(MUSIC.id()), Set.of());
+
+    private final ConflictAnalyzer analyzer = new ConflictAnalyzer(new SlotLayoutCache(new TimelineBuilder(), 64));
+
+    @Test
+    void reportsTheMinimalGroupOfLessonsItsTeachersCannotCover() {
+        // 10 blocks against 45 available overall, but only Ana can give Matemática and Lenguaje:
+        // 6 blocks against her 4. Artes is also on the saturated side and must be shrunk away.
+        List<Conflict> conflicts = capacityConflicts(input(List.of(FIRST), List.of(MATH, LANGUAGE, ART, MUSIC),
+                List.of(ANA, BRUNO, CARLA)));
+
+        assertEquals(1, conflicts.size());
+        Conflict conflict = conflicts.get(0);
+        assertEquals(List.of(FIRST.id()), conflict.courseIds());
+        assertEquals(List.of(MATH.id(), LANGUAGE.id()), conflict.subjectIds());
+        assertEquals(List.of(ANA.id()), conflict.teacherIds());
+        assertEquals(6, conflict.required());
+        assertEquals(4, conflict.available());
+    }
+
+    @Test
+    void removingAnyReportedSubjectMakesTheLevelCoverable() {
+        List<SubjectData> subjects = List.of(MATH, LANGUAGE, ART, MUSIC);
+        List<TeacherData> teachers = List.of(ANA, BRUNO, CARLA);
+        Conflict conflict = capacityConflicts(input(List.of(FIRST), subjects, teachers)).get(0);
+
+        for (Long removed : conflict.subjectIds()) {
+            List<SubjectData> remaining = subjects.stream().filter(subject -> !subject.id().equals(removed)).toList();
+            assertEquals(List.of(), capacityConflicts(input(List.of(FIRST), remaining, teachers)),
+                    "still deficient without subject " + removed);
+        }
+    }
+
+    @Test
+    void groupsLessonsOfSeveralCoursesThatShareTheirOnlyTeacher() {
+        List<Conflict> conflicts = capacityConflicts(input(List.of(FIRST, SECOND), List.of(MATH), List.of(ANA)));
+
+        assertEquals(1, conflicts.size());
+        assertEquals(List.of(FIRST.id(), SECOND.id()), conflicts.get(0).courseIds());
+        assertEquals(List.of(MATH.id()), conflicts.get(0).subjectIds());
+        assertEquals(6, conflicts.get(0).required());
+        assertEquals(4, conflicts.get(0).available());
+    }
+
+    @Test
+    void removingAnyReportedCourseMakesTheLevelCoverable() {
+        List<CourseData> courses = List.of(FIRST, SECOND);
+        Conflict conflict = capacityConflicts(input(courses, List.of(MATH), List.of(ANA))).get(0);
+
+        for (Long removed : conflict.courseIds()) {
+            List<CourseData> remaining = courses.stream().filter(course -> !course.id().equals(removed)).toList();
+            assertEquals(List.of(), capacityConflicts(input(remaining, List.of(MATH), List.of(ANA))),
+                    "still deficient without course " + removed);
+        }
+    }
+
+    @Test
+    void reportsIndependentShortagesSeparately() {
+        TeacherData dario = teacher(103L, "Darío", 1, Set.of(MUSIC.id()), Set.of());
+        List<Conflict> conflicts = capacityConflicts(input(List.of(FIRST), List.of(MATH, LANGUAGE, MUSIC),
+                List.of(ANA, dario)));
+
+        assertEquals(2, conflicts.size());
+        assertTrue(conflicts.stream().anyMatch(conflict -> conflict.subjectIds().equals(List.of(MUSIC.id()))
+                && conflict.teacherIds().equals(List.of(dario.id()))));
+        assertTrue(conflicts.stream().anyMatch(conflict -> conflict.subjectIds().equals(List.of(MATH.id(), LANGUAGE.id()))
+                && conflict.teacherIds().equals(List.of(ANA.id()))));
+    }
+
+    @Test
+    void respectsTheCoursesATeacherIsLimitedTo() {
+        // Ana covers the first course on her own, but the second one only has Bruno's single block.
+        TeacherData bruno = teacher(101L, "Bruno", 1, Set.of(ART.id()), Set.of(SECOND.id()));
+        TeacherData ana = teacher(100L, "Ana", 3, Set.of(ART.id()), Set.of(FIRST.id()));
+        List<Conflict> conflicts = capacityConflicts(input(List.of(FIRST, SECOND), List.of(ART), List.of(ana, bruno)));
+
+        assertEquals(1, conflicts.size());
+        assertEquals(List.of(SECOND.id()), conflicts.get(0).courseIds());
+        assertEquals(List.of(bruno.id()), conflicts.get(0).teacherIds());
+    }
+
+    @Test
+    void findsNothingWhenTheTeachersCanCoverEveryLesson() {
+        TeacherData ana = teacher(100L, "Ana", 6, Set.of(MATH.id(), LANGUAGE.id(), ART.id()), Set.of());
+
+        assertEquals(List.of(), analyzer.analyze(input(List.of(FIRST), List.of(MATH, LANGUAGE, ART, MUSIC),
+                List.of(ana, BRUNO, CARLA))));
+    }
+
+    private List<Conflict> capacityConflicts(GenerationInput input) {
+        return analyzer.analyze(input).stream()
+                .filter(conflict -> conflict.kind() == Conflict.Kind.TEACHER_CAPACITY)
+                .toList();
+    }
+
+    private static GenerationInput input(List<CourseData> courses, List<SubjectData> subjects, List<TeacherData> teachers) {
+        return new GenerationInput(LEVEL, courses, subjects, teachers, List.of(), CONFIG);
+    }
+
+    private static SubjectData subject(Long id, String name, int weeklyBlocks) {
+        return new SubjectData(id, name, LEVEL, weeklyBlocks, null, "Normal", null, null);
+    }
+
+    private static TeacherData teacher(Long id, String name, int weeklyHours, Set<Long> subjectIds, Set<Long> courseIds) {
+        return new TeacherData(id, name, LEVEL, subjectIds, courseIds, weeklyHours);
+    }
+}
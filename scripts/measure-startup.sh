@@ -0,0 +1,54 @@
+#!/usr/bin/env bash
+# Time to first request of one service, built with its Dockerfile and with Dockerfile.startup.
+#
+#   scripts/measure-startup.sh <service-dir> [runs]
+#
+# Containers join the Docker network $NETWORK (default: school-scheduler), where postgres,
+# eureka-server and config-service must already be running under those host names. Each run
+# counts from `docker run` until the first HTTP answer on /actuator/health, whatever its status.
+set -euo pipefail
+
+service="${1:?usage: $0 <service-dir> [runs]}"
+runs="${2:-5}"
+network="${NETWORK:-school-scheduler}"
+root="$(cd "$(dirname "$0")/.." && pwd)"
+port="$(sed -n 's/^  port: *//p' "$root/$service/src/main/resources/application.yml" | head -n 1)"
+container="$service-startup-probe"
+
+docker build -q -t "$service:baseline" -f "$root/$service/Dockerfile" "$root/$service" >/dev/null
+docker build -q -t "$service:startup" -f "$root/$service/Dockerfile.startup" "$root/$service" >/dev/null
+
+first_request_millis() {
+  local start deadline
+  start=$(date +%s%N)
+  deadline=$(( start + 300000000000 ))
+  docker run -d --rm --name "$container" --network "$network" -p "$port:$port" "$1" >/dev/null
+  until curl -s -o /dev/null "http://localhost:$port/actuator/health"; do
+    if [ "$(date +%s%N)" -gt "$deadline" ]; then
+      docker stop "$container" >/dev/null
+      echo "$1 did not answer within 300s" >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+  echo $(( ($(date +%s%N) - start) / 1000000 ))
+}
+
+median() {
+  sort -n | awk '{ values[NR] = $1 } END { print (NR % 2) ? values[(NR + 1) / 2] : int((values[NR / 2] + values[NR / 2 + 1]) / 2) }'
+}
+
+report=""
+for mode in baseline startup; do
+  samples=()
+  for _ in $(seq "$runs"); do
+    samples+=("$(first_request_millis "$service:$mode")")
+    # The timeline of the last optimized run is kept for the report below.
+    if [ "$mode" = startup ] && [ "${#samples[@]}" -eq "$runs" ]; then
+      report="$("$root/scripts/startup-report.sh" "http://localhost:$port" || true)"
+    fi
+    docker stop "$container" >/dev/null
+  done
+  echo "$service $mode: median $(printf '%s\n' "${samples[@]}" | median) ms over $runs runs (${samples[*]})"
+done
+printf '\nSlowest startup steps (startup image):\n%s\n' "$report"
@@ -0,0 +1,19 @@
+#!/usr/bin/env bash
+# Slowest startup steps of a running service, from the actuator startup endpoint.
+#
+#   scripts/startup-report.sh <base-url> [steps]
+#
+# Prints seconds, step name and bean name (when there is one), slowest first. Requires jq.
+set -euo pipefail
+
+url="${1:?usage: $0 <base-url> [steps]}"
+steps="${2:-20}"
+
+curl -s "$url/actuator/startup" | jq -r '
+  .timeline.events[]
+  | [ (.duration | ltrimstr("PT") | rtrimstr("S") | tonumber? // 0),
+      .startupStep.name,
+      ([.startupStep.tags[]? | select(.key == "beanName") | .value] | join("")) ]
+  | @tsv' \
+  | sort -t "$(printf '\t')" -k1,1 -rn \
+  | head -n "$steps"
@@ -0,0 +1,21 @@
+package com.schoolscheduler.subjectservice.config;
+
+import com.schoolscheduler.subjectservice.cache.EntityCache;
+import com.schoolscheduler.subjectservice.dto.SubjectDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public EntityCache<SubjectDto> subjectCache(MeterRegistry meterRegistry,
+                                                @Value("${scheduler.cache.max-entries:10000}") int maxEntries,
+                                                @Value("${scheduler.cache.ttl:PT10M}") Duration ttl) {
+        return new EntityCache<>("subjects", maxEntries, ttl, meterRegistry);
+    }
+}
@@ -1,17 +1,22 @@
 package com.schoolscheduler.subjectservice.controller;
 
+import com.schoolscheduler.subjectservice.dto.ChangeFeedDto;
+import com.schoolscheduler.subjectservice.dto.SearchResultDto;
 import com.schoolscheduler.subjectservice.dto.SubjectDto;
+import com.schoolscheduler.subjectservice.dto.SubjectPatchDto;
 import com.schoolscheduler.subjectservice.service.SubjectService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -31,6 +36,18 @@ public class SubjectController {
         return ResponseEntity.ok(subjectService.findAll());
     }
 
+    @GetMapping("/changes")
+    public ResponseEntity<ChangeFeedDto<SubjectDto>> changes(@RequestParam(defaultValue = "0") long since) {
+        return ResponseEntity.ok(subjectService.changes(since));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<SearchResultDto> search(@RequestParam(defaultValue = "") String q,
+                                                  @RequestParam(defaultValue = "0") int page,
+                                                  @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(subjectService.search(q, page, size));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<SubjectDto> findById(@PathVariable Long id) {
         return ResponseEntity.ok(subjectService.findById(id));
@@ -46,6 +63,12 @@ public class SubjectController {
         return ResponseEntity.ok(subjectService.update(id, subjectDto));
     }
 
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patch(@PathVariable Long id, @Valid @RequestBody SubjectPatchDto patch) {
+        long version = subjectService.patch(id, patch);
+        return ResponseEntity.noContent().eTag("\"" + version + "\"").build();
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
         subjectService.delete(id);
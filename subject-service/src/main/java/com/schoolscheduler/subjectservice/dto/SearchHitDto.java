@@ -0,0 +1,4 @@
+package com.schoolscheduler.subjectservice.dto;
+
+public record SearchHitDto(Long id, String name, double score) {
+}
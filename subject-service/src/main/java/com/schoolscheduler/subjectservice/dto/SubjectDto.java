@@ -10,6 +10,7 @@ public record SubjectDto(
         @NotBlank(message = "Level is required") String level,
         @NotNull(message = "Weekly blocks are required") @Min(1) Integer weeklyBlocks,
         @NotBlank(message = "Type is required") String type,
-        String color
+        String color,
+        Long version
 ) {
 }
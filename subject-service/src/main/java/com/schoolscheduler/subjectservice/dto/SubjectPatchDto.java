@@ -0,0 +1,19 @@
+package com.schoolscheduler.subjectservice.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+/**
+ * Partial update of a subject. Null fields are left unchanged; {@code version} must match the
+ * stored version or the update is rejected.
+ */
+public record SubjectPatchDto(
+        @NotNull(message = "Version is required") Long version,
+        @Pattern(regexp = ".*\\S.*", message = "Name must not be blank") String name,
+        @Pattern(regexp = ".*\\S.*", message = "Level must not be blank") String level,
+        @Min(1) Integer weeklyBlocks,
+        @Pattern(regexp = ".*\\S.*", message = "Type must not be blank") String type,
+        String color
+) {
+}
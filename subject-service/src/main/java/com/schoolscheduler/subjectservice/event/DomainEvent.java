@@ -0,0 +1,15 @@
+package com.schoolscheduler.subjectservice.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.Instant;
+
+public record DomainEvent(
+        Long id,
+        String source,
+        String aggregateType,
+        Long aggregateId,
+        DomainEventType type,
+        JsonNode payload,
+        Instant occurredAt
+) {
+}
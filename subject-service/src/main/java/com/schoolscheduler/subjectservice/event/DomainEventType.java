@@ -0,0 +1,8 @@
+package com.schoolscheduler.subjectservice.event;
+
+public enum DomainEventType {
+    CREATED,
+    UPDATED,
+    PATCHED,
+    DELETED
+}
@@ -0,0 +1,13 @@
+package com.schoolscheduler.subjectservice.event;
+
+import java.util.List;
+
+public interface EventBroker {
+
+    /**
+     * Delivers a batch in order. Implementations throw when the batch was not accepted so the
+     * relay leaves it in the outbox and retries. Delivery is at-least-once: a batch that was accepted
+     * but could not be marked published is sent again.
+     */
+    void publish(List<DomainEvent> events);
+}
@@ -0,0 +1,35 @@
+package com.schoolscheduler.subjectservice.repository;
+
+import com.schoolscheduler.subjectservice.entity.SubjectChange;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface SubjectChangeRepository extends JpaRepository<SubjectChange, Long> {
+    List<SubjectChange> findTop500ByVersionGreaterThanOrderByVersionAsc(Long version);
+
+    Optional<SubjectChange> findTopByOrderByVersionDesc();
+
+    // Held until the writing transaction ends, so log versions are allocated and committed in the same
+    // order. Without it a lower IDENTITY value could commit after a higher one had already been read,
+    // and a reader resuming from the higher one would never see it.
+    @Query(value = "select 1 from pg_advisory_xact_lock(hashtext('subject_change_log'))", nativeQuery = true)
+    Integer lockLog();
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    default SubjectChange append(SubjectChange change) {
+        lockLog();
+        return save(change);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    default List<SubjectChange> appendAll(List<SubjectChange> changes) {
+        lockLog();
+        return saveAll(changes);
+    }
+}
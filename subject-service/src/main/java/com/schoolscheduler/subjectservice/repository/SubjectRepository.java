@@ -2,8 +2,27 @@ package com.schoolscheduler.subjectservice.repository;
 
 import com.schoolscheduler.subjectservice.entity.Subject;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface SubjectRepository extends JpaRepository<Subject, Long> {
+
+    @Modifying
+    @Query("update Subject s set s.name = coalesce(:name, s.name), "
+            + "s.level = coalesce(:level, s.level), "
+            + "s.weeklyBlocks = coalesce(:weeklyBlocks, s.weeklyBlocks), "
+            + "s.type = coalesce(:type, s.type), "
+            + "s.color = coalesce(:color, s.color), "
+            + "s.version = s.version + 1 "
+            + "where s.id = :id and s.version = :version")
+    int patch(@Param("id") Long id,
+              @Param("version") Long version,
+              @Param("name") String name,
+              @Param("level") String level,
+              @Param("weeklyBlocks") Integer weeklyBlocks,
+              @Param("type") String type,
+              @Param("color") String color);
 }
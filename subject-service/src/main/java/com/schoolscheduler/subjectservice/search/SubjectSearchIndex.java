@@ -0,0 +1,94 @@
+package com.schoolscheduler.subjectservice.search;
+
+import com.schoolscheduler.subjectservice.cache.EntityCache;
+import com.schoolscheduler.subjectservice.dto.SubjectDto;
+import com.schoolscheduler.subjectservice.entity.SubjectChange;
+import com.schoolscheduler.subjectservice.repository.SubjectChangeRepository;
+import com.schoolscheduler.subjectservice.repository.SubjectRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the {@link NameIndex} of subjects in step with the table. It is loaded in full on first use
+ * and then follows the subject change log: right after each local write commits, and on a fixed
+ * delay to pick up writes made by other instances. Each change it reads also evicts the entity
+ * from the read-through cache.
+ */
+@Component
+public class SubjectSearchIndex {
+
+    private static final int CHANGE_PAGE_SIZE = 500;
+
+    private final SubjectRepository subjectRepository;
+    private final SubjectChangeRepository changeRepository;
+    private final EntityCache<SubjectDto> cache;
+    private final NameIndex index = new NameIndex();
+    private volatile long version = -1;
+
+    public SubjectSearchIndex(SubjectRepository subjectRepository, SubjectChangeRepository changeRepository,
+                              EntityCache<SubjectDto> cache) {
+        this.subjectRepository = subjectRepository;
+        this.changeRepository = changeRepository;
+        this.cache = cache;
+    }
+
+    public NameIndex.Page search(String query, int page, int size) {
+        if (version < 0) {
+            refresh();
+        }
+        return index.search(query, page, size);
+    }
+
+    public void refreshAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refresh();
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.search.refresh-interval:PT5S}")
+    public synchronized void refresh() {
+        if (version < 0) {
+            // Read the log position first so writes racing with the full load are replayed afterwards.
+            long latest = changeRepository.findTopByOrderByVersionDesc().map(SubjectChange::getVersion).orElse(0L);
+            Map<Long, String> names = new HashMap<>();
+            subjectRepository.findAll().forEach(subject -> names.put(subject.getId(), subject.getName()));
+            index.replaceAll(names);
+            cache.evictAll();
+            version = latest;
+        }
+        List<SubjectChange> changes;
+        do {
+            changes = changeRepository.findTop500ByVersionGreaterThanOrderByVersionAsc(version);
+            Set<Long> upserts = new HashSet<>();
+            for (SubjectChange change : changes) {
+                // Writes from other instances reach the entity cache through the log as well.
+                cache.evict(change.getSubjectId());
+                if (change.isDeleted()) {
+                    upserts.remove(change.getSubjectId());
+                    index.remove(change.getSubjectId());
+                } else {
+                    upserts.add(change.getSubjectId());
+                }
+            }
+            subjectRepository.findAllById(upserts).forEach(subject -> index.put(subject.getId(), subject.getName()));
+            if (!changes.isEmpty()) {
+                version = changes.get(changes.size() - 1).getVersion();
+            }
+        } while (changes.size() == CHANGE_PAGE_SIZE);
+    }
+}
@@ -1,6 +1,9 @@
 package com.schoolscheduler.subjectservice.service;
 
+import com.schoolscheduler.subjectservice.dto.ChangeFeedDto;
+import com.schoolscheduler.subjectservice.dto.SearchResultDto;
 import com.schoolscheduler.subjectservice.dto.SubjectDto;
+import com.schoolscheduler.subjectservice.dto.SubjectPatchDto;
 import java.util.List;
 
 public interface SubjectService {
@@ -12,5 +15,11 @@ public interface SubjectService {
 
     SubjectDto update(Long id, SubjectDto subjectDto);
 
+    long patch(Long id, SubjectPatchDto patch);
+
     void delete(Long id);
+
+    ChangeFeedDto<SubjectDto> changes(long since);
+
+    SearchResultDto search(String query, int page, int size);
 }
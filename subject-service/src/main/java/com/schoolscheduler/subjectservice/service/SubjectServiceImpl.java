@@ -1,20 +1,51 @@
 package com.schoolscheduler.subjectservice.service;
 
+import com.schoolscheduler.subjectservice.cache.EntityCache;
+import com.schoolscheduler.subjectservice.dto.ChangeFeedDto;
+import com.schoolscheduler.subjectservice.dto.SearchHitDto;
+import com.schoolscheduler.subjectservice.dto.SearchResultDto;
 import com.schoolscheduler.subjectservice.dto.SubjectDto;
+import com.schoolscheduler.subjectservice.dto.SubjectPatchDto;
 import com.schoolscheduler.subjectservice.entity.Subject;
+import com.schoolscheduler.subjectservice.entity.SubjectChange;
+import com.schoolscheduler.subjectservice.event.DomainEventRecorder;
+import com.schoolscheduler.subjectservice.event.DomainEventType;
+import com.schoolscheduler.subjectservice.repository.SubjectChangeRepository;
 import com.schoolscheduler.subjectservice.repository.SubjectRepository;
+import com.schoolscheduler.subjectservice.search.NameIndex;
+import com.schoolscheduler.subjectservice.search.SubjectSearchIndex;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 public class SubjectServiceImpl implements SubjectService {
 
+    private static final int CHANGE_PAGE_SIZE = 500;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
     private final SubjectRepository subjectRepository;
+    private final SubjectChangeRepository changeRepository;
+    private final DomainEventRecorder eventRecorder;
+    private final SubjectSearchIndex searchIndex;
+    private final EntityCache<SubjectDto> cache;
 
-    public SubjectServiceImpl(SubjectRepository subjectRepository) {
+    public SubjectServiceImpl(SubjectRepository subjectRepository, SubjectChangeRepository changeRepository,
+                              DomainEventRecorder eventRecorder, SubjectSearchIndex searchIndex,
+                              EntityCache<SubjectDto> cache) {
         this.subjectRepository = subjectRepository;
+        this.changeRepository = changeRepository;
+        this.eventRecorder = eventRecorder;
+        this.searchIndex = searchIndex;
+        this.cache = cache;
     }
 
     @Override
@@ -24,32 +55,108 @@ public class SubjectServiceImpl implements SubjectService {
 
     @Override
     public SubjectDto findById(Long id) {
-        return subjectRepository.findById(id).map(this::toDto)
-                .orElseThrow(() -> new EntityNotFoundException("Subject not found"));
+        return cache.get(id, key -> subjectRepository.findById(key).map(this::toDto)
+                .orElseThrow(() -> new EntityNotFoundException("Subject not found")));
     }
 
     @Override
+    @Transactional
     public SubjectDto create(SubjectDto subjectDto) {
         Subject subject = toEntity(subjectDto);
         subject.setId(null);
-        return toDto(subjectRepository.save(subject));
+        Subject saved = subjectRepository.save(subject);
+        changeRepository.append(SubjectChange.of(saved.getId(), false));
+        SubjectDto result = toDto(saved);
+        eventRecorder.record(DomainEventType.CREATED, saved.getId(), result);
+        searchIndex.refreshAfterCommit();
+        return result;
     }
 
     @Override
+    @Transactional
     public SubjectDto update(Long id, SubjectDto subjectDto) {
         Subject subject = subjectRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Subject not found"));
+        // The @Version column covers the window from here to the flush; a PUT without a version
+        // applies to whatever was just read.
+        Long expected = subjectDto.version() != null ? subjectDto.version() : subject.getVersion();
+        if (!Objects.equals(expected, subject.getVersion())) {
+            throw staleVersion(id, expected);
+        }
         subject.setName(subjectDto.name());
         subject.setLevel(subjectDto.level());
         subject.setWeeklyBlocks(subjectDto.weeklyBlocks());
         subject.setType(subjectDto.type());
         subject.setColor(subjectDto.color());
-        return toDto(subjectRepository.save(subject));
+        Subject saved;
+        try {
+            saved = subjectRepository.saveAndFlush(subject);
+        } catch (OptimisticLockingFailureException ex) {
+            throw staleVersion(id, expected);
+        }
+        changeRepository.append(SubjectChange.of(saved.getId(), false));
+        SubjectDto result = toDto(saved);
+        eventRecorder.record(DomainEventType.UPDATED, saved.getId(), result);
+        cache.evictAfterCommit(saved.getId());
+        searchIndex.refreshAfterCommit();
+        return result;
     }
 
     @Override
+    @Transactional
+    public long patch(Long id, SubjectPatchDto patch) {
+        int updated = subjectRepository.patch(id, patch.version(),
+                patch.name(), patch.level(), patch.weeklyBlocks(), patch.type(), patch.color());
+        if (updated == 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Subject " + id + " does not exist or is no longer at version " + patch.version());
+        }
+        changeRepository.append(SubjectChange.of(id, false));
+        eventRecorder.record(DomainEventType.PATCHED, id, subjectRepository.findById(id).map(this::toDto).orElseThrow());
+        cache.evictAfterCommit(id);
+        searchIndex.refreshAfterCommit();
+        return patch.version() + 1;
+    }
+
+    @Override
+    @Transactional
     public void delete(Long id) {
         subjectRepository.deleteById(id);
+        changeRepository.append(SubjectChange.of(id, true));
+        eventRecorder.record(DomainEventType.DELETED, id, null);
+        cache.evictAfterCommit(id);
+        searchIndex.refreshAfterCommit();
+    }
+
+    @Override
+    public ChangeFeedDto<SubjectDto> changes(long since) {
+        List<SubjectChange> changes = changeRepository.findTop500ByVersionGreaterThanOrderByVersionAsc(since);
+        if (changes.isEmpty()) {
+            return new ChangeFeedDto<>(since, false, List.of(), List.of());
+        }
+        Map<Long, Boolean> latest = new LinkedHashMap<>();
+        changes.forEach(change -> {
+            latest.remove(change.getSubjectId());
+            latest.put(change.getSubjectId(), change.isDeleted());
+        });
+        List<Long> deletedIds = latest.entrySet().stream().filter(Map.Entry::getValue).map(Map.Entry::getKey).toList();
+        List<Long> upsertIds = latest.entrySet().stream().filter(entry -> !entry.getValue()).map(Map.Entry::getKey).toList();
+        List<SubjectDto> upserts = subjectRepository.findAllById(upsertIds).stream().map(this::toDto).toList();
+        long version = changes.get(changes.size() - 1).getVersion();
+        return new ChangeFeedDto<>(version, changes.size() == CHANGE_PAGE_SIZE, upserts, deletedIds);
+    }
+
+    @Override
+    public SearchResultDto search(String query, int page, int size) {
+        int pageIndex = Math.max(0, page);
+        int pageSize = Math.max(1, Math.min(MAX_SEARCH_PAGE_SIZE, size));
+        NameIndex.Page result = searchIndex.search(query, pageIndex, pageSize);
+        return new SearchResultDto(query, pageIndex, pageSize, result.total(),
+                result.hits().stream().map(hit -> new SearchHitDto(hit.id(), hit.name(), hit.score())).toList());
+    }
+
+    private static ResponseStatusException staleVersion(Long id, Long version) {
+        return new ResponseStatusException(HttpStatus.CONFLICT, "Subject " + id + " is no longer at version " + version);
     }
 
     private SubjectDto toDto(Subject subject) {
@@ -59,7 +166,8 @@ public class SubjectServiceImpl implements SubjectService {
                 subject.getLevel(),
                 subject.getWeeklyBlocks(),
                 subject.getType(),
-                subject.getColor()
+                subject.getColor(),
+                subject.getVersion()
         );
     }
 
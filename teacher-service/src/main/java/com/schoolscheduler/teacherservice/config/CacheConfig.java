@@ -0,0 +1,21 @@
+package com.schoolscheduler.teacherservice.config;
+
+import com.schoolscheduler.teacherservice.cache.EntityCache;
+import com.schoolscheduler.teacherservice.dto.TeacherDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public EntityCache<TeacherDto> teacherCache(MeterRegistry meterRegistry,
+                                                @Value("${scheduler.cache.max-entries:10000}") int maxEntries,
+                                                @Value("${scheduler.cache.ttl:PT10M}") Duration ttl) {
+        return new EntityCache<>("teachers", maxEntries, ttl, meterRegistry);
+    }
+}
@@ -1,6 +1,9 @@
 package com.schoolscheduler.teacherservice.controller;
 
+import com.schoolscheduler.teacherservice.dto.ChangeFeedDto;
+import com.schoolscheduler.teacherservice.dto.SearchResultDto;
 import com.schoolscheduler.teacherservice.dto.TeacherDto;
+import com.schoolscheduler.teacherservice.dto.TeacherPatchDto;
 import com.schoolscheduler.teacherservice.service.TeacherService;
 import com.schoolscheduler.teacherservice.service.model.TeacherSummary;
 import jakarta.validation.Valid;
@@ -8,11 +11,13 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -32,6 +37,18 @@ public class TeacherController {
         return ResponseEntity.ok(teacherService.findAll());
     }
 
+    @GetMapping("/changes")
+    public ResponseEntity<ChangeFeedDto<TeacherDto>> changes(@RequestParam(defaultValue = "0") long since) {
+        return ResponseEntity.ok(teacherService.changes(since));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<SearchResultDto> search(@RequestParam(defaultValue = "") String q,
+                                                  @RequestParam(defaultValue = "0") int page,
+                                                  @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(teacherService.search(q, page, size));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<TeacherDto> findById(@PathVariable Long id) {
         return ResponseEntity.ok(teacherService.findById(id));
@@ -47,6 +64,36 @@ public class TeacherController {
         return ResponseEntity.ok(teacherService.update(id, dto));
     }
 
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patch(@PathVariable Long id, @Valid @RequestBody TeacherPatchDto patch) {
+        long version = teacherService.patch(id, patch);
+        return ResponseEntity.noContent().eTag("\"" + version + "\"").build();
+    }
+
+    @PutMapping("/{id}/subjects/{subjectId}")
+    public ResponseEntity<Void> addSubject(@PathVariable Long id, @PathVariable Long subjectId) {
+        teacherService.addSubject(id, subjectId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{id}/subjects/{subjectId}")
+    public ResponseEntity<Void> removeSubject(@PathVariable Long id, @PathVariable Long subjectId) {
+        teacherService.removeSubject(id, subjectId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PutMapping("/{id}/available-blocks/{block}")
+    public ResponseEntity<Void> addAvailableBlock(@PathVariable Long id, @PathVariable String block) {
+        teacherService.addAvailableBlock(id, block);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{id}/available-blocks/{block}")
+    public ResponseEntity<Void> removeAvailableBlock(@PathVariable Long id, @PathVariable String block) {
+        teacherService.removeAvailableBlock(id, block);
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
         teacherService.delete(id);
@@ -0,0 +1,6 @@
+package com.schoolscheduler.teacherservice.dto;
+
+import java.util.List;
+
+public record SearchResultDto(String query, int page, int size, int total, List<SearchHitDto> hits) {
+}
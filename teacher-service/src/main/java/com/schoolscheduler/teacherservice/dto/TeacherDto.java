@@ -12,6 +12,7 @@ public record TeacherDto(
         @NotNull Teacher.ContractType contractType,
         @NotNull @Min(1) Integer weeklyHours,
         Set<Long> subjectIds,
-        Set<String> availableBlocks
+        Set<String> availableBlocks,
+        Long version
 ) {
 }
@@ -0,0 +1,18 @@
+package com.schoolscheduler.teacherservice.dto;
+
+import com.schoolscheduler.teacherservice.entity.Teacher;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+/**
+ * Partial update of a teacher. Null fields are left unchanged; {@code version} must match the
+ * stored version or the update is rejected.
+ */
+public record TeacherPatchDto(
+        @NotNull(message = "Version is required") Long version,
+        @Pattern(regexp = ".*\\S.*", message = "Name must not be blank") String name,
+        Teacher.ContractType contractType,
+        @Min(1) Integer weeklyHours
+) {
+}
@@ -0,0 +1,8 @@
+package com.schoolscheduler.teacherservice.event;
+
+public enum DomainEventType {
+    CREATED,
+    UPDATED,
+    PATCHED,
+    DELETED
+}
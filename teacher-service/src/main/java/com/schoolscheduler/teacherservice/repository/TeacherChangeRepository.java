@@ -0,0 +1,35 @@
+package com.schoolscheduler.teacherservice.repository;
+
+import com.schoolscheduler.teacherservice.entity.TeacherChange;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface TeacherChangeRepository extends JpaRepository<TeacherChange, Long> {
+    List<TeacherChange> findTop500ByVersionGreaterThanOrderByVersionAsc(Long version);
+
+    Optional<TeacherChange> findTopByOrderByVersionDesc();
+
+    // Held until the writing transaction ends, so log versions are allocated and committed in the same
+    // order. Without it a lower IDENTITY value could commit after a higher one had already been read,
+    // and a reader resuming from the higher one would never see it.
+    @Query(value = "select 1 from pg_advisory_xact_lock(hashtext('teacher_change_log'))", nativeQuery = true)
+    Integer lockLog();
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    default TeacherChange append(TeacherChange change) {
+        lockLog();
+        return save(change);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    default List<TeacherChange> appendAll(List<TeacherChange> changes) {
+        lockLog();
+        return saveAll(changes);
+    }
+}
@@ -2,8 +2,51 @@ package com.schoolscheduler.teacherservice.repository;
 
 import com.schoolscheduler.teacherservice.entity.Teacher;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TeacherRepository extends JpaRepository<Teacher, Long> {
+
+    @Modifying
+    @Query("update Teacher t set t.name = coalesce(:name, t.name), "
+            + "t.contractType = coalesce(:contractType, t.contractType), "
+            + "t.weeklyHours = coalesce(:weeklyHours, t.weeklyHours), "
+            + "t.version = t.version + 1 "
+            + "where t.id = :id and t.version = :version")
+    int patch(@Param("id") Long id,
+              @Param("version") Long version,
+              @Param("name") String name,
+              @Param("contractType") Teacher.ContractType contractType,
+              @Param("weeklyHours") Integer weeklyHours);
+
+    @Modifying
+    @Query("update Teacher t set t.version = t.version + 1 where t.id = :id")
+    int incrementVersion(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "insert into teacher_subjects (teacher_id, subject_id) "
+            + "select t.id, :subjectId from teacher t where t.id = :id and not exists "
+            + "(select 1 from teacher_subjects ts where ts.teacher_id = :id and ts.subject_id = :subjectId)",
+            nativeQuery = true)
+    int addSubject(@Param("id") Long id, @Param("subjectId") Long subjectId);
+
+    @Modifying
+    @Query(value = "delete from teacher_subjects where teacher_id = :id and subject_id = :subjectId",
+            nativeQuery = true)
+    int removeSubject(@Param("id") Long id, @Param("subjectId") Long subjectId);
+
+    @Modifying
+    @Query(value = "insert into teacher_available_blocks (teacher_id, block) "
+            + "select t.id, :block from teacher t where t.id = :id and not exists "
+            + "(select 1 from teacher_available_blocks tb where tb.teacher_id = :id and tb.block = :block)",
+            nativeQuery = true)
+    int addAvailableBlock(@Param("id") Long id, @Param("block") String block);
+
+    @Modifying
+    @Query(value = "delete from teacher_available_blocks where teacher_id = :id and block = :block",
+            nativeQuery = true)
+    int removeAvailableBlock(@Param("id") Long id, @Param("block") String block);
 }
@@ -0,0 +1,94 @@
+package com.schoolscheduler.teacherservice.search;
+
+import com.schoolscheduler.teacherservice.cache.EntityCache;
+import com.schoolscheduler.teacherservice.dto.TeacherDto;
+import com.schoolscheduler.teacherservice.entity.TeacherChange;
+import com.schoolscheduler.teacherservice.repository.TeacherChangeRepository;
+import com.schoolscheduler.teacherservice.repository.TeacherRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the {@link NameIndex} of teachers in step with the table. It is loaded in full on first use
+ * and then follows the teacher change log: right after each local write commits, and on a fixed
+ * delay to pick up writes made by other instances. Each change it reads also evicts the entity
+ * from the read-through cache.
+ */
+@Component
+public class TeacherSearchIndex {
+
+    private static final int CHANGE_PAGE_SIZE = 500;
+
+    private final TeacherRepository teacherRepository;
+    private final TeacherChangeRepository changeRepository;
+    private final EntityCache<TeacherDto> cache;
+    private final NameIndex index = new NameIndex();
+    private volatile long version = -1;
+
+    public TeacherSearchIndex(TeacherRepository teacherRepository, TeacherChangeRepository changeRepository,
+                              EntityCache<TeacherDto> cache) {
+        this.teacherRepository = teacherRepository;
+        this.changeRepository = changeRepository;
+        this.cache = cache;
+    }
+
+    public NameIndex.Page search(String query, int page, int size) {
+        if (version < 0) {
+            refresh();
+        }
+        return index.search(query, page, size);
+    }
+
+    public void refreshAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refresh();
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.search.refresh-interval:PT5S}")
+    public synchronized void refresh() {
+        if (version < 0) {
+            // Read the log position first so writes racing with the full load are replayed afterwards.
+            long latest = changeRepository.findTopByOrderByVersionDesc().map(TeacherChange::getVersion).orElse(0L);
+            Map<Long, String> names = new HashMap<>();
+            teacherRepository.findAll().forEach(teacher -> names.put(teacher.getId(), teacher.getName()));
+            index.replaceAll(names);
+            cache.evictAll();
+            version = latest;
+        }
+        List<TeacherChange> changes;
+        do {
+            changes = changeRepository.findTop500ByVersionGreaterThanOrderByVersionAsc(version);
+            Set<Long> upserts = new HashSet<>();
+            for (TeacherChange change : changes) {
+                // Writes from other instances reach the entity cache through the log as well.
+                cache.evict(change.getTeacherId());
+                if (change.isDeleted()) {
+                    upserts.remove(change.getTeacherId());
+                    index.remove(change.getTeacherId());
+                } else {
+                    upserts.add(change.getTeacherId());
+                }
+            }
+            teacherRepository.findAllById(upserts).forEach(teacher -> index.put(teacher.getId(), teacher.getName()));
+            if (!changes.isEmpty()) {
+                version = changes.get(changes.size() - 1).getVersion();
+            }
+        } while (changes.size() == CHANGE_PAGE_SIZE);
+    }
+}
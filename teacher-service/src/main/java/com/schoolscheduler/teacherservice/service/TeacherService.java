@@ -1,6 +1,9 @@
 package com.schoolscheduler.teacherservice.service;
 
+import com.schoolscheduler.teacherservice.dto.ChangeFeedDto;
+import com.schoolscheduler.teacherservice.dto.SearchResultDto;
 import com.schoolscheduler.teacherservice.dto.TeacherDto;
+import com.schoolscheduler.teacherservice.dto.TeacherPatchDto;
 import com.schoolscheduler.teacherservice.service.model.TeacherSummary;
 import java.util.List;
 
@@ -13,7 +16,21 @@ public interface TeacherService {
 
     TeacherDto update(Long id, TeacherDto dto);
 
+    long patch(Long id, TeacherPatchDto patch);
+
+    void addSubject(Long id, Long subjectId);
+
+    void removeSubject(Long id, Long subjectId);
+
+    void addAvailableBlock(Long id, String block);
+
+    void removeAvailableBlock(Long id, String block);
+
     void delete(Long id);
 
+    ChangeFeedDto<TeacherDto> changes(long since);
+
+    SearchResultDto search(String query, int page, int size);
+
     TeacherSummary summary(Long id);
 }
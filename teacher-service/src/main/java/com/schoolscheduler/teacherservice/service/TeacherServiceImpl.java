@@ -1,21 +1,53 @@
 package com.schoolscheduler.teacherservice.service;
 
+import com.schoolscheduler.teacherservice.cache.EntityCache;
+import com.schoolscheduler.teacherservice.dto.ChangeFeedDto;
+import com.schoolscheduler.teacherservice.dto.SearchHitDto;
+import com.schoolscheduler.teacherservice.dto.SearchResultDto;
 import com.schoolscheduler.teacherservice.dto.TeacherDto;
+import com.schoolscheduler.teacherservice.dto.TeacherPatchDto;
 import com.schoolscheduler.teacherservice.entity.Teacher;
+import com.schoolscheduler.teacherservice.entity.TeacherChange;
+import com.schoolscheduler.teacherservice.event.DomainEventRecorder;
+import com.schoolscheduler.teacherservice.event.DomainEventType;
+import com.schoolscheduler.teacherservice.repository.TeacherChangeRepository;
 import com.schoolscheduler.teacherservice.repository.TeacherRepository;
+import com.schoolscheduler.teacherservice.search.NameIndex;
+import com.schoolscheduler.teacherservice.search.TeacherSearchIndex;
 import com.schoolscheduler.teacherservice.service.model.TeacherSummary;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
 public class TeacherServiceImpl implements TeacherService {
 
+    private static final int CHANGE_PAGE_SIZE = 500;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
     private final TeacherRepository teacherRepository;
+    private final TeacherChangeRepository changeRepository;
+    private final DomainEventRecorder eventRecorder;
+    private final TeacherSearchIndex searchIndex;
+    private final EntityCache<TeacherDto> cache;
 
-    public TeacherServiceImpl(TeacherRepository teacherRepository) {
+    public TeacherServiceImpl(TeacherRepository teacherRepository, TeacherChangeRepository changeRepository,
+                              DomainEventRecorder eventRecorder, TeacherSearchIndex searchIndex,
+                              EntityCache<TeacherDto> cache) {
         this.teacherRepository = teacherRepository;
+        this.changeRepository = changeRepository;
+        this.eventRecorder = eventRecorder;
+        this.searchIndex = searchIndex;
+        this.cache = cache;
     }
 
     @Override
@@ -25,32 +57,134 @@ public class TeacherServiceImpl implements TeacherService {
 
     @Override
     public TeacherDto findById(Long id) {
-        return teacherRepository.findById(id).map(this::toDto)
-                .orElseThrow(() -> new EntityNotFoundException("Teacher not found"));
+        return cache.get(id, key -> teacherRepository.findById(key).map(this::toDto).map(TeacherServiceImpl::detached)
+                .orElseThrow(() -> new EntityNotFoundException("Teacher not found")));
     }
 
     @Override
+    @Transactional
     public TeacherDto create(TeacherDto dto) {
         Teacher teacher = toEntity(dto);
         teacher.setId(null);
-        return toDto(teacherRepository.save(teacher));
+        Teacher saved = teacherRepository.save(teacher);
+        changeRepository.append(TeacherChange.of(saved.getId(), false));
+        TeacherDto result = toDto(saved);
+        eventRecorder.record(DomainEventType.CREATED, saved.getId(), result);
+        searchIndex.refreshAfterCommit();
+        return result;
     }
 
     @Override
+    @Transactional
     public TeacherDto update(Long id, TeacherDto dto) {
         Teacher teacher = teacherRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Teacher not found"));
+        // The @Version column covers the window from here to the flush; a PUT without a version
+        // applies to whatever was just read.
+        Long expected = dto.version() != null ? dto.version() : teacher.getVersion();
+        if (!Objects.equals(expected, teacher.getVersion())) {
+            throw staleVersion(id, expected);
+        }
         teacher.setName(dto.name());
         teacher.setContractType(dto.contractType());
         teacher.setWeeklyHours(dto.weeklyHours());
-        teacher.setSubjectIds(dto.subjectIds());
-        teacher.setAvailableBlocks(dto.availableBlocks());
-        return toDto(teacherRepository.save(teacher));
+        // Mutating the managed sets lets Hibernate write only the rows that changed instead of
+        // deleting and re-inserting the whole collection.
+        replaceContents(teacher.getSubjectIds(), dto.subjectIds());
+        replaceContents(teacher.getAvailableBlocks(), dto.availableBlocks());
+        Teacher saved;
+        try {
+            saved = teacherRepository.saveAndFlush(teacher);
+        } catch (OptimisticLockingFailureException ex) {
+            throw staleVersion(id, expected);
+        }
+        changeRepository.append(TeacherChange.of(saved.getId(), false));
+        TeacherDto result = toDto(saved);
+        eventRecorder.record(DomainEventType.UPDATED, saved.getId(), result);
+        cache.evictAfterCommit(saved.getId());
+        searchIndex.refreshAfterCommit();
+        return result;
     }
 
     @Override
+    @Transactional
+    public long patch(Long id, TeacherPatchDto patch) {
+        int updated = teacherRepository.patch(id, patch.version(),
+                patch.name(), patch.contractType(), patch.weeklyHours());
+        if (updated == 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Teacher " + id + " does not exist or is no longer at version " + patch.version());
+        }
+        changeRepository.append(TeacherChange.of(id, false));
+        eventRecorder.record(DomainEventType.PATCHED, id, teacherRepository.findById(id).map(this::toDto).orElseThrow());
+        cache.evictAfterCommit(id);
+        searchIndex.refreshAfterCommit();
+        return patch.version() + 1;
+    }
+
+    @Override
+    @Transactional
+    public void addSubject(Long id, Long subjectId) {
+        int affected = teacherRepository.addSubject(id, subjectId);
+        recordCollectionChange(id, affected);
+    }
+
+    @Override
+    @Transactional
+    public void removeSubject(Long id, Long subjectId) {
+        int affected = teacherRepository.removeSubject(id, subjectId);
+        recordCollectionChange(id, affected);
+    }
+
+    @Override
+    @Transactional
+    public void addAvailableBlock(Long id, String block) {
+        int affected = teacherRepository.addAvailableBlock(id, block);
+        recordCollectionChange(id, affected);
+    }
+
+    @Override
+    @Transactional
+    public void removeAvailableBlock(Long id, String block) {
+        int affected = teacherRepository.removeAvailableBlock(id, block);
+        recordCollectionChange(id, affected);
+    }
+
+    @Override
+    @Transactional
     public void delete(Long id) {
         teacherRepository.deleteById(id);
+        changeRepository.append(TeacherChange.of(id, true));
+        eventRecorder.record(DomainEventType.DELETED, id, null);
+        cache.evictAfterCommit(id);
+        searchIndex.refreshAfterCommit();
+    }
+
+    @Override
+    public ChangeFeedDto<TeacherDto> changes(long since) {
+        List<TeacherChange> changes = changeRepository.findTop500ByVersionGreaterThanOrderByVersionAsc(since);
+        if (changes.isEmpty()) {
+            return new ChangeFeedDto<>(since, false, List.of(), List.of());
+        }
+        Map<Long, Boolean> latest = new LinkedHashMap<>();
+        changes.forEach(change -> {
+            latest.remove(change.getTeacherId());
+            latest.put(change.getTeacherId(), change.isDeleted());
+        });
+        List<Long> deletedIds = latest.entrySet().stream().filter(Map.Entry::getValue).map(Map.Entry::getKey).toList();
+        List<Long> upsertIds = latest.entrySet().stream().filter(entry -> !entry.getValue()).map(Map.Entry::getKey).toList();
+        List<TeacherDto> upserts = teacherRepository.findAllById(upsertIds).stream().map(this::toDto).toList();
+        long version = changes.get(changes.size() - 1).getVersion();
+        return new ChangeFeedDto<>(version, changes.size() == CHANGE_PAGE_SIZE, upserts, deletedIds);
+    }
+
+    @Override
+    public SearchResultDto search(String query, int page, int size) {
+        int pageIndex = Math.max(0, page);
+        int pageSize = Math.max(1, Math.min(MAX_SEARCH_PAGE_SIZE, size));
+        NameIndex.Page result = searchIndex.search(query, pageIndex, pageSize);
+        return new SearchResultDto(query, pageIndex, pageSize, result.total(),
+                result.hits().stream().map(hit -> new SearchHitDto(hit.id(), hit.name(), hit.score())).toList());
     }
 
     @Override
@@ -62,6 +196,41 @@ public class TeacherServiceImpl implements TeacherService {
         return new TeacherSummary(teacher.getId(), assignedBlocks, availableBlocks);
     }
 
+    private void recordCollectionChange(Long id, int affected) {
+        if (affected == 0) {
+            // Nothing to write: either the teacher is missing or the element was already in the requested state.
+            if (!teacherRepository.existsById(id)) {
+                throw new EntityNotFoundException("Teacher not found");
+            }
+            return;
+        }
+        teacherRepository.incrementVersion(id);
+        changeRepository.append(TeacherChange.of(id, false));
+        eventRecorder.record(DomainEventType.PATCHED, id, teacherRepository.findById(id).map(this::toDto).orElseThrow());
+        cache.evictAfterCommit(id);
+    }
+
+    // Cached copies outlive the session, so they must not hold Hibernate's lazy collections.
+    private static TeacherDto detached(TeacherDto dto) {
+        return new TeacherDto(dto.id(), dto.name(), dto.contractType(), dto.weeklyHours(),
+                dto.subjectIds() != null ? Set.copyOf(dto.subjectIds()) : Set.of(),
+                dto.availableBlocks() != null ? Set.copyOf(dto.availableBlocks()) : Set.of(),
+                dto.version());
+    }
+
+    private static <T> void replaceContents(Set<T> current, Set<T> desired) {
+        if (desired == null || desired.isEmpty()) {
+            current.clear();
+            return;
+        }
+        current.retainAll(desired);
+        current.addAll(desired);
+    }
+
+    private static ResponseStatusException staleVersion(Long id, Long version) {
+        return new ResponseStatusException(HttpStatus.CONFLICT, "Teacher " + id + " is no longer at version " + version);
+    }
+
     private TeacherDto toDto(Teacher teacher) {
         return new TeacherDto(
                 teacher.getId(),
@@ -69,7 +238,8 @@ public class TeacherServiceImpl implements TeacherService {
                 teacher.getContractType(),
                 teacher.getWeeklyHours(),
                 teacher.getSubjectIds(),
-                teacher.getAvailableBlocks()
+                teacher.getAvailableBlocks(),
+                teacher.getVersion()
         );
     }
 